@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / virtual thread 부하 비교
+# - 같은 DB 에 대해 기본 프로필과 virtual 프로필로 서버를 차례로 띄우고 같은 부하를 건다
+# - DB 에 회차가 있어야 함 (없으면 먼저 POST /api/lotto/backfill)
+#
+# 사용: scripts/load-benchmark.sh [concurrency] [duration초]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY="${1:-64}"
+DURATION="${2:-30}"
+WARMUP="${WARMUP:-10}"
+BASE_URL="http://localhost:8081"
+RESULTS="build/results/loadtest"
+
+mkdir -p "$RESULTS"
+
+wait_for_server() {
+    for _ in $(seq 1 120); do
+        if curl -s -o /dev/null "$BASE_URL/v3/api-docs"; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "서버가 뜨지 않았습니다" >&2
+    return 1
+}
+
+run_mode() {
+    local label="$1" profile="$2" jvm_args="$3"
+
+    echo "== $label =="
+    ./gradlew -q bootRun --args="--spring.profiles.active=$profile" -PjvmArgs="$jvm_args" \
+        > "$RESULTS/$label-server.log" 2>&1 &
+    local pid=$!
+
+    wait_for_server
+    ./gradlew -q loadBenchmark -Plabel="$label" -PbaseUrl="$BASE_URL" \
+        -Pconcurrency="$CONCURRENCY" -Pwarmup="$WARMUP" -Pduration="$DURATION"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    # 포트가 닫힐 때까지 대기
+    while curl -s -o /dev/null "$BASE_URL/v3/api-docs"; do sleep 1; done
+}
+
+run_mode platform default ""
+# virtual thread 가 synchronized 안에서 블로킹되면 (pinning) 서버 로그에 스택이 남음
+run_mode virtual virtual "-Djdk.tracePinnedThreads=short"
+
+echo
+./gradlew -q loadBenchmark -Pcompare="$RESULTS/platform.json,$RESULTS/virtual.json"
@@ -0,0 +1,139 @@
+package hhammong.apilotto.benchmark;
+
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.entity.User;
+import hhammong.apilotto.entity.UserPrediction;
+import hhammong.apilotto.repository.LottoHistoryRepository;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.store.DrawNumberIndex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 벤치마크 공통 데이터 (고정 seed 합성 회차, 메모리 저장소/인덱스)
+ */
+final class BenchmarkFixtures {
+
+    static final int DRAW_COUNT = 1200;
+    static final LocalDate FIRST_DRAW_DATE = LocalDate.of(2002, 12, 7);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 호출 기록을 남기지 않는 mock (반복 호출해도 메모리가 늘지 않음)
+     */
+    static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    static List<LottoHistory> syntheticDraws(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<LottoHistory> draws = new ArrayList<>(DRAW_COUNT);
+        for (int drawNo = 1; drawNo <= DRAW_COUNT; drawNo++) {
+            int[] numbers = randomNumbers(random);
+            int bonus;
+            do {
+                bonus = 1 + random.nextInt(45);
+            } while (contains(numbers, bonus));
+
+            draws.add(LottoHistory.builder()
+                    .historyId(UUID.randomUUID())
+                    .drawNo(drawNo)
+                    .drawDate(FIRST_DRAW_DATE.plusWeeks(drawNo - 1))
+                    .number1((short) numbers[0])
+                    .number2((short) numbers[1])
+                    .number3((short) numbers[2])
+                    .number4((short) numbers[3])
+                    .number5((short) numbers[4])
+                    .number6((short) numbers[5])
+                    .bonusNumber((short) bonus)
+                    .numbers(Arrays.stream(numbers).mapToObj(String::valueOf).collect(Collectors.joining(",")))
+                    .prize1st(2_000_000_000L + random.nextInt(1_000_000_000))
+                    .prize2nd(50_000_000L + random.nextInt(10_000_000))
+                    .prize3rd(1_500_000L + random.nextInt(500_000))
+                    .prize4th(50000)
+                    .prize5th(5000)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .deleteYn("N")
+                    .useYn("Y")
+                    .build());
+        }
+        return draws;
+    }
+
+    static DrawHistoryStore store(List<LottoHistory> draws) {
+        LottoHistoryRepository repository = stub(LottoHistoryRepository.class);
+        when(repository.findByDrawNoGreaterThanEqualAndDeleteYnAndUseYnOrderByDrawNoAsc(1, "N", "Y"))
+                .thenReturn(draws);
+
+        DrawHistoryStore store = new DrawHistoryStore(repository);
+        store.load();
+        return store;
+    }
+
+    static DrawNumberIndex index(DrawHistoryStore store) {
+        DrawNumberIndex index = new DrawNumberIndex(store);
+        index.build();
+        return index;
+    }
+
+    static User user() {
+        return User.builder()
+                .userId(UUID.randomUUID())
+                .userUid("bench")
+                .name("bench")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    static UserPrediction prediction(User user, int[] numbers, Integer startDrawId) {
+        return UserPrediction.builder()
+                .predictionId(UUID.randomUUID())
+                .user(user)
+                .predictedNum1((short) numbers[0])
+                .predictedNum2((short) numbers[1])
+                .predictedNum3((short) numbers[2])
+                .predictedNum4((short) numbers[3])
+                .predictedNum5((short) numbers[4])
+                .predictedNum6((short) numbers[5])
+                .startDrawId(startDrawId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 1~45 중 서로 다른 6개 (오름차순)
+    static int[] randomNumbers(SplittableRandom random) {
+        long mask = 0L;
+        while (Long.bitCount(mask) < 6) {
+            mask |= 1L << (1 + random.nextInt(45));
+        }
+        int[] numbers = new int[6];
+        for (int i = 0; i < 6; i++) {
+            numbers[i] = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+        }
+        return numbers;
+    }
+
+    private static boolean contains(int[] numbers, int value) {
+        for (int number : numbers) {
+            if (number == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package hhammong.apilotto.benchmark;
+
+import hhammong.apilotto.dto.UserPredictionCreateRequest;
+import hhammong.apilotto.dto.UserPredictionResponse;
+import hhammong.apilotto.entity.User;
+import hhammong.apilotto.repository.*;
+import hhammong.apilotto.service.UserPredictionService;
+import hhammong.apilotto.store.CombinationOutcomeTable;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.store.DrawNumberIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserPredictionService.createPrediction
+ * 과거 당첨 이력 저장 + 과거 통계 + 추적 통계 3번의 이력 계산 (저장소는 stub)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CreatePredictionBenchmark {
+
+    private static final int REQUESTS = 256;
+
+    private UserPredictionService predictionService;
+    private User user;
+    private UserPredictionCreateRequest[] requests;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        DrawHistoryStore store = BenchmarkFixtures.store(BenchmarkFixtures.syntheticDraws(7));
+        DrawNumberIndex index = BenchmarkFixtures.index(store);
+        user = BenchmarkFixtures.user();
+
+        UserPredictionRepository predictionRepository = BenchmarkFixtures.stub(UserPredictionRepository.class);
+        when(predictionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserRepository userRepository = BenchmarkFixtures.stub(UserRepository.class);
+        when(userRepository.findById(user.getUserId())).thenReturn(Optional.of(user));
+
+        predictionService = new UserPredictionService(
+                predictionRepository,
+                userRepository,
+                BenchmarkFixtures.stub(PredictionsHistoryRepository.class),
+                BenchmarkFixtures.stub(PredictionWinHistoryRepository.class),
+                store,
+                index,
+                // 비활성 상태 (기존 계산 경로 측정)
+                new CombinationOutcomeTable(store, index),
+                BenchmarkFixtures.stub(UserPredictionHistoricalStatsRepository.class),
+                BenchmarkFixtures.stub(UserPredictionTrackingStatsRepository.class),
+                event -> { });
+
+        SplittableRandom random = new SplittableRandom(13);
+        requests = new UserPredictionCreateRequest[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requests[i] = UserPredictionCreateRequest.builder()
+                    .numbers(Arrays.stream(BenchmarkFixtures.randomNumbers(random)).boxed().toList())
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public UserPredictionResponse createPrediction() {
+        cursor = (cursor + 1) % REQUESTS;
+        return predictionService.createPrediction(user.getUserId(), requests[cursor]);
+    }
+}
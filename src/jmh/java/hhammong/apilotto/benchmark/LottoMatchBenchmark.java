@@ -0,0 +1,68 @@
+package hhammong.apilotto.benchmark;
+
+import hhammong.apilotto.util.LottoMatchUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LottoMatchUtils.calculateMatch (리스트 API / 비트마스크 API)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LottoMatchBenchmark {
+
+    private static final int TICKETS = 1024;
+
+    private List<Integer>[] myNumbers;
+    private List<Integer>[] winningNumbers;
+    private long[] myMasks;
+    private long[] winningMasks;
+    private int[] bonusNumbers;
+    private int cursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        myNumbers = new List[TICKETS];
+        winningNumbers = new List[TICKETS];
+        myMasks = new long[TICKETS];
+        winningMasks = new long[TICKETS];
+        bonusNumbers = new int[TICKETS];
+
+        for (int i = 0; i < TICKETS; i++) {
+            myNumbers[i] = Arrays.stream(BenchmarkFixtures.randomNumbers(random)).boxed().toList();
+            winningNumbers[i] = Arrays.stream(BenchmarkFixtures.randomNumbers(random)).boxed().toList();
+            myMasks[i] = LottoMatchUtils.toMask(myNumbers[i]);
+            winningMasks[i] = LottoMatchUtils.toMask(winningNumbers[i]);
+            bonusNumbers[i] = 1 + random.nextInt(45);
+        }
+    }
+
+    @Benchmark
+    public LottoMatchUtils.MatchResult calculateMatchList() {
+        int i = next();
+        return LottoMatchUtils.calculateMatch(myNumbers[i], winningNumbers[i], bonusNumbers[i]);
+    }
+
+    @Benchmark
+    public LottoMatchUtils.MatchResult calculateMatchMask() {
+        int i = next();
+        return LottoMatchUtils.calculateMatch(myMasks[i], winningMasks[i], bonusNumbers[i]);
+    }
+
+    @Benchmark
+    public int rankOfMask() {
+        int i = next();
+        return LottoMatchUtils.rankOf(myMasks[i], winningMasks[i], bonusNumbers[i]);
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (TICKETS - 1);
+    }
+}
@@ -0,0 +1,80 @@
+package hhammong.apilotto.benchmark;
+
+import hhammong.apilotto.dto.PredictionHistoryResponse;
+import hhammong.apilotto.entity.User;
+import hhammong.apilotto.entity.UserPrediction;
+import hhammong.apilotto.repository.LottoHistoryRepository;
+import hhammong.apilotto.repository.PredictionWinHistoryRepository;
+import hhammong.apilotto.repository.PredictionsHistoryRepository;
+import hhammong.apilotto.repository.UserPredictionRepository;
+import hhammong.apilotto.service.UserPredictionCheckService;
+import hhammong.apilotto.store.DrawCache;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.store.DrawNumberIndex;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * UserPredictionCheckService.getPredictionHistory
+ * - fullHistory : 1,200회차 전체에 대한 calculateDrawMatch + buildHistoryResponse
+ * - winningHistory : 번호별 회차 인덱스로 당첨 회차만 (저장소는 stub)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PredictionHistoryBenchmark {
+
+    private static final int PREDICTIONS = 256;
+
+    private UserPredictionCheckService checkService;
+    private UUID userId;
+    private UUID[] predictionIds;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        DrawHistoryStore store = BenchmarkFixtures.store(BenchmarkFixtures.syntheticDraws(7));
+        DrawNumberIndex index = BenchmarkFixtures.index(store);
+
+        User user = BenchmarkFixtures.user();
+        userId = user.getUserId();
+
+        UserPredictionRepository predictionRepository = BenchmarkFixtures.stub(UserPredictionRepository.class);
+        SplittableRandom random = new SplittableRandom(11);
+        predictionIds = new UUID[PREDICTIONS];
+        for (int i = 0; i < PREDICTIONS; i++) {
+            UserPrediction prediction = BenchmarkFixtures.prediction(user, BenchmarkFixtures.randomNumbers(random), 1);
+            predictionIds[i] = prediction.getPredictionId();
+            when(predictionRepository.findByPredictionIdAndUser_UserIdAndDeleteYn(prediction.getPredictionId(), userId, "N"))
+                    .thenReturn(Optional.of(prediction));
+        }
+
+        checkService = new UserPredictionCheckService(
+                predictionRepository,
+                BenchmarkFixtures.stub(PredictionsHistoryRepository.class),
+                BenchmarkFixtures.stub(PredictionWinHistoryRepository.class),
+                store,
+                index,
+                new DrawCache(BenchmarkFixtures.stub(LottoHistoryRepository.class)),
+                JsonMapper.builder().build());
+    }
+
+    @Benchmark
+    public PredictionHistoryResponse fullHistory() {
+        cursor = (cursor + 1) % PREDICTIONS;
+        return checkService.getPredictionHistory(userId, predictionIds[cursor]);
+    }
+
+    @Benchmark
+    public PredictionHistoryResponse winningHistory() {
+        cursor = (cursor + 1) % PREDICTIONS;
+        return checkService.getPredictionHistory(userId, predictionIds[cursor], true);
+    }
+}
@@ -0,0 +1,54 @@
+package hhammong.apilotto.benchmark;
+
+import hhammong.apilotto.dto.LottoHistoryResponse;
+import hhammong.apilotto.dto.UserPredictionResponse;
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.entity.User;
+import hhammong.apilotto.entity.UserPrediction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity → 응답 DTO 변환 (LottoHistoryResponse.from / UserPredictionResponse.from)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    private static final int ENTITIES = 1024;
+
+    private LottoHistory[] draws;
+    private UserPrediction[] predictions;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<LottoHistory> synthetic = BenchmarkFixtures.syntheticDraws(7);
+        draws = synthetic.subList(0, ENTITIES).toArray(new LottoHistory[0]);
+
+        User user = BenchmarkFixtures.user();
+        SplittableRandom random = new SplittableRandom(17);
+        predictions = new UserPrediction[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) {
+            predictions[i] = BenchmarkFixtures.prediction(user, BenchmarkFixtures.randomNumbers(random), 1);
+        }
+    }
+
+    @Benchmark
+    public LottoHistoryResponse lottoHistoryResponse() {
+        return LottoHistoryResponse.from(draws[next()]);
+    }
+
+    @Benchmark
+    public UserPredictionResponse userPredictionResponse() {
+        return UserPredictionResponse.from(predictions[next()]);
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (ENTITIES - 1);
+    }
+}
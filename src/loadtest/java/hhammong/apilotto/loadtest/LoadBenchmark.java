@@ -0,0 +1,353 @@
+package hhammong.apilotto.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 벤치마크 (플랫폼 스레드 vs virtual thread 비교용)
+ * 실행 중인 서버에 고정 동시성(closed loop)으로 요청을 보내고 시나리오별 p50 / p90 / p99 / 처리량을 기록한다.
+ *
+ * 1. 같은 seed 로 사용자 1명 + 예측번호 N개 생성 (두 실행이 같은 데이터 모양을 가짐)
+ * 2. 시나리오마다 warmup 후 측정
+ *    - check-latest : GET /api/users/{userId}/predictions/check-latest
+ *    - history      : GET /api/users/{userId}/predictions/{predictionId}/history (예측번호 순환)
+ * 3. build/results/loadtest/{label}.json 저장
+ *
+ * 비교: compare=platform.json,virtual.json
+ * 실행 방법은 scripts/load-benchmark.sh 참고
+ */
+public class LoadBenchmark {
+
+    private static final Pattern USER_ID = Pattern.compile("\"userId\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final Pattern PREDICTION_ID = Pattern.compile("\"predictionId\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final Pattern SCENARIO = Pattern.compile(
+            "\\{\"name\":\"([^\"]+)\",\"requests\":(\\d+),\"errors\":(\\d+),\"throughput\":([\\d.]+)," +
+            "\"p50\":([\\d.]+),\"p90\":([\\d.]+),\"p99\":([\\d.]+),\"max\":([\\d.]+)}");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+
+        if (options.containsKey("compare")) {
+            String[] files = options.get("compare").split(",");
+            compare(Path.of(files[0].trim()), Path.of(files[1].trim()));
+            return;
+        }
+
+        String label = options.getOrDefault("label", "platform");
+        LoadBenchmark benchmark = new LoadBenchmark(
+                options.getOrDefault("baseUrl", "http://localhost:8081"),
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))));
+
+        int predictions = Integer.parseInt(options.getOrDefault("predictions", "20"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Path outDir = Path.of(options.getOrDefault("out", "build/results/loadtest"));
+
+        List<Result> results = benchmark.run(label, predictions, seed);
+
+        Files.createDirectories(outDir);
+        Path out = outDir.resolve(label + ".json");
+        Files.writeString(out, benchmark.toJson(label, results));
+
+        System.out.println();
+        System.out.printf(Locale.ROOT, "[%s] concurrency=%d, duration=%ds%n", label, benchmark.concurrency, benchmark.duration.toSeconds());
+        printHeader();
+        for (Result result : results) {
+            printRow(label, result);
+        }
+        System.out.println("saved: " + out);
+    }
+
+    LoadBenchmark(String baseUrl, int concurrency, Duration warmup, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        // 부하 발생기 쪽이 병목이 되지 않도록 클라이언트는 항상 virtual thread
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    List<Result> run(String label, int predictions, long seed) throws Exception {
+        HttpResponse<String> latest = get("/api/lotto/latest");
+        if (latest.statusCode() != 200) {
+            throw new IllegalStateException("최신 회차가 없습니다. 먼저 회차를 저장하세요 (POST /api/lotto/backfill): " + latest.statusCode());
+        }
+
+        String userId = signup(label);
+        List<String> predictionIds = createPredictions(userId, predictions, seed);
+        System.out.printf(Locale.ROOT, "사용자 %s, 예측번호 %d개 생성%n", userId, predictionIds.size());
+
+        List<Result> results = new ArrayList<>();
+        results.add(measure("check-latest", i -> "/api/users/" + userId + "/predictions/check-latest"));
+        results.add(measure("history", i -> "/api/users/" + userId + "/predictions/"
+                + predictionIds.get((int) (i % predictionIds.size())) + "/history"));
+        return results;
+    }
+
+    private String signup(String label) throws IOException, InterruptedException {
+        String uid = "load-" + label + "-" + System.currentTimeMillis();
+        String body = "{\"userUid\":\"" + uid + "\",\"password\":\"load-test-1234\",\"name\":\"load\",\"nickname\":\"" + uid + "\"}";
+        HttpResponse<String> response = post("/api/auth/signup", body);
+        Matcher matcher = USER_ID.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("회원가입 실패: " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private List<String> createPredictions(String userId, int count, long seed) throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"numbers\":").append(Arrays.toString(randomNumbers(random))).append('}');
+        }
+        body.append(']');
+
+        HttpResponse<String> response = post("/api/users/" + userId + "/predictions/bulk", body.toString());
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = PREDICTION_ID.matcher(response.body());
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("예측번호 생성 실패: " + response.statusCode() + " " + response.body());
+        }
+        return ids;
+    }
+
+    private static int[] randomNumbers(SplittableRandom random) {
+        long mask = 0L;
+        while (Long.bitCount(mask) < 6) {
+            mask |= 1L << random.nextInt(1, 46);
+        }
+        int[] numbers = new int[6];
+        for (int i = 0; i < 6; i++) {
+            numbers[i] = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+        }
+        return numbers;
+    }
+
+    @FunctionalInterface
+    private interface PathSupplier {
+        String path(long sequence);
+    }
+
+    /**
+     * warmup 후 duration 동안 concurrency 개 worker 가 응답을 받자마자 다음 요청을 보냄
+     */
+    private Result measure(String name, PathSupplier paths) throws Exception {
+        System.out.printf(Locale.ROOT, "%s: warmup %ds%n", name, warmup.toSeconds());
+        drive(paths, warmup);
+        System.out.printf(Locale.ROOT, "%s: measure %ds%n", name, duration.toSeconds());
+
+        long startedAt = System.nanoTime();
+        List<Samples> samples = drive(paths, duration);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        int total = 0;
+        long errors = 0;
+        for (Samples s : samples) {
+            total += s.size;
+            errors += s.errors;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Samples s : samples) {
+            System.arraycopy(s.values, 0, latencies, offset, s.size);
+            offset += s.size;
+        }
+        Arrays.sort(latencies);
+
+        return new Result(name, total, errors, total / elapsedSeconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1e6);
+    }
+
+    private List<Samples> drive(PathSupplier paths, Duration length) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        List<Future<Samples>> futures = new ArrayList<>(concurrency);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                long start = w;
+                futures.add(workers.submit(() -> {
+                    Samples samples = new Samples();
+                    long sequence = start;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + paths.path(sequence)))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            samples.add(System.nanoTime() - sentAt, response.statusCode() / 100 != 2);
+                        } catch (IOException e) {
+                            samples.add(System.nanoTime() - sentAt, true);
+                        }
+                        sequence += concurrency;
+                    }
+                    return samples;
+                }));
+            }
+        }
+
+        List<Samples> results = new ArrayList<>(concurrency);
+        for (Future<Samples> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String json) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String toJson(String label, List<Result> results) {
+        StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT, "{\"label\":\"%s\",\"concurrency\":%d,\"durationSeconds\":%d,\"scenarios\":[",
+                label, concurrency, duration.toSeconds()));
+        for (int i = 0; i < results.size(); i++) {
+            Result r = results.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT,
+                    "{\"name\":\"%s\",\"requests\":%d,\"errors\":%d,\"throughput\":%.2f," +
+                    "\"p50\":%.3f,\"p90\":%.3f,\"p99\":%.3f,\"max\":%.3f}",
+                    r.name, r.requests, r.errors, r.throughput, r.p50, r.p90, r.p99, r.max));
+        }
+        return json.append("]}\n").toString();
+    }
+
+    /**
+     * 두 결과 파일을 시나리오별로 나란히 출력 (ratio = b / a)
+     */
+    private static void compare(Path a, Path b) throws IOException {
+        Map<String, Result> left = readResults(a);
+        Map<String, Result> right = readResults(b);
+        String leftLabel = a.getFileName().toString().replace(".json", "");
+        String rightLabel = b.getFileName().toString().replace(".json", "");
+
+        printHeader();
+        for (Map.Entry<String, Result> entry : left.entrySet()) {
+            Result l = entry.getValue();
+            Result r = right.get(entry.getKey());
+            printRow(leftLabel, l);
+            if (r == null) {
+                continue;
+            }
+            printRow(rightLabel, r);
+            System.out.printf(Locale.ROOT, "%-14s %-10s %10s %8s %12.2fx %9.2fx %9.2fx %9.2fx %9s%n",
+                    "", "ratio", "", "", r.throughput / l.throughput, r.p50 / l.p50, r.p90 / l.p90, r.p99 / l.p99, "");
+        }
+    }
+
+    private static Map<String, Result> readResults(Path path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        Matcher matcher = SCENARIO.matcher(Files.readString(path));
+        while (matcher.find()) {
+            results.put(matcher.group(1), new Result(matcher.group(1),
+                    Integer.parseInt(matcher.group(2)), Long.parseLong(matcher.group(3)),
+                    Double.parseDouble(matcher.group(4)), Double.parseDouble(matcher.group(5)),
+                    Double.parseDouble(matcher.group(6)), Double.parseDouble(matcher.group(7)),
+                    Double.parseDouble(matcher.group(8))));
+        }
+        return results;
+    }
+
+    private static void printHeader() {
+        System.out.printf(Locale.ROOT, "%-14s %-10s %10s %8s %13s %10s %10s %10s %9s%n",
+                "scenario", "mode", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+    }
+
+    private static void printRow(String label, Result r) {
+        System.out.printf(Locale.ROOT, "%-14s %-10s %10d %8d %13.1f %10.2f %10.2f %10.2f %9.1f%n",
+                r.name, label, r.requests, r.errors, r.throughput, r.p50, r.p90, r.p99, r.max);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) {
+                options.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Result(String name, int requests, long errors, double throughput,
+                          double p50, double p90, double p99, double max) {
+    }
+
+    /**
+     * worker 하나의 지연 시간 기록 (boxing 없이 long 배열)
+     */
+    private static final class Samples {
+        long[] values = new long[4096];
+        int size;
+        long errors;
+
+        void add(long latencyNanos, boolean error) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+    }
+}
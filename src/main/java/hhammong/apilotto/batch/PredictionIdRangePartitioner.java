@@ -0,0 +1,45 @@
+package hhammong.apilotto.batch;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * PREDICTION_ID 범위 분할
+ * - UUID 상위 16비트(0000~ffff)를 gridSize 개 구간으로 균등 분할
+ * - UUID 는 랜덤 생성이므로 구간별 건수가 고르게 나뉜다
+ */
+public class PredictionIdRangePartitioner implements Partitioner {
+
+    private static final int PREFIX_SPACE = 0x10000;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitions = Math.max(1, Math.min(gridSize, PREFIX_SPACE));
+        Map<String, ExecutionContext> result = new HashMap<>(partitions);
+
+        for (int i = 0; i < partitions; i++) {
+            int from = (int) ((long) PREFIX_SPACE * i / partitions);
+            int to = (int) ((long) PREFIX_SPACE * (i + 1) / partitions) - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString("minId", lowerBound(from).toString());
+            context.putString("maxId", upperBound(to).toString());
+            result.put("partition" + i, context);
+        }
+        return result;
+    }
+
+    // prefix0000-0000-0000-0000-000000000000
+    static UUID lowerBound(int prefix) {
+        return new UUID((long) prefix << 48, 0L);
+    }
+
+    // prefixffff-ffff-ffff-ffff-ffffffffffff
+    static UUID upperBound(int prefix) {
+        return new UUID(((long) prefix << 48) | 0xFFFFFFFFFFFFL, -1L);
+    }
+}
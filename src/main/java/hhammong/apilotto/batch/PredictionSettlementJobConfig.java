@@ -0,0 +1,169 @@
+package hhammong.apilotto.batch;
+
+import hhammong.apilotto.service.TrackingStatsSettlementService;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.util.LottoMatchUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.batch.infrastructure.item.database.JdbcPagingItemReader;
+import org.springframework.batch.infrastructure.item.database.Order;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주간 정산 배치
+ * 새 회차가 저장되면 활성 예측번호 전체를 해당 회차와 비교해서
+ * 당첨된 것만 PREDICTIONS_HISTORY / 당첨 비트맵에 저장하고 추적 통계를 갱신한다.
+ *
+ * settlementJob
+ *  1. settlementPartitionStep : PREDICTION_ID 범위별로 나눠서 병렬 정산 (chunk)
+ *  2. settlementTrackingStatsStep : 추적 통계에 해당 회차 반영 (등수별 일괄 UPDATE, 회차 단위 멱등)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PredictionSettlementJobConfig {
+
+    public static final String JOB_NAME = "predictionSettlementJob";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final TrackingStatsSettlementService trackingStatsSettlementService;
+    private final DrawHistoryStore drawHistoryStore;
+    private final PredictionSettlementWriter settlementWriter;
+
+    @Value("${lotto.settlement.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${lotto.settlement.grid-size:0}")
+    private int gridSize;
+
+    // virtual 프로필에서는 파티션 worker 도 virtual thread (동시 실행 수는 그대로 grid-size)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public Job predictionSettlementJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(settlementPartitionStep())
+                .next(settlementTrackingStatsStep())
+                .build();
+    }
+
+    @Bean
+    public Step settlementPartitionStep() {
+        int partitions = gridSize > 0 ? gridSize : Runtime.getRuntime().availableProcessors();
+
+        return new StepBuilder("settlementPartitionStep", jobRepository)
+                .partitioner("settlementWorkerStep", new PredictionIdRangePartitioner())
+                .step(settlementWorkerStep())
+                .gridSize(partitions)
+                .taskExecutor(settlementTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step settlementWorkerStep() {
+        return new StepBuilder("settlementWorkerStep", jobRepository)
+                .<SettlementTicket, SettlementWin>chunk(chunkSize, transactionManager)
+                .reader(settlementTicketReader(null, null, null))
+                .processor(settlementProcessor(null))
+                .writer(settlementWriter)
+                .build();
+    }
+
+    @Bean
+    public Step settlementTrackingStatsStep() {
+        return new StepBuilder("settlementTrackingStatsStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Long drawNo = (Long) chunkContext.getStepContext().getJobParameters().get("drawNo");
+                    trackingStatsSettlementService.settle(drawNo.intValue());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public TaskExecutor settlementTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("settlement-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setConcurrencyLimit(gridSize > 0 ? gridSize : Runtime.getRuntime().availableProcessors());
+        return executor;
+    }
+
+    /**
+     * 파티션 범위 내 활성 예측번호 (PREDICTION_ID 순 페이징, 재시작 시 마지막 페이지부터)
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<SettlementTicket> settlementTicketReader(
+            @Value("#{jobParameters['drawNo']}") Long drawNo,
+            @Value("#{stepExecutionContext['minId']}") String minId,
+            @Value("#{stepExecutionContext['maxId']}") String maxId) {
+
+        return new JdbcPagingItemReaderBuilder<SettlementTicket>()
+                .name("settlementTicketReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT PREDICTION_ID, USER_ID, NUMBERS_MASK")
+                .fromClause("FROM USER_PREDICTIONS")
+                .whereClause("WHERE DELETE_YN = 'N' AND USE_YN = 'Y' AND START_DRAW_ID <= :drawNo " +
+                        "AND PREDICTION_ID BETWEEN :minId AND :maxId")
+                .parameterValues(Map.of(
+                        "drawNo", drawNo.intValue(),
+                        "minId", UUID.fromString(minId),
+                        "maxId", UUID.fromString(maxId)))
+                .sortKeys(Map.of("PREDICTION_ID", Order.ASCENDING))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> new SettlementTicket(
+                        rs.getObject("PREDICTION_ID", UUID.class),
+                        rs.getObject("USER_ID", UUID.class),
+                        rs.getLong("NUMBERS_MASK")))
+                .build();
+    }
+
+    /**
+     * 비트마스크 매칭 (꽝이면 null 반환 → writer 로 넘어가지 않음)
+     */
+    @Bean
+    @StepScope
+    public ItemProcessor<SettlementTicket, SettlementWin> settlementProcessor(
+            @Value("#{jobParameters['drawNo']}") Long drawNo) {
+
+        DrawHistoryStore.Snapshot draws = drawHistoryStore.snapshot();
+        int index = draws.indexOf(drawNo.intValue());
+        if (index < 0) {
+            throw new IllegalStateException("정산할 회차를 찾을 수 없습니다: " + drawNo);
+        }
+
+        long winningMask = draws.mask(index);
+        int bonusNumber = draws.bonus(index);
+        UUID historyId = draws.historyId(index);
+
+        return ticket -> {
+            int matchCount = LottoMatchUtils.matchCount(ticket.getNumbersMask(), winningMask);
+            boolean hasBonus = LottoMatchUtils.hasBonus(ticket.getNumbersMask(), bonusNumber);
+            int rank = LottoMatchUtils.rankOf(matchCount, hasBonus);
+            if (rank == 0) {
+                return null;
+            }
+            return new SettlementWin(ticket.getPredictionId(), ticket.getUserId(), historyId,
+                    drawNo.intValue(), rank, hasBonus, matchCount, draws.prize(index, rank));
+        };
+    }
+}
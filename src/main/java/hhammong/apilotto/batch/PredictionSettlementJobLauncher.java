@@ -0,0 +1,46 @@
+package hhammong.apilotto.batch;
+
+import hhammong.apilotto.event.DrawSettledEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정산 배치 실행
+ * - JobInstance 는 drawNo 로 구분되므로 같은 회차는 한 번만 완료된다
+ * - 실패한 실행은 같은 drawNo 로 다시 실행하면 마지막 커밋 지점부터 재시작
+ * - 완료되면 DrawSettledEvent 발행 (통계 캐시 제거)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PredictionSettlementJobLauncher {
+
+    private final JobOperator jobOperator;
+    private final Job predictionSettlementJob;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void launch(int drawNo) {
+        JobParameters parameters = new JobParametersBuilder()
+                .addLong("drawNo", (long) drawNo)
+                .toJobParameters();
+
+        try {
+            JobExecution execution = jobOperator.start(predictionSettlementJob, parameters);
+            log.info("{}회차 정산 배치 종료: {}", drawNo, execution.getStatus());
+
+            if (execution.getStatus() == BatchStatus.COMPLETED) {
+                eventPublisher.publishEvent(new DrawSettledEvent(drawNo));
+            }
+        } catch (Exception e) {
+            log.error("{}회차 정산 배치 실행 중 오류 발생", drawNo, e);
+        }
+    }
+}
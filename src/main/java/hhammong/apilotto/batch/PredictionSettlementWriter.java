@@ -0,0 +1,115 @@
+package hhammong.apilotto.batch;
+
+import hhammong.apilotto.util.WinBitmap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 당첨 이력 일괄 저장
+ * - PREDICTIONS_HISTORY 는 (PREDICTION_ID, DRAW_NO) unique 이므로
+ *   재시작으로 같은 chunk 를 다시 써도 ON CONFLICT DO NOTHING 으로 무시된다
+ * - PREDICTION_WIN_HISTORY 비트맵에도 회차를 이어 붙임 (이미 있는 회차면 그대로라 재실행해도 안전)
+ * - 추적 통계는 저장된 이력을 기준으로 다음 step 에서 한 번에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class PredictionSettlementWriter implements ItemWriter<SettlementWin> {
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO \"PREDICTIONS_HISTORY\" (\"PREDICTIONS_HISTORY_ID\", \"PREDICTION_ID\", \"HISTORY_ID\", " +
+            "\"USER_ID\", \"DRAW_NO\", \"RANK\", \"HAS_BONUS\", \"MATCHED_COUNT\", \"PRIZE_AMOUNT\", " +
+            "\"START_DRAW_SORTATION\", \"CREATED_AT\") " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'tracking', now()) " +
+            "ON CONFLICT (\"PREDICTION_ID\", \"DRAW_NO\") DO NOTHING";
+
+    private static final String SELECT_WINS_SQL =
+            "SELECT PREDICTION_ID, WIN_DRAWS, WIN_RANKS FROM PREDICTION_WIN_HISTORY " +
+            "WHERE PREDICTION_ID IN (:predictionIds) FOR UPDATE";
+
+    private static final String UPDATE_WINS_SQL =
+            "UPDATE PREDICTION_WIN_HISTORY SET WIN_DRAWS = ?, WIN_RANKS = ?, WIN_COUNT = ?, UPDATED_AT = now() " +
+            "WHERE PREDICTION_ID = ?";
+
+    // 비트맵 이관 전 예측번호: 이번 회차만 담고 COMPLETE_YN = 'N' (이관할 때 이전 당첨과 합쳐짐)
+    private static final String INSERT_WINS_SQL =
+            "INSERT INTO PREDICTION_WIN_HISTORY (PREDICTION_ID, USER_ID, WIN_DRAWS, WIN_RANKS, WIN_COUNT, " +
+            "COMPLETE_YN, UPDATED_AT) VALUES (?, ?, ?, ?, ?, 'N', now()) " +
+            "ON CONFLICT (PREDICTION_ID) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public void write(Chunk<? extends SettlementWin> chunk) {
+        List<? extends SettlementWin> wins = chunk.getItems();
+        if (wins.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> historyRows = new ArrayList<>(wins.size());
+        for (SettlementWin win : wins) {
+            historyRows.add(new Object[]{
+                    UUID.randomUUID(),
+                    win.getPredictionId(),
+                    win.getHistoryId(),
+                    win.getUserId(),
+                    win.getDrawNo(),
+                    win.getRank(),
+                    win.isHasBonus(),
+                    (short) win.getMatchCount(),
+                    (int) win.getPrizeAmount()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+
+        appendWinBitmaps(wins);
+    }
+
+    /**
+     * 예측번호별 당첨 비트맵에 이번 회차 추가 (파티션마다 PREDICTION_ID 범위가 달라서 행 잠금이 겹치지 않음)
+     */
+    private void appendWinBitmaps(List<? extends SettlementWin> wins) {
+        Map<UUID, WinBitmap> current = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_WINS_SQL,
+                Map.of("predictionIds", wins.stream().map(SettlementWin::getPredictionId).toList()),
+                rs -> {
+                    current.put(rs.getObject("PREDICTION_ID", UUID.class),
+                            WinBitmap.of(rs.getBytes("WIN_DRAWS"), rs.getBytes("WIN_RANKS")));
+                });
+
+        List<Object[]> updateRows = new ArrayList<>();
+        List<Object[]> insertRows = new ArrayList<>();
+        for (SettlementWin win : wins) {
+            WinBitmap bitmap = current.get(win.getPredictionId());
+            if (bitmap == null) {
+                WinBitmap added = WinBitmap.empty().with(win.getDrawNo(), win.getRank());
+                insertRows.add(new Object[]{
+                        win.getPredictionId(), win.getUserId(), added.drawBytes(), added.rankBytes(), added.size()});
+                continue;
+            }
+
+            WinBitmap added = bitmap.with(win.getDrawNo(), win.getRank());
+            if (added != bitmap) {
+                updateRows.add(new Object[]{
+                        added.drawBytes(), added.rankBytes(), added.size(), win.getPredictionId()});
+            }
+        }
+
+        if (!updateRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_WINS_SQL, updateRows);
+        }
+        if (!insertRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_WINS_SQL, insertRows);
+        }
+    }
+}
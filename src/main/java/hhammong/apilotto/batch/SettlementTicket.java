@@ -0,0 +1,17 @@
+package hhammong.apilotto.batch;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 정산 대상 예측번호 (USER_PREDICTIONS 한 행)
+ */
+@Getter
+@AllArgsConstructor
+public class SettlementTicket {
+
+    private UUID predictionId;
+    private UUID userId;
+    private long numbersMask;  // 예측번호 비트마스크
+}
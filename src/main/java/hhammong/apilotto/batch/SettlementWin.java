@@ -0,0 +1,22 @@
+package hhammong.apilotto.batch;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 정산 결과 (당첨된 예측번호만)
+ */
+@Getter
+@AllArgsConstructor
+public class SettlementWin {
+
+    private UUID predictionId;
+    private UUID userId;
+    private UUID historyId;
+    private int drawNo;
+    private int rank;
+    private boolean hasBonus;
+    private int matchCount;
+    private long prizeAmount;
+}
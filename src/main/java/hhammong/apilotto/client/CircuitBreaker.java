@@ -0,0 +1,88 @@
+package hhammong.apilotto.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 서킷 브레이커 (프로세스 내부 상태만 사용)
+ * - CLOSED : 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN : openDuration 동안 호출하지 않고 바로 거절
+ * - HALF_OPEN : 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ * 호출 자체가 네트워크 대기이므로 상태 변경은 synchronized 로 충분하다.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold 는 1 이상이어야 합니다: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부 (true 면 반드시 onSuccess / onFailure / release 중 하나를 호출)
+     */
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+            }
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+            return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * 결과를 판정할 수 없는 경우 (호출한 쪽이 중단됨) 시험 호출 슬롯만 반납
+     */
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    public State getState() {
+        return state;
+    }
+}
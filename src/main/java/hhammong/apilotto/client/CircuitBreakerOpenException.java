@@ -0,0 +1,13 @@
+package hhammong.apilotto.client;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 서킷 브레이커가 열려 있어서 외부 API 를 호출하지 않고 거절한 경우
+ */
+public class CircuitBreakerOpenException extends RestClientException {
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
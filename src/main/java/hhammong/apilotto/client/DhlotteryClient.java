@@ -0,0 +1,161 @@
+package hhammong.apilotto.client;
+
+import hhammong.apilotto.dto.DhlotteryApiResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동행복권 당첨번호 API 호출
+ * - base-url 을 바꾸면 로컬 stub 서버로 대체 가능 (테스트)
+ * - 회차 지정 조회는 draw-param 쿼리 파라미터로 회차 번호를 넘김
+ * - 호출마다 call-timeout deadline (virtual thread 에서 실행, 초과하면 interrupt 로 소켓을 닫음)
+ * - 5xx / 429 / 타임아웃이 연속되면 서킷을 열고 open-duration 동안 호출하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DhlotteryClient {
+
+    static final String LOTTO_INFO_PATH = "/lt645/selectPstLt645Info.do";
+
+    private final RestTemplate dhlotteryRestTemplate;
+
+    @Value("${lotto.dhlottery.base-url:https://www.dhlottery.co.kr}")
+    private String baseUrl;
+
+    @Value("${lotto.dhlottery.draw-param:srchLtEpsd}")
+    private String drawParam;
+
+    @Value("${lotto.dhlottery.call-timeout:10s}")
+    private Duration callTimeout;
+
+    @Value("${lotto.dhlottery.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${lotto.dhlottery.circuit.open-duration:30s}")
+    private Duration openDuration;
+
+    private final UpstreamMetrics metrics = new UpstreamMetrics();
+    private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+    }
+
+    @PreDestroy
+    public void close() {
+        callExecutor.shutdownNow();
+    }
+
+    /**
+     * 최신 회차 조회
+     */
+    public Optional<DhlotteryApiResponse.LottoInfo> fetchLatest() {
+        String url = UriComponentsBuilder.fromUriString(baseUrl)
+                .path(LOTTO_INFO_PATH)
+                .toUriString();
+        return firstOf(call(url));
+    }
+
+    /**
+     * 특정 회차 조회
+     * 응답 회차가 요청한 회차와 다르면 (없는 회차라 최신 회차가 내려온 경우 등) 비어있는 값 반환
+     */
+    public Optional<DhlotteryApiResponse.LottoInfo> fetchDraw(int drawNo) {
+        String url = UriComponentsBuilder.fromUriString(baseUrl)
+                .path(LOTTO_INFO_PATH)
+                .queryParam(drawParam, drawNo)
+                .toUriString();
+
+        Optional<DhlotteryApiResponse.LottoInfo> info = firstOf(call(url));
+        if (info.isPresent() && !Integer.valueOf(drawNo).equals(info.get().getLtEpsd())) {
+            log.warn("{}회차 요청에 {}회차 응답을 받았습니다", drawNo, info.get().getLtEpsd());
+            return Optional.empty();
+        }
+        return info;
+    }
+
+    /**
+     * 호출 지연 / 오류 카운터
+     */
+    public UpstreamMetrics.Snapshot getMetrics() {
+        return metrics.snapshot(circuitBreaker.getState());
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private DhlotteryApiResponse call(String url) {
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordRejected();
+            throw new CircuitBreakerOpenException("동행복권 API 서킷이 열려 있어서 호출하지 않습니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        Future<DhlotteryApiResponse> future =
+                callExecutor.submit(() -> dhlotteryRestTemplate.getForObject(url, DhlotteryApiResponse.class));
+        try {
+            DhlotteryApiResponse response = future.get(callTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            metrics.recordSuccess(System.nanoTime() - startedAt);
+            return response;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            metrics.recordTimeout(System.nanoTime() - startedAt);
+            throw new ResourceAccessException("동행복권 API 호출 시간 초과 (" + callTimeout.toMillis() + "ms): " + url);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HttpClientErrorException clientError
+                    && !clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                // 서버는 정상 응답했으므로 서킷 실패로 세지 않음
+                circuitBreaker.onSuccess();
+                metrics.recordClientError(System.nanoTime() - startedAt);
+                throw clientError;
+            }
+            circuitBreaker.onFailure();
+            metrics.recordFailure(System.nanoTime() - startedAt);
+            if (cause instanceof RestClientException restClientException) {
+                throw restClientException;
+            }
+            throw new RestClientException("동행복권 API 호출 중 오류 발생: " + url, cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.release();
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("동행복권 API 호출이 중단되었습니다: " + url);
+        }
+    }
+
+    private Optional<DhlotteryApiResponse.LottoInfo> firstOf(DhlotteryApiResponse response) {
+        if (response == null || response.getData() == null
+                || response.getData().getList() == null
+                || response.getData().getList().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(response.getData().getList().get(0));
+    }
+}
@@ -0,0 +1,86 @@
+package hhammong.apilotto.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호출 지연 / 오류 카운터 (LongAdder, 여러 스레드에서 경합 없이 누적)
+ */
+public class UpstreamMetrics {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 누적값 스냅샷
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long calls;
+        private final long successes;
+        private final long failures;
+        private final long timeouts;
+        private final long clientErrors;
+        private final long rejected;
+        private final double avgLatencyMillis;
+        private final double maxLatencyMillis;
+        private final CircuitBreaker.State circuitState;
+    }
+
+    void recordSuccess(long latencyNanos) {
+        record(latencyNanos);
+        successes.increment();
+    }
+
+    // 5xx, 429, 연결 / 응답 타임아웃 (서킷 실패로 집계)
+    void recordFailure(long latencyNanos) {
+        record(latencyNanos);
+        failures.increment();
+    }
+
+    // 호출 전체 deadline 초과 (실패에도 포함)
+    void recordTimeout(long latencyNanos) {
+        recordFailure(latencyNanos);
+        timeouts.increment();
+    }
+
+    // 429 를 제외한 4xx (요청 문제라 서킷 실패로 세지 않음)
+    void recordClientError(long latencyNanos) {
+        record(latencyNanos);
+        clientErrors.increment();
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    public Snapshot snapshot(CircuitBreaker.State circuitState) {
+        long callCount = calls.sum();
+        double avg = callCount == 0 ? 0.0 : toMillis(totalLatencyNanos.sum()) / callCount;
+        return new Snapshot(callCount, successes.sum(), failures.sum(), timeouts.sum(), clientErrors.sum(),
+                rejected.sum(), avg, toMillis(maxLatencyNanos.get()), circuitState);
+    }
+
+    private void record(long latencyNanos) {
+        calls.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulate(latencyNanos);
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
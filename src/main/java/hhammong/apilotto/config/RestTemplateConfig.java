@@ -1,14 +1,62 @@
 package hhammong.apilotto.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * 동행복권 API 전용 HTTP 클라이언트
+ * - 커넥션 풀 (백필 동시 호출 수보다 크게)
+ * - connect / 응답 대기 / 풀 대기 타임아웃 (호출 전체 deadline 은 DhlotteryClient 에서)
+ * - 재시도는 호출하는 쪽 (백필 백오프) 에서만 하므로 HttpClient 자동 재시도는 끔
+ */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CloseableHttpClient dhlotteryHttpClient(
+            @Value("${lotto.dhlottery.max-connections:20}") int maxConnections,
+            @Value("${lotto.dhlottery.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${lotto.dhlottery.response-timeout:5s}") Duration responseTimeout,
+            @Value("${lotto.dhlottery.pool-timeout:1s}") Duration poolTimeout) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(responseTimeout))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate dhlotteryRestTemplate(CloseableHttpClient dhlotteryHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(dhlotteryHttpClient));
     }
-}
\ No newline at end of file
+}
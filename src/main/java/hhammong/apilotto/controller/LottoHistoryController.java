@@ -1,18 +1,23 @@
 package hhammong.apilotto.controller;
 
 import hhammong.apilotto.dto.*;
+import hhammong.apilotto.service.LottoHistoryBackfillService;
 import hhammong.apilotto.service.LottoHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.UUID;
 
 @RestController
@@ -21,26 +26,56 @@ import java.util.UUID;
 public class LottoHistoryController {
 
     private final LottoHistoryService lottoHistoryService;
+    private final LottoHistoryBackfillService backfillService;
+
+    // 최신 회차: 짧게 캐시 (새 회차 저장 시 ETag 가 바뀜)
+    @Value("${lotto.http-cache.latest-max-age:30s}")
+    private Duration latestMaxAge;
+
+    // 지난 회차: 발표 후 바뀌지 않으므로 immutable
+    @Value("${lotto.http-cache.draw-max-age:365d}")
+    private Duration drawMaxAge;
 
     /**
      * 최신 회차 당첨번호 조회
      * GET /api/lotto/latest
+     * If-None-Match / If-Modified-Since 가 일치하면 회차 캐시만 보고 304
      */
     @GetMapping("/latest")
-    public ResponseEntity<ApiResponse<LottoHistoryResponse>> getLatestDraw() {
-        LottoHistoryResponse response = lottoHistoryService.getLatestDraw();
-        return ResponseEntity.ok(ApiResponse.success(response, "최신 회차 조회 성공"));
+    public ResponseEntity<ApiResponse<LottoHistoryResponse>> getLatestDraw(WebRequest webRequest) {
+        CacheControl cacheControl = CacheControl.maxAge(latestMaxAge).cachePublic().mustRevalidate();
+
+        DrawVersion version = lottoHistoryService.getLatestDrawVersion();
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
+        LottoHistoryResponse response = lottoHistoryService.getDrawByNumber(version.getDrawNo());
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success(response, "최신 회차 조회 성공"));
     }
 
     /**
      * 특정 회차 당첨번호 조회
      * GET /api/lotto/draws/{drawNo}
+     * 발표된 회차는 바뀌지 않으므로 Cache-Control: immutable
      */
     @GetMapping("/draws/{drawNo}")
     public ResponseEntity<ApiResponse<LottoHistoryResponse>> getDrawByNumber(
-            @PathVariable Integer drawNo) {
+            @PathVariable Integer drawNo,
+            WebRequest webRequest) {
+        CacheControl cacheControl = CacheControl.maxAge(drawMaxAge).cachePublic().immutable();
+
+        DrawVersion version = lottoHistoryService.getDrawVersion(drawNo);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
         LottoHistoryResponse response = lottoHistoryService.getDrawByNumber(drawNo);
-        return ResponseEntity.ok(ApiResponse.success(response, drawNo + "회차 조회 성공"));
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success(response, drawNo + "회차 조회 성공"));
     }
 
     /**
@@ -58,6 +93,22 @@ public class LottoHistoryController {
         return ResponseEntity.ok(ApiResponse.success(response, "회차 목록 조회 성공"));
     }
 
+    /**
+     * 전체 회차 목록 조회 (커서, 무한 스크롤용)
+     * GET /api/lotto/draws/scroll?cursor=...&size=20
+     * 다음 페이지는 응답의 nextCursor 를 그대로 넘김 (COUNT 조회 없음)
+     */
+    @GetMapping("/draws/scroll")
+    @Operation(summary = "회차 목록 커서 조회", description = "최신 회차부터 size 개 조회, nextCursor 로 이어서 조회.")
+    public ResponseEntity<ApiResponse<CursorPageResponse<LottoHistoryResponse>>> getDrawsBefore(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPageResponse<LottoHistoryResponse> response = lottoHistoryService.getDrawsBefore(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "회차 목록 조회 성공"));
+    }
+
     @PostMapping("/lotto-history")
     @Operation(summary = "최신 로또 당첨 번호 등록", description = "매주 업데이트 되는 로또 당첨 번호.")
     public LottoHistoryResponse createLottoHistory(
@@ -65,4 +116,15 @@ public class LottoHistoryController {
     ) {
         return lottoHistoryService.createLottoHistory(request);
     }
-}
\ No newline at end of file
+
+    /**
+     * 누락 회차 백필 (API 최신 회차까지 비어있는 회차를 조회해서 저장)
+     * POST /api/lotto/backfill
+     */
+    @PostMapping("/backfill")
+    @Operation(summary = "누락 회차 백필", description = "저장되지 않은 과거 회차를 동행복권 API 에서 가져와 일괄 저장.")
+    public ResponseEntity<ApiResponse<LottoBackfillResponse>> backfill() {
+        LottoBackfillResponse response = backfillService.backfillMissing();
+        return ResponseEntity.ok(ApiResponse.success(response, "누락 회차 백필 완료"));
+    }
+}
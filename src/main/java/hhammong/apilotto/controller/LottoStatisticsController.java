@@ -0,0 +1,129 @@
+package hhammong.apilotto.controller;
+
+import hhammong.apilotto.dto.ApiResponse;
+import hhammong.apilotto.dto.CoOccurrenceResponse;
+import hhammong.apilotto.dto.NumberComboCountResponse;
+import hhammong.apilotto.service.LottoStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+/**
+ * 번호별 출현 통계 API
+ * 본문은 새 회차 반영 시 미리 직렬화되어 있으므로 요청마다 집계 / 직렬화하지 않음
+ */
+@Tag(name = "번호 통계", description = "번호별 출현 빈도, 마지막 출현 회차, 핫/콜드 번호, 번호 조합 동시 출현 API")
+@RestController
+@RequestMapping("/api/lotto/stats")
+@RequiredArgsConstructor
+public class LottoStatisticsController {
+
+    private final LottoStatisticsService statisticsService;
+
+    // 새 회차가 반영되면 ETag 가 바뀌므로 최신 회차와 같은 주기로 재검증
+    @Value("${lotto.http-cache.latest-max-age:30s}")
+    private Duration statsMaxAge;
+
+    /**
+     * 번호별 통계 (1 ~ 45번 빈도 / 보너스 빈도 / 마지막 출현 / 최근 N회차 빈도)
+     * GET /api/lotto/stats/numbers
+     */
+    @GetMapping(value = "/numbers", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "번호별 출현 통계", description = "번호별 출현 횟수, 보너스 출현 횟수, 마지막 출현 회차, 최근 N회차 출현 횟수.")
+    public ResponseEntity<byte[]> getNumberStats(WebRequest webRequest) {
+        return toResponse(statisticsService.getNumberStats(), webRequest);
+    }
+
+    /**
+     * 최근 window 회차 핫 / 콜드 번호
+     * GET /api/lotto/stats/hot-cold?window=10
+     */
+    @GetMapping(value = "/hot-cold", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "핫/콜드 번호", description = "최근 window 회차 동안 많이 나온 번호와 적게 나온 번호.")
+    public ResponseEntity<byte[]> getHotCold(
+            @RequestParam(defaultValue = "10") int window,
+            WebRequest webRequest) {
+        return toResponse(statisticsService.getHotCold(window), webRequest);
+    }
+
+    /**
+     * 함께 많이 나온 번호 쌍 상위 k개
+     * GET /api/lotto/stats/pairs?k=10
+     */
+    @GetMapping("/pairs")
+    @Operation(summary = "번호 쌍 상위 조회", description = "같은 회차에 함께 많이 나온 번호 2개 조합 상위 k개.")
+    public ResponseEntity<ApiResponse<CoOccurrenceResponse>> getTopPairs(
+            @RequestParam(defaultValue = "10") int k) {
+
+        CoOccurrenceResponse response = statisticsService.getTopPairs(k);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "번호 쌍 조회 성공"));
+    }
+
+    /**
+     * 번호 2개가 함께 나온 횟수
+     * GET /api/lotto/stats/pairs/{a}/{b}
+     */
+    @GetMapping("/pairs/{a}/{b}")
+    @Operation(summary = "번호 쌍 출현 횟수", description = "번호 2개가 같은 회차에 함께 나온 횟수.")
+    public ResponseEntity<ApiResponse<NumberComboCountResponse>> getPairCount(
+            @PathVariable int a,
+            @PathVariable int b) {
+
+        NumberComboCountResponse response = statisticsService.getPairCount(a, b);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "번호 쌍 조회 성공"));
+    }
+
+    /**
+     * 함께 많이 나온 번호 삼중 상위 k개
+     * GET /api/lotto/stats/triples?k=10
+     */
+    @GetMapping("/triples")
+    @Operation(summary = "번호 삼중 상위 조회", description = "같은 회차에 함께 많이 나온 번호 3개 조합 상위 k개.")
+    public ResponseEntity<ApiResponse<CoOccurrenceResponse>> getTopTriples(
+            @RequestParam(defaultValue = "10") int k) {
+
+        CoOccurrenceResponse response = statisticsService.getTopTriples(k);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "번호 삼중 조회 성공"));
+    }
+
+    /**
+     * 번호 3개가 함께 나온 횟수
+     * GET /api/lotto/stats/triples/{a}/{b}/{c}
+     */
+    @GetMapping("/triples/{a}/{b}/{c}")
+    @Operation(summary = "번호 삼중 출현 횟수", description = "번호 3개가 같은 회차에 함께 나온 횟수.")
+    public ResponseEntity<ApiResponse<NumberComboCountResponse>> getTripleCount(
+            @PathVariable int a,
+            @PathVariable int b,
+            @PathVariable int c) {
+
+        NumberComboCountResponse response = statisticsService.getTripleCount(a, b, c);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "번호 삼중 조회 성공"));
+    }
+
+    private ResponseEntity<byte[]> toResponse(LottoStatisticsService.Body body, WebRequest webRequest) {
+        CacheControl cacheControl = CacheControl.maxAge(statsMaxAge).cachePublic().mustRevalidate();
+
+        if (webRequest.checkNotModified(body.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.getJson());
+    }
+}
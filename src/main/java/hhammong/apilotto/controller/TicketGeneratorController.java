@@ -0,0 +1,37 @@
+package hhammong.apilotto.controller;
+
+import hhammong.apilotto.dto.TicketGenerateRequest;
+import hhammong.apilotto.service.TicketGeneratorService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "번호 생성", description = "조건부 랜덤 번호 생성 API")
+@RestController
+@RequestMapping("/api/lotto/generate")
+@RequiredArgsConstructor
+public class TicketGeneratorController {
+
+    private final TicketGeneratorService generatorService;
+
+    /**
+     * 조건부 랜덤 번호 생성 (NDJSON, 한 줄에 {"numbers":[...]} 하나 + 마지막 줄 요약)
+     * POST /api/lotto/generate
+     * 각 줄은 번호 등록 요청(UserPredictionCreateRequest)과 같은 모양, 바로 등록하려면 /api/users/{userId}/predictions/generate 사용
+     */
+    @PostMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "랜덤 번호 생성", description = "포함/제외 번호, 합 범위, 홀짝, 연속 번호, 과거 당첨 제외 조건으로 최대 100,000개 생성.")
+    public ResponseEntity<StreamingResponseBody> generate(
+            @RequestBody TicketGenerateRequest request) {
+
+        StreamingResponseBody body = generatorService.stream(request);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,36 @@
+package hhammong.apilotto.controller;
+
+import hhammong.apilotto.dto.ApiResponse;
+import hhammong.apilotto.dto.UserDashboardResponse;
+import hhammong.apilotto.service.UserDashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@Tag(name = "사용자 대시보드", description = "내 번호와 번호별 통계를 한 번에 조회하는 API")
+@RestController
+@RequestMapping("/api/users/{userId}")
+@RequiredArgsConstructor
+public class UserDashboardController {
+
+    private final UserDashboardService dashboardService;
+
+    /**
+     * 대시보드 조회 (활성 번호 + 과거 / 추적 통계 + 사용자 합계)
+     * GET /api/users/{userId}/dashboard
+     */
+    @GetMapping("/dashboard")
+    @Operation(summary = "대시보드 조회", description = "활성 번호 전체와 번호별 과거 / 추적 통계, 사용자 합계를 조회한다.")
+    public ResponseEntity<ApiResponse<UserDashboardResponse>> getDashboard(
+            @PathVariable UUID userId) {
+
+        UserDashboardResponse response = dashboardService.getDashboard(userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "대시보드 조회 성공"));
+    }
+}
@@ -1,20 +1,30 @@
 package hhammong.apilotto.controller;
 
 import hhammong.apilotto.dto.*;
+import hhammong.apilotto.service.TicketGeneratorService;
 import hhammong.apilotto.service.UserPredictionCheckService;
 import hhammong.apilotto.service.UserPredictionService;
+import hhammong.apilotto.util.PredictionCsvParser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,6 +36,10 @@ public class UserPredictionController {
 
     private final UserPredictionService predictionService;
     private final UserPredictionCheckService checkService;
+    private final TicketGeneratorService generatorService;
+
+    @Value("${lotto.bulk-import.max-rows:5000}")
+    private int bulkImportMaxRows;
 
     /**
      * 번호 등록
@@ -46,6 +60,66 @@ public class UserPredictionController {
                 .body(ApiResponse.success(response, "번호가 성공적으로 등록되었습니다"));
     }
 
+    /**
+     * 번호 일괄 등록 (JSON 배열)
+     * POST /api/users/{userId}/predictions/bulk
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "예측 번호 일괄 등록", description = "번호 조합 여러 개를 한 번에 등록한다. 행별 결과를 반환한다.")
+    public ResponseEntity<ApiResponse<BulkPredictionImportResponse>> createPredictionsBulk(
+            @PathVariable UUID userId,
+            @RequestBody List<UserPredictionCreateRequest> requests) {
+
+        BulkPredictionImportResponse response = predictionService.createPredictions(userId, requests);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "번호 일괄 등록 완료: " + response.getCreatedCount() + "건 등록"));
+    }
+
+    /**
+     * 번호 일괄 등록 (CSV 업로드, 한 줄에 n1,n2,n3,n4,n5,n6[,메모])
+     * POST /api/users/{userId}/predictions/bulk
+     */
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @Operation(summary = "예측 번호 일괄 등록 (CSV)", description = "CSV 본문을 한 줄씩 읽어서 등록한다.")
+    public ResponseEntity<ApiResponse<BulkPredictionImportResponse>> createPredictionsBulkCsv(
+            @PathVariable UUID userId,
+            InputStream body) throws IOException {
+
+        List<UserPredictionCreateRequest> requests;
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            requests = PredictionCsvParser.parse(reader, bulkImportMaxRows);
+        }
+        BulkPredictionImportResponse response = predictionService.createPredictions(userId, requests);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "번호 일괄 등록 완료: " + response.getCreatedCount() + "건 등록"));
+    }
+
+    /**
+     * 조건부 랜덤 번호 생성 후 바로 등록
+     * POST /api/users/{userId}/predictions/generate
+     * 생성한 조합은 일괄 등록과 같은 검증 / 중복 처리를 거침 (이미 등록된 조합은 DUPLICATE)
+     */
+    @PostMapping("/generate")
+    @Operation(summary = "랜덤 번호 생성 후 등록", description = "조건에 맞는 번호를 생성해서 일괄 등록한다. 행별 결과를 반환한다.")
+    public ResponseEntity<ApiResponse<BulkPredictionImportResponse>> generateAndCreatePredictions(
+            @PathVariable UUID userId,
+            @RequestBody TicketGenerateRequest request) {
+
+        if (request.getCount() != null && request.getCount() > bulkImportMaxRows) {
+            throw new IllegalArgumentException("한 번에 최대 " + bulkImportMaxRows + "개까지 등록할 수 있습니다");
+        }
+        List<UserPredictionCreateRequest> requests = generatorService.generateRequests(request);
+        BulkPredictionImportResponse response = predictionService.createPredictions(userId, requests);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "번호 생성 후 등록 완료: " + response.getCreatedCount() + "건 등록"));
+    }
+
     /**
      * 내 번호 목록 조회
      * GET /api/users/{userId}/predictions
@@ -78,6 +152,24 @@ public class UserPredictionController {
                 ApiResponse.success(response, "번호 목록 조회 성공"));
     }
 
+    /**
+     * 내 번호 목록 조회 (커서, 무한 스크롤용)
+     * GET /api/users/{userId}/predictions/scroll?cursor=...&size=10
+     * 다음 페이지는 응답의 nextCursor 를 그대로 넘김 (COUNT 조회 없음)
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "예측 번호 커서 조회", description = "등록일시 최신순으로 size 개 조회, nextCursor 로 이어서 조회.")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserPredictionResponse>>> getMyPredictionsScroll(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<UserPredictionResponse> response = predictionService.getMyPredictions(userId, cursor, size);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "번호 목록 조회 성공"));
+    }
+
     /**
      * 번호 상세 조회
      * GET /api/users/{userId}/predictions/{predictionId}
@@ -138,4 +230,21 @@ public class UserPredictionController {
                 ApiResponse.success(response, "번호 이력 조회 완료"));
     }
 
+    /**
+     * 특정 번호의 전체 당첨 이력 스트리밍 (NDJSON, 한 줄에 한 회차 + 마지막 줄 통계)
+     * GET /api/users/{userId}/predictions/{predictionId}/history/stream
+     */
+    @GetMapping(value = "/{predictionId}/history/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "번호 이력 스트리밍", description = "당첨 회차를 한 줄씩 NDJSON 으로 내려주고 마지막 줄에 통계를 내려준다.")
+    public ResponseEntity<StreamingResponseBody> streamPredictionHistory(
+            @PathVariable UUID userId,
+            @PathVariable UUID predictionId) {
+
+        StreamingResponseBody body = checkService.streamPredictionHistory(userId, predictionId);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPredictionImportResponse {
+
+    // 요약
+    private Integer totalRows;          // 요청 행 수
+    private Integer createdCount;       // 신규 등록
+    private Integer duplicateCount;     // 이미 등록된 조합 / 요청 내 중복
+    private Integer invalidCount;       // 형식 오류
+
+    // 행별 결과 (요청 순서)
+    private List<BulkPredictionRowResult> results;
+
+    public static BulkPredictionImportResponse from(List<BulkPredictionRowResult> results) {
+        int created = 0, duplicate = 0, invalid = 0;
+        for (BulkPredictionRowResult result : results) {
+            switch (result.getStatus()) {
+                case BulkPredictionRowResult.CREATED -> created++;
+                case BulkPredictionRowResult.DUPLICATE -> duplicate++;
+                default -> invalid++;
+            }
+        }
+
+        return BulkPredictionImportResponse.builder()
+                .totalRows(results.size())
+                .createdCount(created)
+                .duplicateCount(duplicate)
+                .invalidCount(invalid)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPredictionRowResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";
+
+    private Integer row;                // 요청 내 순번 (1부터)
+    private String status;              // CREATED, DUPLICATE, INVALID
+    private UUID predictionId;          // 등록된 경우만
+    private List<Integer> numbers;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 함께 많이 나온 번호 조합 상위 k개 (횟수 내림차순)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoOccurrenceResponse {
+
+    private Integer latestDrawNo;    // 반영된 최신 회차
+    private Integer totalDraws;      // 반영된 회차 수
+    private Integer comboSize;       // 2 = 쌍, 3 = 삼중
+    private List<NumberComboCountResponse> combos;
+}
@@ -0,0 +1,50 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (COUNT 조회 없음)
+ * nextCursor 를 그대로 다음 요청에 넘기면 이어서 조회, 마지막 페이지면 null
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;     // 현재 페이지 목록
+    private Integer size;        // 요청한 페이지 크기
+    private Boolean hasNext;     // 다음 페이지 존재 여부
+    private String nextCursor;   // 다음 페이지 커서
+
+    /**
+     * 페이지 크기 검증 (1 ~ MAX_SIZE)
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size 는 1~" + MAX_SIZE + " 사이여야 합니다");
+        }
+    }
+
+    /**
+     * size + 1 개 조회한 결과로 응답 생성 (넘친 1개로 다음 페이지 여부 판단)
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(size - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package hhammong.apilotto.dto;
+
+import hhammong.apilotto.entity.LottoHistory;
+import lombok.*;
+
+import java.time.ZoneId;
+
+/**
+ * 회차 HTTP 캐시 검증값 (ETag / Last-Modified)
+ * ETag 는 회차 번호 + 수정 시각이므로 같은 회차는 수정되지 않는 한 값이 같다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class DrawVersion {
+
+    private final Integer drawNo;
+    private final String etag;          // strong ETag (따옴표 포함)
+    private final long lastModified;    // epoch millis, 없으면 -1
+
+    public static DrawVersion from(LottoHistory draw) {
+        long updatedAt = draw.getUpdatedAt() != null
+                ? draw.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1L;
+
+        return DrawVersion.builder()
+                .drawNo(draw.getDrawNo())
+                .etag("\"" + draw.getDrawNo() + "-" + Long.toHexString(Math.max(updatedAt, 0L)) + "\"")
+                .lastModified(updatedAt)
+                .build();
+    }
+}
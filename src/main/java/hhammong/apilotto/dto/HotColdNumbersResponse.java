@@ -0,0 +1,23 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 최근 N회차 핫 / 콜드 번호
+ * - hot : 구간 내 출현 횟수가 많은 순 (같으면 번호 순)
+ * - cold : 구간 내 출현 횟수가 적은 순 (같으면 오래 안 나온 순)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotColdNumbersResponse {
+
+    private Integer latestDrawNo;
+    private Integer window;              // 구간 회차 수
+    private List<NumberStatsResponse> hot;
+    private List<NumberStatsResponse> cold;
+}
@@ -0,0 +1,30 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 누락 회차 백필 결과
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LottoBackfillResponse {
+
+    private Integer latestDrawNo;        // API 기준 최신 회차
+
+    private Integer missingCount;        // 누락된 회차 수
+
+    private List<Integer> savedDrawNos;  // 새로 저장된 회차
+
+    private List<Integer> failedDrawNos; // 재시도 후에도 조회 실패한 회차
+
+    private List<Integer> notFoundDrawNos; // API 에 없는 회차
+
+    private List<Integer> notAttemptedDrawNos; // 서킷 브레이커가 열려서 조회하지 못한 회차 (다음 실행에서 다시 시도)
+
+    private Long elapsedMillis;
+}
@@ -3,6 +3,7 @@ package hhammong.apilotto.dto;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 @Getter
 @Setter
@@ -39,4 +40,42 @@ public class LottoHistoryCreateRequest {
     private Integer prize5th;
 
     // CREATED_AT, UPDATED_AT, DELETE_YN, USE_YN은 서버에서 자동 설정
-}
\ No newline at end of file
+
+    private static final DateTimeFormatter API_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * 동행복권 API 응답을 CreateRequest로 변환
+     */
+    public static LottoHistoryCreateRequest from(DhlotteryApiResponse.LottoInfo lottoInfo) {
+        // 날짜 변환 (yyyyMMdd -> LocalDate)
+        LocalDate drawDate = LocalDate.parse(lottoInfo.getLtRflYmd(), API_DATE_FORMATTER);
+
+        // numbers 문자열 생성 (선택사항)
+        String numbers = String.format("%d,%d,%d,%d,%d,%d",
+                lottoInfo.getTm1WnNo(),
+                lottoInfo.getTm2WnNo(),
+                lottoInfo.getTm3WnNo(),
+                lottoInfo.getTm4WnNo(),
+                lottoInfo.getTm5WnNo(),
+                lottoInfo.getTm6WnNo()
+        );
+
+        return LottoHistoryCreateRequest.builder()
+                .drawNo(lottoInfo.getLtEpsd())
+                .drawDate(drawDate)
+                .number1(lottoInfo.getTm1WnNo())
+                .number2(lottoInfo.getTm2WnNo())
+                .number3(lottoInfo.getTm3WnNo())
+                .number4(lottoInfo.getTm4WnNo())
+                .number5(lottoInfo.getTm5WnNo())
+                .number6(lottoInfo.getTm6WnNo())
+                .bonusNumber(lottoInfo.getBnsWnNo())
+                .numbers(numbers)
+                .prize1st(lottoInfo.getRnk1WnAmt())
+                .prize2nd(lottoInfo.getRnk2WnAmt())
+                .prize3rd(lottoInfo.getRnk3WnAmt())
+                .prize4th(lottoInfo.getRnk4WnAmt())
+                .prize5th(lottoInfo.getRnk5WnAmt())
+                .build();
+    }
+}
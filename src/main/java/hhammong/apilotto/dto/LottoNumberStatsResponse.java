@@ -0,0 +1,21 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 번호별 출현 통계 (1 ~ 45번)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LottoNumberStatsResponse {
+
+    private Integer latestDrawNo;        // 반영된 최신 회차
+    private Integer totalDraws;          // 반영된 회차 수
+    private List<Integer> windows;       // 최근 N회차 구간 목록
+    private List<NumberStatsResponse> numbers;
+}
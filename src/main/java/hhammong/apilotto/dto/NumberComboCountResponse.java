@@ -0,0 +1,19 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 번호 2개 / 3개 조합이 같은 회차 당첨번호에 함께 나온 횟수
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NumberComboCountResponse {
+
+    private List<Integer> numbers;   // 오름차순
+    private Integer count;
+}
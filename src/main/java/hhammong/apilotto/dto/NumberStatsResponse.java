@@ -0,0 +1,23 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * 번호 1개의 출현 통계
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NumberStatsResponse {
+
+    private Integer number;
+    private Integer frequency;                    // 당첨번호 출현 횟수 (전체 회차)
+    private Integer bonusFrequency;               // 보너스번호 출현 횟수
+    private Integer lastSeenDrawNo;               // 마지막 출현 회차 (없으면 0)
+    private Integer drawsSinceLastSeen;           // 마지막 출현 후 지난 회차 수 (최신 회차에 나왔으면 0)
+    private Map<Integer, Integer> windowFrequency;  // 최근 N회차 출현 횟수 (key = N)
+}
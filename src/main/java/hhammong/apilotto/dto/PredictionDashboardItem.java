@@ -0,0 +1,79 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 대시보드 예측번호 1건 (번호 + 과거 통계 + 추적 통계)
+ * UserPredictionRepository.findDashboardItems 의 SELECT new 로 바로 만들어짐 (통계 테이블 LEFT JOIN, 쿼리 1번)
+ * 생성자 인자 순서는 쿼리의 SELECT new 와 같아야 함, 통계 행이 없으면 해당 통계는 null
+ */
+@Getter
+@NoArgsConstructor
+public class PredictionDashboardItem {
+
+    private UserPredictionResponse prediction;
+    private PredictionStatsResponse historicalStats;
+    private PredictionStatsResponse trackingStats;
+
+    public PredictionDashboardItem(
+            UUID predictionId, UUID userId,
+            Short predictedNum1, Short predictedNum2, Short predictedNum3,
+            Short predictedNum4, Short predictedNum5, Short predictedNum6,
+            String memo, Integer targetDrawNo, Integer startDrawId,
+            LocalDateTime createdAt, LocalDateTime updatedAt,
+            // 과거 통계 (USER_PREDICTION_HISTORICAL_STATS)
+            UUID historicalId, Integer historicalTotalDraws, Integer historicalWinningDraws,
+            Long historicalTotalPrizeAmount, Integer historicalBestRank, Integer historicalBestDrawNo,
+            Double historicalReturnRate,
+            Integer historicalRank1Count, Integer historicalRank2Count, Integer historicalRank3Count,
+            Integer historicalRank4Count, Integer historicalRank5Count,
+            // 추적 통계 (USER_PREDICTION_TRACKING_STATS)
+            UUID trackingId, Integer trackingTotalDraws, Integer trackingWinningDraws,
+            Long trackingTotalPrizeAmount, Integer trackingBestRank, Integer trackingBestDrawNo,
+            Double trackingReturnRate,
+            Integer trackingRank1Count, Integer trackingRank2Count, Integer trackingRank3Count,
+            Integer trackingRank4Count, Integer trackingRank5Count,
+            Integer trackingLastSettledDrawNo) {
+
+        this.prediction = UserPredictionResponse.from(new UserPredictionSummary(
+                predictionId, userId,
+                predictedNum1, predictedNum2, predictedNum3, predictedNum4, predictedNum5, predictedNum6,
+                null, memo, targetDrawNo, startDrawId, createdAt, updatedAt));
+
+        if (historicalId != null) {
+            this.historicalStats = PredictionStatsResponse.builder()
+                    .totalDraws(historicalTotalDraws)
+                    .winningDraws(historicalWinningDraws)
+                    .totalPrizeAmount(historicalTotalPrizeAmount)
+                    .bestRank(historicalBestRank)
+                    .bestDrawNo(historicalBestDrawNo)
+                    .returnRate(historicalReturnRate)
+                    .rank1Count(historicalRank1Count)
+                    .rank2Count(historicalRank2Count)
+                    .rank3Count(historicalRank3Count)
+                    .rank4Count(historicalRank4Count)
+                    .rank5Count(historicalRank5Count)
+                    .build();
+        }
+
+        if (trackingId != null) {
+            this.trackingStats = PredictionStatsResponse.builder()
+                    .totalDraws(trackingTotalDraws)
+                    .winningDraws(trackingWinningDraws)
+                    .totalPrizeAmount(trackingTotalPrizeAmount)
+                    .bestRank(trackingBestRank)
+                    .bestDrawNo(trackingBestDrawNo)
+                    .returnRate(trackingReturnRate)
+                    .rank1Count(trackingRank1Count)
+                    .rank2Count(trackingRank2Count)
+                    .rank3Count(trackingRank3Count)
+                    .rank4Count(trackingRank4Count)
+                    .rank5Count(trackingRank5Count)
+                    .lastSettledDrawNo(trackingLastSettledDrawNo)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.util.Collection;
+
+/**
+ * 예측번호 통계 (과거 통계 / 추적 통계 공통)
+ * - lastSettledDrawNo 는 추적 통계에만 있음 (과거 통계는 null)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionStatsResponse {
+
+    private Integer totalDraws;        // 총 참여 회차
+    private Integer winningDraws;      // 당첨된 회차 수
+    private Long totalPrizeAmount;     // 총 당첨금
+    private Double returnRate;         // 수익률 (%)
+    private Integer bestRank;          // 최고 등수
+    private Integer bestDrawNo;        // 최고 등수 회차
+
+    // 등수별 통계
+    private Integer rank1Count;
+    private Integer rank2Count;
+    private Integer rank3Count;
+    private Integer rank4Count;
+    private Integer rank5Count;
+
+    private Integer lastSettledDrawNo;  // 마지막으로 반영된 회차
+
+    /**
+     * 예측번호 여러 개의 통계 합계 (null 항목은 건너뜀)
+     * 최고 등수가 같으면 먼저 달성한 회차
+     */
+    public static PredictionStatsResponse sumOf(Collection<PredictionStatsResponse> stats) {
+        int totalDraws = 0;
+        int winningDraws = 0;
+        long totalPrize = 0;
+        int[] rankCounts = new int[6];
+        Integer bestRank = null;
+        int bestDrawNo = 0;
+
+        for (PredictionStatsResponse s : stats) {
+            if (s == null) {
+                continue;
+            }
+            totalDraws += valueOf(s.totalDraws);
+            winningDraws += valueOf(s.winningDraws);
+            totalPrize += s.totalPrizeAmount != null ? s.totalPrizeAmount : 0L;
+            rankCounts[1] += valueOf(s.rank1Count);
+            rankCounts[2] += valueOf(s.rank2Count);
+            rankCounts[3] += valueOf(s.rank3Count);
+            rankCounts[4] += valueOf(s.rank4Count);
+            rankCounts[5] += valueOf(s.rank5Count);
+
+            if (s.bestRank != null && s.bestRank > 0) {
+                if (bestRank == null || s.bestRank < bestRank
+                        || (s.bestRank.equals(bestRank) && valueOf(s.bestDrawNo) < bestDrawNo)) {
+                    bestRank = s.bestRank;
+                    bestDrawNo = valueOf(s.bestDrawNo);
+                }
+            }
+        }
+
+        long totalInvestment = totalDraws * 1000L;  // 회차당 1,000원
+        double returnRate = totalInvestment > 0
+                ? ((double) totalPrize / totalInvestment * 100)
+                : 0.0;
+
+        return PredictionStatsResponse.builder()
+                .totalDraws(totalDraws)
+                .winningDraws(winningDraws)
+                .totalPrizeAmount(totalPrize)
+                .returnRate(Math.round(returnRate * 100.0) / 100.0)  // 소수점 2자리
+                .bestRank(bestRank)
+                .bestDrawNo(bestDrawNo)
+                .rank1Count(rankCounts[1])
+                .rank2Count(rankCounts[2])
+                .rank3Count(rankCounts[3])
+                .rank4Count(rankCounts[4])
+                .rank5Count(rankCounts[5])
+                .build();
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,85 @@
+package hhammong.apilotto.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "조건부 랜덤 번호 생성 요청")
+public class TicketGenerateRequest {
+
+    public static final int MAX_COUNT = 100_000;
+
+    @Schema(description = "생성할 조합 수 (최대 100,000)", example = "1000")
+    private Integer count;
+
+    @Schema(description = "반드시 포함할 번호", example = "[7]")
+    private List<Integer> includeNumbers;  // 선택사항
+
+    @Schema(description = "제외할 번호", example = "[1, 2, 3]")
+    private List<Integer> excludeNumbers;  // 선택사항
+
+    @Schema(description = "번호 합 최솟값", example = "100")
+    private Integer minSum;  // 선택사항
+
+    @Schema(description = "번호 합 최댓값", example = "175")
+    private Integer maxSum;  // 선택사항
+
+    @Schema(description = "홀수 개수 (홀짝 비율, 3이면 3:3)", example = "3")
+    private Integer oddCount;  // 선택사항
+
+    @Schema(description = "연속 번호 최대 길이 (1이면 연속 번호 없음)", example = "2")
+    private Integer maxConsecutive;  // 선택사항
+
+    @Schema(description = "과거 1등 당첨번호와 같은 조합 제외", example = "true")
+    private Boolean notDrawnBefore;  // 선택사항
+
+    @Schema(description = "등록 시 메모 (등록 API 에서만 사용)", example = "자동 생성")
+    private String memo;  // 선택사항
+
+    // 수동 검증 (조건끼리 모순인지는 생성하면서 확인)
+    public void validate() {
+        if (count == null || count < 1 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("생성 개수는 1 ~ " + MAX_COUNT + " 사이여야 합니다: " + count);
+        }
+
+        validateNumbers(includeNumbers, "포함");
+        validateNumbers(excludeNumbers, "제외");
+        if (includeNumbers != null && includeNumbers.size() > 6) {
+            throw new IllegalArgumentException("포함할 번호는 최대 6개입니다");
+        }
+        if (includeNumbers != null && excludeNumbers != null
+                && includeNumbers.stream().anyMatch(excludeNumbers::contains)) {
+            throw new IllegalArgumentException("포함할 번호와 제외할 번호가 겹칩니다");
+        }
+
+        if (minSum != null && maxSum != null && minSum > maxSum) {
+            throw new IllegalArgumentException("번호 합 최솟값이 최댓값보다 큽니다");
+        }
+        if (oddCount != null && (oddCount < 0 || oddCount > 6)) {
+            throw new IllegalArgumentException("홀수 개수는 0 ~ 6 사이여야 합니다: " + oddCount);
+        }
+        if (maxConsecutive != null && (maxConsecutive < 1 || maxConsecutive > 6)) {
+            throw new IllegalArgumentException("연속 번호 최대 길이는 1 ~ 6 사이여야 합니다: " + maxConsecutive);
+        }
+    }
+
+    private static void validateNumbers(List<Integer> numbers, String label) {
+        if (numbers == null) {
+            return;
+        }
+        for (Integer num : numbers) {
+            if (num == null || num < 1 || num > 45) {
+                throw new IllegalArgumentException(label + " 번호는 1~45 사이여야 합니다: " + num);
+            }
+        }
+        if (numbers.stream().distinct().count() != numbers.size()) {
+            throw new IllegalArgumentException(label + " 번호에 중복이 있습니다");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+/**
+ * 번호 생성 스트림 마지막 줄
+ * complete = false 면 조건을 만족하는 새 조합을 더 찾지 못해서 requested 보다 적게 생성됨
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketGenerateSummary {
+
+    private Integer requested;
+    private Integer generated;
+    private Boolean complete;
+    private Long elapsedMillis;
+}
@@ -0,0 +1,43 @@
+package hhammong.apilotto.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자 대시보드 (활성 예측번호 + 번호별 통계 + 사용자 합계)
+ * DashboardCache 에 저장되어 여러 요청이 공유하므로 읽기 전용으로만 사용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDashboardResponse {
+
+    private UUID userId;
+    private Integer predictionCount;             // 활성 예측번호 수
+
+    // 사용자 합계
+    private PredictionStatsResponse historicalTotals;  // 과거 통계 합계 (번호별 1회차부터)
+    private PredictionStatsResponse trackingTotals;    // 추적 통계 합계 (번호별 등록 이후)
+
+    private List<PredictionDashboardItem> predictions;
+
+    private LocalDateTime generatedAt;           // 집계 시각 (캐시된 응답이면 최초 집계 시각)
+
+    public static UserDashboardResponse of(UUID userId, List<PredictionDashboardItem> items) {
+        return UserDashboardResponse.builder()
+                .userId(userId)
+                .predictionCount(items.size())
+                .historicalTotals(PredictionStatsResponse.sumOf(
+                        items.stream().map(PredictionDashboardItem::getHistoricalStats).toList()))
+                .trackingTotals(PredictionStatsResponse.sumOf(
+                        items.stream().map(PredictionDashboardItem::getTrackingStats).toList()))
+                .predictions(List.copyOf(items))
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+}
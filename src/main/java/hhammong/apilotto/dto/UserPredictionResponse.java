@@ -62,4 +62,31 @@ public class UserPredictionResponse {
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
+
+    // Projection -> DTO 변환 (목록 조회용, 추가 조회 없음)
+    public static UserPredictionResponse from(UserPredictionSummary summary) {
+        return UserPredictionResponse.builder()
+                .predictionId(summary.getPredictionId())
+                .userId(summary.getUserId())
+                .number1(summary.getPredictedNum1().intValue())
+                .number2(summary.getPredictedNum2().intValue())
+                .number3(summary.getPredictedNum3().intValue())
+                .number4(summary.getPredictedNum4().intValue())
+                .number5(summary.getPredictedNum5().intValue())
+                .number6(summary.getPredictedNum6().intValue())
+                .numbers(Arrays.asList(
+                        summary.getPredictedNum1().intValue(),
+                        summary.getPredictedNum2().intValue(),
+                        summary.getPredictedNum3().intValue(),
+                        summary.getPredictedNum4().intValue(),
+                        summary.getPredictedNum5().intValue(),
+                        summary.getPredictedNum6().intValue()
+                ))
+                .memo(summary.getMemo())
+                .targetDrawNo(summary.getTargetDrawNo())
+                .startDrawId(summary.getStartDrawId())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
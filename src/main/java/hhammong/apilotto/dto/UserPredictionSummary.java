@@ -0,0 +1,42 @@
+package hhammong.apilotto.dto;
+
+import hhammong.apilotto.util.LottoMatchUtils;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예측번호 목록 조회용 projection (JPQL constructor expression)
+ * USER_PREDICTIONS 컬럼만 한 번에 읽으므로 user 프록시 / 통계 OneToOne 조회가 생기지 않는다.
+ * 생성자 인자 순서는 UserPredictionRepository 의 SELECT new 와 같아야 함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPredictionSummary {
+
+    private UUID predictionId;
+    private UUID userId;
+    private Short predictedNum1;
+    private Short predictedNum2;
+    private Short predictedNum3;
+    private Short predictedNum4;
+    private Short predictedNum5;
+    private Short predictedNum6;
+    private Long numbersMask;
+    private String memo;
+    private Integer targetDrawNo;
+    private Integer startDrawId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 예측번호 6개 비트마스크
+    public long toNumbersMask() {
+        if (numbersMask != null) {
+            return numbersMask;
+        }
+        return LottoMatchUtils.bit(predictedNum1) | LottoMatchUtils.bit(predictedNum2) | LottoMatchUtils.bit(predictedNum3)
+                | LottoMatchUtils.bit(predictedNum4) | LottoMatchUtils.bit(predictedNum5) | LottoMatchUtils.bit(predictedNum6);
+    }
+}
@@ -1,6 +1,7 @@
 package hhammong.apilotto.entity;
 
 import jakarta.persistence.*;
+import hhammong.apilotto.util.LottoMatchUtils;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
@@ -86,6 +87,12 @@ public class LottoHistory {
     @Builder.Default
     private String useYn = "Y";
 
+    // 당첨번호 6개 비트마스크
+    public long toNumbersMask() {
+        return LottoMatchUtils.bit(number1) | LottoMatchUtils.bit(number2) | LottoMatchUtils.bit(number3)
+                | LottoMatchUtils.bit(number4) | LottoMatchUtils.bit(number5) | LottoMatchUtils.bit(number6);
+    }
+
     @PrePersist
     public void prePersist() {
         if (this.historyId == null) {
@@ -0,0 +1,94 @@
+package hhammong.apilotto.entity;
+
+import hhammong.apilotto.util.WinBitmap;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예측번호별 당첨 이력 (한 행에 당첨 회차 비트맵 + 등수 배열)
+ * - PREDICTIONS_HISTORY 의 당첨마다 한 행 대신 예측번호마다 한 행
+ * - COMPLETE_YN = 'N' 은 정산이 먼저 만든 행 (이전 당첨은 PREDICTIONS_HISTORY 이관 전)
+ */
+@Entity
+@Table(name = "PREDICTION_WIN_HISTORY")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionWinHistory implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "PREDICTION_ID")
+    private UUID predictionId;  // 예측번호
+
+    @Column(name = "USER_ID", nullable = false)
+    private UUID userId;  // 사용자
+
+    @Column(name = "WIN_DRAWS", nullable = false)
+    private byte[] winDraws;  // 당첨 회차 비트맵
+
+    @Column(name = "WIN_RANKS", nullable = false)
+    private byte[] winRanks;  // 당첨 회차 오름차순 등수 (4비트씩)
+
+    @Column(name = "WIN_COUNT", nullable = false)
+    private Integer winCount;  // 당첨 회차 수
+
+    @Column(name = "COMPLETE_YN", length = 1)
+    @ColumnDefault("Y")
+    @Builder.Default
+    private String completeYn = "Y";
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;  // 수정일
+
+    // id 를 직접 넣으므로 merge(SELECT) 없이 INSERT 하도록 새 Entity 여부를 따로 관리
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    public static PredictionWinHistory of(UUID predictionId, UUID userId, WinBitmap wins) {
+        PredictionWinHistory history = PredictionWinHistory.builder()
+                .predictionId(predictionId)
+                .userId(userId)
+                .build();
+        history.apply(wins);
+        return history;
+    }
+
+    public WinBitmap toBitmap() {
+        return WinBitmap.of(winDraws, winRanks);
+    }
+
+    public void apply(WinBitmap wins) {
+        this.winDraws = wins.drawBytes();
+        this.winRanks = wins.rankBytes();
+        this.winCount = wins.size();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isComplete() {
+        return "Y".equals(completeYn);
+    }
+
+    @Override
+    public UUID getId() {
+        return predictionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.newEntity = false;
+    }
+}
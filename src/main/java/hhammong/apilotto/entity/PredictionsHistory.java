@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "`PREDICTIONS_HISTORY`")
+@Table(name = "`PREDICTIONS_HISTORY`",
+        uniqueConstraints = @UniqueConstraint(name = "UK_PREDICTIONS_HISTORY_PREDICTION_DRAW",
+                columnNames = {"`PREDICTION_ID`", "`DRAW_NO`"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,7 +32,7 @@ public class PredictionsHistory {
     @Column(name = "`USER_ID`", nullable = false)
     private UUID userId;  // 사용자
 
-    @Column(name = "`DRAW_NO`", nullable = false, unique = true)
+    @Column(name = "`DRAW_NO`", nullable = false)
     private Integer drawNo;  // 당첨회차
 
     @Column(name = "`RANK`", nullable = false)
@@ -50,7 +52,7 @@ public class PredictionsHistory {
     private Integer prizeAmount = 0;  // 해당 회차 당첨금
 
     @Column(name = "`START_DRAW_SORTATION`")
-    private String startDrawSortation;  // 과거이력인지 현재부터인지 구분
+    private String startDrawSortation;  // 과거이력(past)인지 등록 이후 정산(tracking)인지 구분
 
     @CreationTimestamp
     @Column(name = "`CREATED_AT`", nullable = false, updatable = false)
@@ -1,6 +1,7 @@
 package hhammong.apilotto.entity;
 
 import jakarta.persistence.*;
+import hhammong.apilotto.util.LottoMatchUtils;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 
@@ -49,6 +50,10 @@ public class UserPrediction {
     @Column(name = "PREDICTED_NUMBERS", nullable = false, length = 255)
     private String predictedNumbers;  // 예측번호배열
 
+    // 번호 조합 비트마스크 (bit n = 번호 n), (USER_ID, NUMBERS_MASK) WHERE DELETE_YN='N' unique
+    @Column(name = "NUMBERS_MASK", nullable = false)
+    private Long numbersMask;
+
     @Column(name = "CREATED_AT", nullable = false)
     private LocalDateTime createdAt;  // 생성일
 
@@ -84,6 +89,21 @@ public class UserPrediction {
                 predictedNum4, predictedNum5, predictedNum6);
     }
 
+    // 번호 조합 비트마스크 갱신 (번호가 바뀌면 다시 계산)
+    public void generateNumbersMask() {
+        this.numbersMask = null;
+        this.numbersMask = toNumbersMask();
+    }
+
+    // 예측번호 6개 비트마스크 (저장된 컬럼 우선)
+    public long toNumbersMask() {
+        if (numbersMask != null) {
+            return numbersMask;
+        }
+        return LottoMatchUtils.bit(predictedNum1) | LottoMatchUtils.bit(predictedNum2) | LottoMatchUtils.bit(predictedNum3)
+                | LottoMatchUtils.bit(predictedNum4) | LottoMatchUtils.bit(predictedNum5) | LottoMatchUtils.bit(predictedNum6);
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -93,6 +113,7 @@ public class UserPrediction {
         if (this.useYn == null) this.useYn = "Y";
 
         generatePredictedNumbersString();
+        generateNumbersMask();
     }
 
     @PreUpdate
@@ -100,5 +121,6 @@ public class UserPrediction {
         updatedAt = LocalDateTime.now();
 
         generatePredictedNumbersString();
+        generateNumbersMask();
     }
 }
\ No newline at end of file
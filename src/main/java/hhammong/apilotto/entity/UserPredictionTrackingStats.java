@@ -56,4 +56,7 @@ public class UserPredictionTrackingStats {
 
     @Column(name = "RANK_5_COUNT")
     private Integer rank5Count;  // 5등 당첨 횟수
+
+    @Column(name = "LAST_SETTLED_DRAW_NO")
+    private Integer lastSettledDrawNo;  // 마지막으로 반영된 회차 (같은 회차 중복 반영 방지)
 }
\ No newline at end of file
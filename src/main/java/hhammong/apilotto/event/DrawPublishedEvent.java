@@ -0,0 +1,16 @@
+package hhammong.apilotto.event;
+
+import hhammong.apilotto.entity.LottoHistory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 새 회차 당첨번호 저장 이벤트
+ * LottoHistoryService.createLottoHistory 커밋 후 메모리 저장소/인덱스/캐시가 받아서 반영
+ */
+@Getter
+@RequiredArgsConstructor
+public class DrawPublishedEvent {
+
+    private final LottoHistory draw;
+}
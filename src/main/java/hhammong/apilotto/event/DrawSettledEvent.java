@@ -0,0 +1,15 @@
+package hhammong.apilotto.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회차 정산 완료 이벤트
+ * PredictionSettlementJobLauncher 가 정산 배치 COMPLETED 후 발행, DashboardCache 가 받아서 전체 제거
+ */
+@Getter
+@RequiredArgsConstructor
+public class DrawSettledEvent {
+
+    private final int drawNo;
+}
@@ -0,0 +1,17 @@
+package hhammong.apilotto.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 사용자 예측번호 변경 이벤트 (등록 / 일괄 등록)
+ * UserPredictionService 커밋 후 DashboardCache 가 받아서 해당 사용자 대시보드 제거
+ */
+@Getter
+@RequiredArgsConstructor
+public class PredictionsChangedEvent {
+
+    private final UUID userId;
+}
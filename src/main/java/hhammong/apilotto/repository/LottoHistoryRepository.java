@@ -1,6 +1,7 @@
 package hhammong.apilotto.repository;
 
 import hhammong.apilotto.entity.LottoHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,6 +24,10 @@ public interface LottoHistoryRepository extends JpaRepository<LottoHistory, UUID
     // 전체 목록 조회 (페이징, 최신순)
     Page<LottoHistory> findByDeleteYnAndUseYnOrderByDrawNoDesc(String deleteYn, String useYn, Pageable pageable);
 
+    // 목록 조회 (커서, before 회차 미만 최신순, COUNT 없음)
+    List<LottoHistory> findByDrawNoLessThanAndDeleteYnAndUseYnOrderByDrawNoDesc(
+            Integer drawNo, String deleteYn, String useYn, Limit limit);
+
     // 회차 번호 존재 여부 확인
     boolean existsByDrawNo(Integer drawNo);
 
@@ -34,4 +39,10 @@ public interface LottoHistoryRepository extends JpaRepository<LottoHistory, UUID
     List<LottoHistory> findByDrawNoGreaterThanEqualAndDeleteYnAndUseYnOrderByDrawNoAsc(
             Integer drawNo, String deleteYn, String useYn);
 
+    /**
+     * 저장된 전체 회차 번호 (삭제 여부 무관, 누락 회차 계산용)
+     */
+    @Query("SELECT h.drawNo FROM LottoHistory h")
+    List<Integer> findAllDrawNos();
+
 }
\ No newline at end of file
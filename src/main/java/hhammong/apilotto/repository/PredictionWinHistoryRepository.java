@@ -0,0 +1,11 @@
+package hhammong.apilotto.repository;
+
+import hhammong.apilotto.entity.PredictionWinHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface PredictionWinHistoryRepository extends JpaRepository<PredictionWinHistory, UUID> {
+}
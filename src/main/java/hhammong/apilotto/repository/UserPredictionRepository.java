@@ -1,6 +1,9 @@
 package hhammong.apilotto.repository;
 
+import hhammong.apilotto.dto.PredictionDashboardItem;
+import hhammong.apilotto.dto.UserPredictionSummary;
 import hhammong.apilotto.entity.UserPrediction;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +19,59 @@ import java.util.UUID;
 @Repository
 public interface UserPredictionRepository extends JpaRepository<UserPrediction, UUID> {
 
+    // 목록 조회용 projection (USER_PREDICTIONS 한 테이블만, user.userId 는 FK 컬럼 그대로)
+    String SUMMARY_SELECT = "SELECT new hhammong.apilotto.dto.UserPredictionSummary(" +
+            "p.predictionId, p.user.userId, " +
+            "p.predictedNum1, p.predictedNum2, p.predictedNum3, p.predictedNum4, p.predictedNum5, p.predictedNum6, " +
+            "p.numbersMask, p.memo, p.targetDrawNo, p.startDrawId, p.createdAt, p.updatedAt) " +
+            "FROM UserPrediction p ";
+
+    // 특정 사용자의 번호 목록 (projection, 쿼리 1번)
+    @Query(SUMMARY_SELECT +
+            "WHERE p.user.userId = :userId AND p.deleteYn = 'N' " +
+            "ORDER BY p.createdAt DESC")
+    List<UserPredictionSummary> findSummaries(@Param("userId") UUID userId);
+
+    // 페이징 목록 (projection, 목록 + COUNT)
+    @Query(value = SUMMARY_SELECT +
+            "WHERE p.user.userId = :userId AND p.deleteYn = 'N' " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM UserPrediction p WHERE p.user.userId = :userId AND p.deleteYn = 'N'")
+    Page<UserPredictionSummary> findSummaries(@Param("userId") UUID userId, Pageable pageable);
+
+    // 커서 첫 페이지 (projection, 생성일시 + ID 최신순, COUNT 없음)
+    @Query(SUMMARY_SELECT +
+            "WHERE p.user.userId = :userId AND p.deleteYn = 'N' " +
+            "ORDER BY p.createdAt DESC, p.predictionId DESC")
+    List<UserPredictionSummary> findSummaries(@Param("userId") UUID userId, Limit limit);
+
+    // 커서 이후 페이지 (projection, (CREATED_AT, PREDICTION_ID) 가 커서보다 앞선 것)
+    @Query(SUMMARY_SELECT +
+            "WHERE p.user.userId = :userId AND p.deleteYn = 'N' AND " +
+            "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.predictionId < :predictionId)) " +
+            "ORDER BY p.createdAt DESC, p.predictionId DESC")
+    List<UserPredictionSummary> findSummariesBefore(@Param("userId") UUID userId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("predictionId") UUID predictionId,
+                                                    Limit limit);
+
+    // 대시보드 (활성 번호 + 과거 / 추적 통계, LEFT JOIN 쿼리 1번)
+    @Query("SELECT new hhammong.apilotto.dto.PredictionDashboardItem(" +
+            "p.predictionId, p.user.userId, " +
+            "p.predictedNum1, p.predictedNum2, p.predictedNum3, p.predictedNum4, p.predictedNum5, p.predictedNum6, " +
+            "p.memo, p.targetDrawNo, p.startDrawId, p.createdAt, p.updatedAt, " +
+            "h.predictionId, h.totalDraws, h.winningDraws, h.totalPrizeAmount, h.bestRank, h.bestDrawNo, " +
+            "h.returnRate, h.rank1Count, h.rank2Count, h.rank3Count, h.rank4Count, h.rank5Count, " +
+            "t.predictionId, t.totalDraws, t.winningDraws, t.totalPrizeAmount, t.bestRank, t.bestDrawNo, " +
+            "t.returnRate, t.rank1Count, t.rank2Count, t.rank3Count, t.rank4Count, t.rank5Count, " +
+            "t.lastSettledDrawNo) " +
+            "FROM UserPrediction p " +
+            "LEFT JOIN p.userPredictionHistoricalStat h " +
+            "LEFT JOIN p.userPredictionTrackingStat t " +
+            "WHERE p.user.userId = :userId AND p.deleteYn = 'N' AND p.useYn = 'Y' " +
+            "ORDER BY p.createdAt DESC, p.predictionId DESC")
+    List<PredictionDashboardItem> findDashboardItems(@Param("userId") UUID userId);
+
     // 특정 사용자의 번호 목록 조회 (삭제되지 않은 것만) userid로.
     List<UserPrediction> findByUser_UserIdAndDeleteYnOrderByCreatedAtDesc(
             UUID userId, String deleteYn);
@@ -30,21 +87,17 @@ public interface UserPredictionRepository extends JpaRepository<UserPrediction,
     // 사용자의 번호 개수 조회
     long countByUser_UserIdAndDeleteYn(UUID userId, String deleteYn);
 
-    // 중복 번호 확인 (같은 번호 조합이 이미 있는지)
+    // 중복 번호 확인 (같은 번호 조합이 이미 있는지, (USER_ID, NUMBERS_MASK) unique 인덱스 1번 조회)
     @Query("SELECT COUNT(p) > 0 FROM UserPrediction p WHERE " +
             "p.user.userId = :userId AND " +
             "p.deleteYn = 'N' AND " +
-            "p.predictedNum1 = :num1 AND " +
-            "p.predictedNum2 = :num2 AND " +
-            "p.predictedNum3 = :num3 AND " +
-            "p.predictedNum4 = :num4 AND " +
-            "p.predictedNum5 = :num5 AND " +
-            "p.predictedNum6 = :num6")
+            "p.numbersMask = :numbersMask")
     boolean existsDuplicateNumbers(@Param("userId") UUID userId,
-                                   @Param("num1") Short num1,
-                                   @Param("num2") Short num2,
-                                   @Param("num3") Short num3,
-                                   @Param("num4") Short num4,
-                                   @Param("num5") Short num5,
-                                   @Param("num6") Short num6);
-}
\ No newline at end of file
+                                   @Param("numbersMask") long numbersMask);
+
+    // 사용자가 등록한 번호 조합 비트마스크 (삭제되지 않은 것만)
+    @Query("SELECT p.numbersMask FROM UserPrediction p WHERE " +
+            "p.user.userId = :userId AND " +
+            "p.deleteYn = 'N'")
+    List<Long> findNumbersMasks(@Param("userId") UUID userId);
+}
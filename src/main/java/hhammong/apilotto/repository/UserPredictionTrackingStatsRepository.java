@@ -2,9 +2,85 @@ package hhammong.apilotto.repository;
 
 import hhammong.apilotto.entity.UserPredictionTrackingStats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface UserPredictionTrackingStatsRepository extends JpaRepository<UserPredictionTrackingStats, UUID> {
 
+    /**
+     * 회차 반영 - 해당 등수 당첨자 (등수별 1회 실행)
+     * LAST_SETTLED_DRAW_NO 가 drawNo 보다 작은 행만 갱신하므로 재실행해도 중복 반영되지 않음
+     */
+    @Modifying
+    @Query(value = "UPDATE USER_PREDICTION_TRACKING_STATS s SET " +
+            "TOTAL_DRAWS = COALESCE(s.TOTAL_DRAWS, 0) + 1, " +
+            "WINNING_DRAWS = COALESCE(s.WINNING_DRAWS, 0) + 1, " +
+            "TOTAL_PRIZE_AMOUNT = COALESCE(s.TOTAL_PRIZE_AMOUNT, 0) + h.\"PRIZE_AMOUNT\", " +
+            "RANK_1_COUNT = COALESCE(s.RANK_1_COUNT, 0) + CASE WHEN :rank = 1 THEN 1 ELSE 0 END, " +
+            "RANK_2_COUNT = COALESCE(s.RANK_2_COUNT, 0) + CASE WHEN :rank = 2 THEN 1 ELSE 0 END, " +
+            "RANK_3_COUNT = COALESCE(s.RANK_3_COUNT, 0) + CASE WHEN :rank = 3 THEN 1 ELSE 0 END, " +
+            "RANK_4_COUNT = COALESCE(s.RANK_4_COUNT, 0) + CASE WHEN :rank = 4 THEN 1 ELSE 0 END, " +
+            "RANK_5_COUNT = COALESCE(s.RANK_5_COUNT, 0) + CASE WHEN :rank = 5 THEN 1 ELSE 0 END, " +
+            "BEST_DRAW_NO = CASE WHEN s.BEST_RANK IS NULL OR :rank < s.BEST_RANK THEN :drawNo ELSE s.BEST_DRAW_NO END, " +
+            "BEST_RANK = CASE WHEN s.BEST_RANK IS NULL OR :rank < s.BEST_RANK THEN :rank ELSE s.BEST_RANK END, " +
+            "RETURN_RATE = ROUND((COALESCE(s.TOTAL_PRIZE_AMOUNT, 0) + h.\"PRIZE_AMOUNT\") * 100.0 " +
+            "/ ((COALESCE(s.TOTAL_DRAWS, 0) + 1) * 1000), 2), " +
+            "LAST_SETTLED_DRAW_NO = :drawNo " +
+            "FROM \"PREDICTIONS_HISTORY\" h " +
+            "WHERE h.\"PREDICTION_ID\" = s.PREDICTION_ID " +
+            "AND h.\"DRAW_NO\" = :drawNo AND h.\"RANK\" = :rank " +
+            "AND h.\"START_DRAW_SORTATION\" = 'tracking' " +
+            "AND COALESCE(s.LAST_SETTLED_DRAW_NO, 0) < :drawNo",
+            nativeQuery = true)
+    int applyWinningDraw(@Param("drawNo") int drawNo, @Param("rank") int rank);
+
+    /**
+     * 회차 반영 - 나머지 대상 예측번호 (참여 회차 +1, 수익률 재계산)
+     * 당첨자는 applyWinningDraw 에서 이미 LAST_SETTLED_DRAW_NO 가 갱신되어 제외됨
+     */
+    @Modifying
+    @Query(value = "UPDATE USER_PREDICTION_TRACKING_STATS s SET " +
+            "TOTAL_DRAWS = COALESCE(s.TOTAL_DRAWS, 0) + 1, " +
+            "RETURN_RATE = ROUND(COALESCE(s.TOTAL_PRIZE_AMOUNT, 0) * 100.0 " +
+            "/ ((COALESCE(s.TOTAL_DRAWS, 0) + 1) * 1000), 2), " +
+            "LAST_SETTLED_DRAW_NO = :drawNo " +
+            "FROM USER_PREDICTIONS p " +
+            "WHERE p.PREDICTION_ID = s.PREDICTION_ID " +
+            "AND p.DELETE_YN = 'N' AND p.USE_YN = 'Y' AND p.START_DRAW_ID <= :drawNo " +
+            "AND COALESCE(s.LAST_SETTLED_DRAW_NO, 0) < :drawNo",
+            nativeQuery = true)
+    int applyLosingDraw(@Param("drawNo") int drawNo);
+
+    /**
+     * 늦게 저장된 회차 반영 - 이미 뒤 회차까지 정산된 예측번호 (LAST_SETTLED_DRAW_NO > drawNo)
+     * 위 두 UPDATE 는 이 행들을 건너뛰므로, 시작 회차 ~ LAST_SETTLED_DRAW_NO 범위를
+     * LOTTO_HISTORY / PREDICTIONS_HISTORY 기준으로 다시 집계한다 (결과가 원본에서 나오므로 재실행해도 같음)
+     * 이번 회차 당첨 이력은 앞 step 에서 PREDICTIONS_HISTORY 에 저장되어 있어야 함
+     */
+    @Modifying
+    @Query(value = "UPDATE USER_PREDICTION_TRACKING_STATS s SET " +
+            "(TOTAL_DRAWS, WINNING_DRAWS, TOTAL_PRIZE_AMOUNT, " +
+            "RANK_1_COUNT, RANK_2_COUNT, RANK_3_COUNT, RANK_4_COUNT, RANK_5_COUNT, " +
+            "BEST_RANK, BEST_DRAW_NO, RETURN_RATE) = (" +
+            "SELECT d.DRAW_COUNT, COUNT(h.\"PREDICTION_ID\"), COALESCE(SUM(h.\"PRIZE_AMOUNT\"), 0), " +
+            "COUNT(*) FILTER (WHERE h.\"RANK\" = 1), COUNT(*) FILTER (WHERE h.\"RANK\" = 2), " +
+            "COUNT(*) FILTER (WHERE h.\"RANK\" = 3), COUNT(*) FILTER (WHERE h.\"RANK\" = 4), " +
+            "COUNT(*) FILTER (WHERE h.\"RANK\" = 5), " +
+            "MIN(h.\"RANK\"), (ARRAY_AGG(h.\"DRAW_NO\" ORDER BY h.\"RANK\", h.\"DRAW_NO\"))[1], " +
+            "ROUND(COALESCE(SUM(h.\"PRIZE_AMOUNT\"), 0) * 100.0 / (NULLIF(d.DRAW_COUNT, 0) * 1000), 2) " +
+            "FROM (SELECT COUNT(*) AS DRAW_COUNT FROM \"LOTTO_HISTORY\" l " +
+            "WHERE l.\"DRAW_NO\" BETWEEN p.START_DRAW_ID AND s.LAST_SETTLED_DRAW_NO " +
+            "AND l.DELETE_YN = 'N' AND l.USE_YN = 'Y') d " +
+            "LEFT JOIN \"PREDICTIONS_HISTORY\" h ON h.\"PREDICTION_ID\" = s.PREDICTION_ID " +
+            "AND h.\"DRAW_NO\" BETWEEN p.START_DRAW_ID AND s.LAST_SETTLED_DRAW_NO " +
+            "GROUP BY d.DRAW_COUNT) " +
+            "FROM USER_PREDICTIONS p " +
+            "WHERE p.PREDICTION_ID = s.PREDICTION_ID " +
+            "AND p.DELETE_YN = 'N' AND p.USE_YN = 'Y' AND p.START_DRAW_ID <= :drawNo " +
+            "AND s.LAST_SETTLED_DRAW_NO > :drawNo",
+            nativeQuery = true)
+    int recomputeForLateDraw(@Param("drawNo") int drawNo);
 }
@@ -1,16 +1,21 @@
 package hhammong.apilotto.scheduler;
 
+import hhammong.apilotto.batch.PredictionSettlementJobLauncher;
+import hhammong.apilotto.client.DhlotteryClient;
 import hhammong.apilotto.dto.DhlotteryApiResponse;
+import hhammong.apilotto.dto.LottoBackfillResponse;
 import hhammong.apilotto.dto.LottoHistoryCreateRequest;
+import hhammong.apilotto.service.LottoHistoryBackfillService;
 import hhammong.apilotto.service.LottoHistoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -18,10 +23,12 @@ import java.time.format.DateTimeFormatter;
 public class LottoHistoryScheduler {
 
     private final LottoHistoryService lottoHistoryService;
-    private final RestTemplate restTemplate;
+    private final DhlotteryClient dhlotteryClient;
+    private final LottoHistoryBackfillService backfillService;
+    private final PredictionSettlementJobLauncher settlementJobLauncher;
 
-    private static final String DHLOTTERY_API_URL = "https://www.dhlottery.co.kr/lt645/selectPstLt645Info.do";
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    @Value("${lotto.backfill.on-startup:false}")
+    private boolean backfillOnStartup;
 
     /**
      * 매주 토요일 밤 10시에 실행 (로또 추첨 후)
@@ -32,26 +39,22 @@ public class LottoHistoryScheduler {
         log.info("로또 당첨 번호 수집 스케줄러 시작");
 
         try {
-            // 외부 API 호출
-            DhlotteryApiResponse response = restTemplate.getForObject(
-                    DHLOTTERY_API_URL,
-                    DhlotteryApiResponse.class
-            );
+            // 외부 API 호출 (최신 회차)
+            Optional<DhlotteryApiResponse.LottoInfo> latest = dhlotteryClient.fetchLatest();
 
-            if (response != null && response.getData() != null
-                    && response.getData().getList() != null
-                    && !response.getData().getList().isEmpty()) {
-
-                // 첫 번째 데이터 가져오기
-                DhlotteryApiResponse.LottoInfo lottoInfo = response.getData().getList().get(0);
+            if (latest.isPresent()) {
+                DhlotteryApiResponse.LottoInfo lottoInfo = latest.get();
 
                 // DTO 변환
-                LottoHistoryCreateRequest request = convertToRequest(lottoInfo);
+                LottoHistoryCreateRequest request = LottoHistoryCreateRequest.from(lottoInfo);
 
                 // DB 저장
                 lottoHistoryService.createLottoHistory(request);
 
                 log.info("로또 {}회차 당첨 번호 저장 완료", lottoInfo.getLtEpsd());
+
+                // 등록된 예측번호 정산 (이미 정산된 회차면 배치에서 스킵)
+                settlementJobLauncher.launch(lottoInfo.getLtEpsd());
             } else {
                 log.warn("외부 API 응답 데이터가 비어있습니다.");
             }
@@ -59,42 +62,38 @@ public class LottoHistoryScheduler {
         } catch (Exception e) {
             log.error("로또 당첨 번호 수집 중 오류 발생", e);
         }
+
+        log.info("동행복권 API 호출 지표: {}", dhlotteryClient.getMetrics());
     }
 
     /**
-     * 외부 API 응답을 CreateRequest로 변환
+     * 누락 회차 백필 (토요일 수집이 실패한 회차를 다음 날 새벽에 복구)
      */
-    private LottoHistoryCreateRequest convertToRequest(DhlotteryApiResponse.LottoInfo lottoInfo) {
-        // 날짜 변환 (yyyyMMdd -> LocalDate)
-        LocalDate drawDate = LocalDate.parse(lottoInfo.getLtRflYmd(), DATE_FORMATTER);
-
-        // numbers 문자열 생성 (선택사항)
-        String numbers = String.format("%d,%d,%d,%d,%d,%d",
-                lottoInfo.getTm1WnNo(),
-                lottoInfo.getTm2WnNo(),
-                lottoInfo.getTm3WnNo(),
-                lottoInfo.getTm4WnNo(),
-                lottoInfo.getTm5WnNo(),
-                lottoInfo.getTm6WnNo()
-        );
-
-        return LottoHistoryCreateRequest.builder()
-                .drawNo(lottoInfo.getLtEpsd())
-                .drawDate(drawDate)
-                .number1(lottoInfo.getTm1WnNo())
-                .number2(lottoInfo.getTm2WnNo())
-                .number3(lottoInfo.getTm3WnNo())
-                .number4(lottoInfo.getTm4WnNo())
-                .number5(lottoInfo.getTm5WnNo())
-                .number6(lottoInfo.getTm6WnNo())
-                .bonusNumber(lottoInfo.getBnsWnNo())
-                .numbers(numbers)
-                .prize1st(lottoInfo.getRnk1WnAmt())
-                .prize2nd(lottoInfo.getRnk2WnAmt())
-                .prize3rd(lottoInfo.getRnk3WnAmt())
-                .prize4th(lottoInfo.getRnk4WnAmt())
-                .prize5th(lottoInfo.getRnk5WnAmt())
-                .build();
+    @Scheduled(cron = "${lotto.backfill.cron:0 0 6 * * SUN}")
+    public void backfillMissingDraws() {
+        log.info("누락 회차 백필 스케줄러 시작");
+
+        try {
+            LottoBackfillResponse result = backfillService.backfillMissing();
+            log.info("누락 회차 백필 종료 (저장 {}, 실패 {}, 없음 {}, 미조회 {})",
+                    result.getSavedDrawNos().size(), result.getFailedDrawNos().size(),
+                    result.getNotFoundDrawNos().size(), result.getNotAttemptedDrawNos().size());
+        } catch (Exception e) {
+            log.error("누락 회차 백필 중 오류 발생", e);
+        }
+
+        log.info("동행복권 API 호출 지표: {}", dhlotteryClient.getMetrics());
+    }
+
+    /**
+     * 기동 시 백필 (빈 DB 에 과거 회차를 채울 때 lotto.backfill.on-startup=true)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Thread.ofVirtual().name("lotto-backfill").start(this::backfillMissingDraws);
     }
 
     /**
@@ -103,4 +102,4 @@ public class LottoHistoryScheduler {
     public void fetchNow() {
         fetchAndSaveLottoHistory();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package hhammong.apilotto.security;
+
+import hhammong.apilotto.util.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authorization: Bearer 토큰으로 인증 (세션 없음)
+ * - 검증 캐시에 있으면 그대로 사용, 없으면 서명 검증 후 캐시에 저장
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 진행 (접근 제어는 SecurityConfig 에서)
+ * SecurityFilterChain 에만 등록 (Bean 으로 만들면 서블릿 필터로도 한 번 더 등록됨)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String token = resolveToken(request);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            JwtPrincipal principal = authenticate(token);
+            if (principal != null) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, AUTHORITIES));
+                SecurityContextHolder.setContext(context);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private JwtPrincipal authenticate(String token) {
+        String key = verifiedTokenCache.key(token);
+        JwtPrincipal cached = verifiedTokenCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            JwtPrincipal principal = JwtPrincipal.from(jwtTokenProvider.parseClaims(token));
+            verifiedTokenCache.put(key, principal);
+            return principal;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 토큰: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
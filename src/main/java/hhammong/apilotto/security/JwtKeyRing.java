@@ -0,0 +1,125 @@
+package hhammong.apilotto.security;
+
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JWT 서명 키 묶음 (kid -> HMAC 키, 불변)
+ * - active 키로만 서명, 나머지는 검증만 하는 grace 키 (회전 중인 이전 / 다음 키)
+ * - 키는 설정(kid:base64 목록) 또는 로컬 keystore(PKCS12 secret key entry, alias = kid)에서 로드
+ * 모든 노드가 같은 키 묶음을 가지면 어느 노드에서 발급한 토큰이든 검증할 수 있다.
+ */
+@Slf4j
+@Getter
+public class JwtKeyRing {
+
+    private final String activeKid;
+    private final SecretKey activeKey;
+    private final Map<String, SecretKey> keys;
+
+    private JwtKeyRing(String activeKid, Map<String, SecretKey> keys) {
+        this.activeKid = activeKid;
+        this.activeKey = keys.get(activeKid);
+        this.keys = Collections.unmodifiableMap(keys);
+    }
+
+    /**
+     * 검증 키 조회 (모르는 kid 면 null)
+     */
+    public SecretKey find(String kid) {
+        return kid == null ? null : keys.get(kid);
+    }
+
+    /**
+     * 설정 / keystore 에서 키 로드
+     * @param activeKid    서명에 쓸 kid
+     * @param keyList      "kid:base64,kid:base64" (256bit 이상)
+     * @param keystorePath 비어있지 않으면 keystore 의 secret key entry 도 추가
+     */
+    public static JwtKeyRing load(String activeKid, String keyList,
+                                  String keystorePath, String keystoreType, String keystorePassword) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+
+        if (keyList != null && !keyList.isBlank()) {
+            for (String entry : keyList.split(",")) {
+                String trimmed = entry.trim();
+                int colon = trimmed.indexOf(':');
+                if (colon <= 0) {
+                    throw new IllegalArgumentException("JWT 키 형식이 올바르지 않습니다 (kid:base64): " + trimmed);
+                }
+                String kid = trimmed.substring(0, colon);
+                byte[] secret = Base64.getDecoder().decode(trimmed.substring(colon + 1));
+                put(keys, kid, Keys.hmacShaKeyFor(secret));
+            }
+        }
+
+        if (keystorePath != null && !keystorePath.isBlank()) {
+            loadKeystore(keys, Path.of(keystorePath), keystoreType, keystorePassword);
+        }
+
+        if (keys.isEmpty()) {
+            // 단일 노드 개발용: 재시작하면 기존 토큰은 모두 무효
+            String kid = "local-" + UUID.randomUUID();
+            log.warn("JWT 서명 키가 설정되지 않아서 임시 키를 생성합니다 (kid={}). 여러 노드에서는 lotto.jwt.keys 를 설정하세요.", kid);
+            keys.put(kid, Keys.hmacShaKeyFor(randomSecret()));
+            return new JwtKeyRing(kid, keys);
+        }
+
+        String active = activeKid == null || activeKid.isBlank() ? keys.keySet().iterator().next() : activeKid;
+        if (!keys.containsKey(active)) {
+            throw new IllegalStateException("active kid 에 해당하는 JWT 키가 없습니다: " + active);
+        }
+
+        log.info("JWT 서명 키 로드 완료 (active={}, 검증 키={})", active, keys.keySet());
+        return new JwtKeyRing(active, keys);
+    }
+
+    private static void loadKeystore(Map<String, SecretKey> keys, Path path, String type, String password) {
+        char[] secret = password == null ? new char[0] : password.toCharArray();
+        try (InputStream in = Files.newInputStream(path)) {
+            KeyStore keyStore = KeyStore.getInstance(type);
+            keyStore.load(in, secret);
+
+            Enumeration<String> aliases = keyStore.aliases();
+            while (aliases.hasMoreElements()) {
+                String alias = aliases.nextElement();
+                if (!keyStore.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+                    continue;
+                }
+                Key key = keyStore.getKey(alias, secret);
+                put(keys, alias, Keys.hmacShaKeyFor(key.getEncoded()));
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT keystore 를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private static void put(Map<String, SecretKey> keys, String kid, SecretKey key) {
+        if (keys.putIfAbsent(kid, key) != null) {
+            throw new IllegalArgumentException("중복된 JWT kid 입니다: " + kid);
+        }
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
@@ -0,0 +1,39 @@
+package hhammong.apilotto.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 검증된 JWT 의 인증 정보 (SecurityContext principal, 검증 캐시 값)
+ * 여러 요청이 공유하므로 불변
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JwtPrincipal {
+
+    private final UUID userId;
+    private final String userUid;
+    private final long expiresAtMillis;
+
+    /**
+     * 검증된 claims 에서 생성 (subject 가 UUID 가 아니면 IllegalArgumentException)
+     */
+    public static JwtPrincipal from(Claims claims) {
+        if (claims.getExpiration() == null) {
+            throw new IllegalArgumentException("만료 시간이 없는 토큰입니다.");
+        }
+        return new JwtPrincipal(
+                UUID.fromString(claims.getSubject()),
+                claims.get("userUid", String.class),
+                claims.getExpiration().getTime());
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,71 @@
+package hhammong.apilotto.security;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 토큰 캐시
+ * - key : 토큰 SHA-256 (토큰 원문은 보관하지 않음)
+ * - 값은 토큰 exp 까지만 유효 (조회 시 만료됐으면 제거)
+ * - 최대 maxSize 건 LRU
+ * 같은 클라이언트가 같은 토큰으로 반복 호출하면 HMAC 검증과 JSON 파싱을 건너뛴다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${lotto.jwt.verified-cache.max-size:10000}")
+    private int maxSize;
+
+    private Map<String, JwtPrincipal> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtPrincipal> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 캐시 key (토큰 SHA-256, base64url)
+     */
+    public String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 만료되지 않은 검증 결과 (없으면 null)
+     */
+    public JwtPrincipal get(String key) {
+        JwtPrincipal principal = cache.get(key);
+        if (principal != null && principal.isExpired(System.currentTimeMillis())) {
+            cache.remove(key);
+            return null;
+        }
+        return principal;
+    }
+
+    public void put(String key, JwtPrincipal principal) {
+        cache.put(key, principal);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
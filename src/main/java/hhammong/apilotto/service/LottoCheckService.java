@@ -4,7 +4,7 @@ import hhammong.apilotto.dto.CheckWinningRequest;
 import hhammong.apilotto.dto.CheckWinningResponse;
 import hhammong.apilotto.entity.LottoHistory;
 import hhammong.apilotto.exception.ResourceNotFoundException;
-import hhammong.apilotto.repository.LottoHistoryRepository;
+import hhammong.apilotto.store.DrawCache;
 import hhammong.apilotto.util.LottoMatchUtils;
 import hhammong.apilotto.util.LottoMatchUtils.MatchResult;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +19,7 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class LottoCheckService {
 
-    private final LottoHistoryRepository lottoHistoryRepository;
+    private final DrawCache drawCache;
 
     /**
      * 특정 회차 당첨 확인
@@ -27,11 +27,10 @@ public class LottoCheckService {
     public CheckWinningResponse checkWinning(CheckWinningRequest request) {
         // 1. 회차 조회 (없으면 최신 회차)
         LottoHistory draw = (request.getDrawNo() != null)
-                ? lottoHistoryRepository.findByDrawNoAndDeleteYnAndUseYn(
-                        request.getDrawNo(), "N", "Y")
+                ? drawCache.findByDrawNo(request.getDrawNo())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "해당 회차를 찾을 수 없습니다: " + request.getDrawNo()))
-                : lottoHistoryRepository.findTopByDeleteYnAndUseYnOrderByDrawNoDesc("N", "Y")
+                : drawCache.getLatest()
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "당첨번호가 존재하지 않습니다"));
 
@@ -0,0 +1,233 @@
+package hhammong.apilotto.service;
+
+import hhammong.apilotto.batch.PredictionSettlementJobLauncher;
+import hhammong.apilotto.client.CircuitBreakerOpenException;
+import hhammong.apilotto.client.DhlotteryClient;
+import hhammong.apilotto.dto.DhlotteryApiResponse;
+import hhammong.apilotto.dto.LottoBackfillResponse;
+import hhammong.apilotto.dto.LottoHistoryCreateRequest;
+import hhammong.apilotto.repository.LottoHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 누락 회차 백필
+ * - 1 ~ API 최신 회차 중 LOTTO_HISTORY 에 없는 회차를 찾아서 조회
+ * - 회차마다 virtual thread 하나, 동시 API 호출 수는 concurrency 로 제한
+ * - 실패하면 지수 백오프로 재시도 (백오프 대기 중에는 호출 슬롯을 반납)
+ * - 서킷 브레이커가 열리면 남은 회차는 조회하지 않고 미조회로 돌려줌 (열린 동안의 거절은 시도로 세지 않음)
+ * - 조회 결과는 회차 순으로 batch-size 만큼 모아서 한 트랜잭션으로 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LottoHistoryBackfillService {
+
+    private final DhlotteryClient dhlotteryClient;
+    private final LottoHistoryRepository lottoHistoryRepository;
+    private final LottoHistoryService lottoHistoryService;
+    private final PredictionSettlementJobLauncher settlementJobLauncher;
+
+    @Value("${lotto.backfill.concurrency:8}")
+    private int concurrency;
+
+    @Value("${lotto.backfill.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${lotto.backfill.initial-backoff:500ms}")
+    private Duration initialBackoff;
+
+    @Value("${lotto.backfill.max-backoff:10s}")
+    private Duration maxBackoff;
+
+    @Value("${lotto.backfill.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 회차 하나의 조회 결과 (info 가 null 이면 API 에 없는 회차, failed 면 재시도 초과, skipped 면 서킷 브레이커로 중단)
+     */
+    private record FetchResult(int drawNo, DhlotteryApiResponse.LottoInfo info, boolean failed, boolean skipped) {
+    }
+
+    /**
+     * API 최신 회차까지 누락된 회차 백필
+     * 저장된 회차는 모두 오름차순으로 정산 배치 실행
+     * (기존 최신 회차보다 앞의 빈 회차는 추적 통계가 이미 뒤 회차까지 반영된 행을 다시 집계함)
+     */
+    public LottoBackfillResponse backfillMissing() {
+        long startedAt = System.currentTimeMillis();
+
+        int latestDrawNo = dhlotteryClient.fetchLatest()
+                .map(DhlotteryApiResponse.LottoInfo::getLtEpsd)
+                .orElseThrow(() -> new IllegalStateException("최신 회차를 조회할 수 없습니다."));
+
+        List<Integer> missing = findMissingDrawNos(latestDrawNo);
+        log.info("누락 회차 {}건 (최신 {}회차)", missing.size(), latestDrawNo);
+
+        LottoBackfillResponse result = backfill(missing);
+        result.setLatestDrawNo(latestDrawNo);
+        result.setElapsedMillis(System.currentTimeMillis() - startedAt);
+
+        for (Integer drawNo : result.getSavedDrawNos()) {
+            settlementJobLauncher.launch(drawNo);
+        }
+        return result;
+    }
+
+    /**
+     * 1 ~ latestDrawNo 중 저장되지 않은 회차 (오름차순)
+     */
+    public List<Integer> findMissingDrawNos(int latestDrawNo) {
+        BitSet existing = new BitSet(latestDrawNo + 1);
+        for (Integer drawNo : lottoHistoryRepository.findAllDrawNos()) {
+            if (drawNo != null && drawNo > 0 && drawNo <= latestDrawNo) {
+                existing.set(drawNo);
+            }
+        }
+
+        List<Integer> missing = new ArrayList<>(latestDrawNo - existing.cardinality());
+        for (int drawNo = existing.nextClearBit(1); drawNo <= latestDrawNo; drawNo = existing.nextClearBit(drawNo + 1)) {
+            missing.add(drawNo);
+        }
+        return missing;
+    }
+
+    /**
+     * 지정한 회차들을 동시에 조회해서 일괄 저장 (drawNos 는 오름차순)
+     */
+    public LottoBackfillResponse backfill(List<Integer> drawNos) {
+        List<Integer> saved = new ArrayList<>();
+        List<Integer> failed = new ArrayList<>();
+        List<Integer> notFound = new ArrayList<>();
+        List<Integer> notAttempted = new ArrayList<>();
+
+        Semaphore permits = new Semaphore(Math.max(concurrency, 1));
+        AtomicBoolean circuitOpen = new AtomicBoolean();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<FetchResult>> futures = new ArrayList<>(drawNos.size());
+            for (Integer drawNo : drawNos) {
+                futures.add(executor.submit(() -> fetchWithRetry(drawNo, permits, circuitOpen)));
+            }
+
+            // 회차 순으로 모아서 저장 (앞 회차가 끝나길 기다리는 동안 뒤 회차 조회는 계속 진행됨)
+            List<LottoHistoryCreateRequest> batch = new ArrayList<>(batchSize);
+            for (Future<FetchResult> future : futures) {
+                FetchResult result = join(future);
+                if (result.skipped()) {
+                    notAttempted.add(result.drawNo());
+                } else if (result.failed()) {
+                    failed.add(result.drawNo());
+                } else if (result.info() == null) {
+                    notFound.add(result.drawNo());
+                } else {
+                    batch.add(LottoHistoryCreateRequest.from(result.info()));
+                    if (batch.size() >= batchSize) {
+                        saved.addAll(lottoHistoryService.createLottoHistories(batch));
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                saved.addAll(lottoHistoryService.createLottoHistories(batch));
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            log.warn("백필 조회 실패 회차: {}", failed);
+        }
+        if (!notFound.isEmpty()) {
+            log.warn("API 에 없는 회차: {}", notFound);
+        }
+        if (!notAttempted.isEmpty()) {
+            log.warn("서킷 브레이커가 열려서 백필을 중단했습니다. 조회하지 못한 회차 {}건: {}", notAttempted.size(), notAttempted);
+        }
+
+        return LottoBackfillResponse.builder()
+                .missingCount(drawNos.size())
+                .savedDrawNos(saved)
+                .failedDrawNos(failed)
+                .notFoundDrawNos(notFound)
+                .notAttemptedDrawNos(notAttempted)
+                .build();
+    }
+
+    private FetchResult fetchWithRetry(int drawNo, Semaphore permits, AtomicBoolean circuitOpen)
+            throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Optional<DhlotteryApiResponse.LottoInfo> info;
+                permits.acquire();
+                try {
+                    // 슬롯을 기다리는 동안 브레이커가 열렸으면 호출하지 않음
+                    if (circuitOpen.get()) {
+                        return new FetchResult(drawNo, null, false, true);
+                    }
+                    info = dhlotteryClient.fetchDraw(drawNo);
+                } finally {
+                    permits.release();
+                }
+                return new FetchResult(drawNo, info.orElse(null), false, false);
+            } catch (CircuitBreakerOpenException e) {
+                // 열린 동안은 다시 보내도 거절되므로 이번 실행은 여기서 중단
+                circuitOpen.set(true);
+                return new FetchResult(drawNo, null, false, true);
+            } catch (RestClientException e) {
+                if (!isRetryable(e) || attempt >= maxAttempts) {
+                    log.warn("{}회차 조회 실패 ({}회 시도): {}", drawNo, attempt, e.getMessage());
+                    return new FetchResult(drawNo, null, true, false);
+                }
+                Duration backoff = backoff(attempt);
+                log.debug("{}회차 조회 실패, {}ms 후 재시도 ({}회 시도)", drawNo, backoff.toMillis(), attempt);
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    // 4xx 는 다시 보내도 같으므로 429 만 재시도
+    private boolean isRetryable(RestClientException e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    /**
+     * initial * 2^(attempt-1), 최대 max-backoff, 동시에 실패한 요청이 몰리지 않도록 절반 범위 jitter
+     */
+    Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private FetchResult join(Future<FetchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("백필이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("백필 조회 중 오류 발생", e.getCause());
+        }
+    }
+}
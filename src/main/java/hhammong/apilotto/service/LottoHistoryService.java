@@ -1,18 +1,27 @@
 package hhammong.apilotto.service;
 
+import hhammong.apilotto.dto.CursorPageResponse;
+import hhammong.apilotto.dto.DrawVersion;
 import hhammong.apilotto.dto.LottoHistoryCreateRequest;
 import hhammong.apilotto.dto.LottoHistoryResponse;
 import hhammong.apilotto.entity.LottoHistory;
 import hhammong.apilotto.exception.ResourceNotFoundException;
 import hhammong.apilotto.repository.LottoHistoryRepository;
+import hhammong.apilotto.event.DrawPublishedEvent;
+import hhammong.apilotto.store.DrawCache;
+import hhammong.apilotto.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -20,26 +29,44 @@ import java.time.LocalDateTime;
 public class LottoHistoryService {
 
     private final LottoHistoryRepository lottoHistoryRepository;
+    private final DrawCache drawCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 최신 회차 당첨번호 조회
      */
     @Transactional(readOnly = true)
     public LottoHistoryResponse getLatestDraw() {
-        LottoHistory latestDraw = lottoHistoryRepository
-                .findTopByDeleteYnAndUseYnOrderByDrawNoDesc("N", "Y")
+        LottoHistory latestDraw = drawCache.getLatest()
                 .orElseThrow(() -> new ResourceNotFoundException("당첨번호가 존재하지 않습니다."));
 
         return LottoHistoryResponse.from(latestDraw);
     }
 
+    /**
+     * 최신 회차 캐시 검증값 (회차 캐시에서 조회, 새 회차가 저장되면 바로 바뀜)
+     */
+    public DrawVersion getLatestDrawVersion() {
+        return drawCache.getLatest()
+                .map(DrawVersion::from)
+                .orElseThrow(() -> new ResourceNotFoundException("당첨번호가 존재하지 않습니다."));
+    }
+
+    /**
+     * 특정 회차 캐시 검증값
+     */
+    public DrawVersion getDrawVersion(Integer drawNo) {
+        return drawCache.findByDrawNo(drawNo)
+                .map(DrawVersion::from)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 회차를 찾을 수 없습니다: " + drawNo));
+    }
+
     /**
      * 특정 회차 당첨번호 조회
      */
     @Transactional(readOnly = true)
     public LottoHistoryResponse getDrawByNumber(Integer drawNo) {
-        LottoHistory draw = lottoHistoryRepository
-                .findByDrawNoAndDeleteYnAndUseYn(drawNo, "N", "Y")
+        LottoHistory draw = drawCache.findByDrawNo(drawNo)
                 .orElseThrow(() -> new ResourceNotFoundException("해당 회차를 찾을 수 없습니다: " + drawNo));
 
         return LottoHistoryResponse.from(draw);
@@ -56,6 +83,22 @@ public class LottoHistoryService {
         return draws.map(LottoHistoryResponse::from);
     }
 
+    /**
+     * 전체 회차 목록 조회 (커서, 커서 회차 미만 최신순, cursor 가 없으면 첫 페이지)
+     * DRAW_NO 인덱스 범위 조회라서 얼마나 뒤 페이지든 비용이 같음
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LottoHistoryResponse> getDrawsBefore(String cursor, int size) {
+        CursorPageResponse.validateSize(size);
+        int drawNo = cursor != null ? PageCursor.decodeDrawNo(cursor) : Integer.MAX_VALUE;
+
+        List<LottoHistory> draws = lottoHistoryRepository
+                .findByDrawNoLessThanAndDeleteYnAndUseYnOrderByDrawNoDesc(drawNo, "N", "Y", Limit.of(size + 1));
+
+        return CursorPageResponse.of(draws, size, LottoHistoryResponse::from,
+                draw -> PageCursor.encodeDrawNo(draw.getDrawNo()));
+    }
+
     /**
      * 최신 회차 당첨 번호 등록
      */
@@ -70,7 +113,44 @@ public class LottoHistoryService {
             return LottoHistoryResponse.from(existing);
         }
 
-        LottoHistory entity = LottoHistory.builder()
+        LottoHistory saved = lottoHistoryRepository.saveAndFlush(toEntity(request));
+
+        // 커밋 후 메모리 저장소, 번호 인덱스, 조합 테이블, 회차 캐시에 반영
+        eventPublisher.publishEvent(new DrawPublishedEvent(saved));
+        return LottoHistoryResponse.from(saved);
+    }
+
+    /**
+     * 여러 회차 일괄 등록 (백필용, 이미 있는 회차는 스킵)
+     * 커밋 후 회차마다 DrawPublishedEvent 로 메모리 저장소와 캐시에 반영
+     * @return 새로 저장된 회차 번호
+     */
+    @Transactional
+    public List<Integer> createLottoHistories(List<LottoHistoryCreateRequest> requests) {
+        List<LottoHistory> entities = new ArrayList<>(requests.size());
+        for (LottoHistoryCreateRequest request : requests) {
+            if (lottoHistoryRepository.existsByDrawNo(request.getDrawNo())) {
+                log.info("{}회차는 이미 등록되어 있습니다. 스킵합니다.", request.getDrawNo());
+                continue;
+            }
+            entities.add(toEntity(request));
+        }
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        List<LottoHistory> saved = lottoHistoryRepository.saveAll(entities);
+
+        List<Integer> savedDrawNos = new ArrayList<>(saved.size());
+        for (LottoHistory draw : saved) {
+            eventPublisher.publishEvent(new DrawPublishedEvent(draw));
+            savedDrawNos.add(draw.getDrawNo());
+        }
+        return savedDrawNos;
+    }
+
+    private LottoHistory toEntity(LottoHistoryCreateRequest request) {
+        return LottoHistory.builder()
                 .drawNo(request.getDrawNo())
                 .drawDate(request.getDrawDate())
                 .number1(request.getNumber1())
@@ -91,8 +171,5 @@ public class LottoHistoryService {
                 .deleteYn("N")
                 .useYn("Y")
                 .build();
-
-        LottoHistory saved = lottoHistoryRepository.saveAndFlush(entity);
-        return LottoHistoryResponse.from(saved);
     }
 }
@@ -0,0 +1,409 @@
+package hhammong.apilotto.service;
+
+import hhammong.apilotto.dto.ApiResponse;
+import hhammong.apilotto.dto.CoOccurrenceResponse;
+import hhammong.apilotto.dto.HotColdNumbersResponse;
+import hhammong.apilotto.dto.LottoNumberStatsResponse;
+import hhammong.apilotto.dto.NumberComboCountResponse;
+import hhammong.apilotto.dto.NumberStatsResponse;
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.event.DrawPublishedEvent;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.util.LottoMatchUtils;
+import hhammong.apilotto.util.TopKTracker;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 번호별 출현 통계 (빈도 / 마지막 출현 / 보너스 빈도 / 최근 N회차 빈도)
+ * - 기동 시 메모리 저장소에서 한 번 집계, 이후 새 회차는 카운터만 갱신 (번호 6개 x 구간 수)
+ * - 최근 N회차 빈도는 최근 회차 비트마스크 ring buffer 로 구간에서 빠지는 회차만 빼서 유지
+ * - 갱신할 때마다 응답 JSON 을 미리 만들어 두고 요청은 그대로 내려줌
+ * - 최신 회차보다 이전 회차가 들어오면 (백필 / 수정) 저장소 스냅샷으로 다시 집계
+ * - 번호 쌍 / 삼중 동시 출현 횟수 (회차마다 쌍 15개, 삼중 20개만 갱신), 상위 목록은 TopKTracker heap 으로 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LottoStatisticsService {
+
+    private static final int SLOTS = LottoMatchUtils.MAX_NUMBER + 1;
+
+    // C(45, 3)
+    private static final int TRIPLES = 14_190;
+
+    // 삼중 colex 순위 → 번호 3개 비트마스크
+    private static final long[] TRIPLE_MASKS = new long[TRIPLES];
+
+    static {
+        for (int c = 3; c <= LottoMatchUtils.MAX_NUMBER; c++) {
+            for (int b = 2; b < c; b++) {
+                for (int a = 1; a < b; a++) {
+                    TRIPLE_MASKS[tripleIndex(a, b, c)] = (1L << a) | (1L << b) | (1L << c);
+                }
+            }
+        }
+    }
+
+    private final DrawHistoryStore drawHistoryStore;
+    private final JsonMapper jsonMapper;
+
+    @Value("${lotto.stats.windows:10,50,100}")
+    private int[] windows;
+
+    @Value("${lotto.stats.hot-cold-size:6}")
+    private int hotColdSize;
+
+    @Value("${lotto.stats.top-k-max:100}")
+    private int topKMax;
+
+    // 카운터 (synchronized 메서드 안에서만 변경)
+    private final int[] frequency = new int[SLOTS];
+    private final int[] bonusFrequency = new int[SLOTS];
+    private final int[] lastSeen = new int[SLOTS];
+    private int[][] windowFrequency;
+    private int totalDraws;
+    private int latestDrawNo;
+
+    // 번호 쌍 동시 출현 횟수 (46 x 46 행렬, a < b 인 [a * 46 + b] 만 사용)
+    private final int[] pairCounts = new int[SLOTS * SLOTS];
+    // 번호 삼중 동시 출현 횟수 (a < b < c 의 colex 순위)
+    private final int[] tripleCounts = new int[TRIPLES];
+    private TopKTracker topPairs;
+    private TopKTracker topTriples;
+
+    // 최근 회차 비트마스크 (가장 큰 구간 크기만큼, head 가 다음 저장 위치)
+    private long[] recentMasks;
+    private int head;
+
+    // 미리 만든 응답 (갱신 시 통째로 교체)
+    private volatile Bodies bodies;
+
+    /**
+     * 미리 직렬화한 응답 본문 + strong ETag
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Body {
+        private final byte[] json;
+        private final String etag;
+    }
+
+    private record Bodies(Body numbers, Map<Integer, Body> hotCold,
+                          int[] pairCounts, int[] tripleCounts,
+                          List<NumberComboCountResponse> topPairs, List<NumberComboCountResponse> topTriples,
+                          int latestDrawNo, int totalDraws) {
+    }
+
+    /**
+     * 기동 시 전체 회차 집계
+     */
+    @PostConstruct
+    public void init() {
+        windows = Arrays.stream(windows).filter(w -> w > 0).distinct().sorted().toArray();
+        if (windows.length == 0) {
+            throw new IllegalStateException("lotto.stats.windows 에 1 이상인 구간이 하나 이상 필요합니다");
+        }
+        topPairs = new TopKTracker(pairCounts, topKMax);
+        topTriples = new TopKTracker(tripleCounts, topKMax);
+        rebuild();
+    }
+
+    /**
+     * 번호별 통계 응답
+     */
+    public Body getNumberStats() {
+        return bodies.numbers();
+    }
+
+    /**
+     * 최근 window 회차 핫 / 콜드 응답
+     */
+    public Body getHotCold(int window) {
+        Body body = bodies.hotCold().get(window);
+        if (body == null) {
+            throw new IllegalArgumentException(
+                    "지원하지 않는 구간입니다: " + window + " (가능한 구간: " + Arrays.toString(windows) + ")");
+        }
+        return body;
+    }
+
+    /**
+     * 함께 많이 나온 번호 쌍 상위 k개
+     */
+    public CoOccurrenceResponse getTopPairs(int k) {
+        Bodies current = bodies;
+        return toCoOccurrence(current, 2, current.topPairs(), k);
+    }
+
+    /**
+     * 함께 많이 나온 번호 삼중 상위 k개
+     */
+    public CoOccurrenceResponse getTopTriples(int k) {
+        Bodies current = bodies;
+        return toCoOccurrence(current, 3, current.topTriples(), k);
+    }
+
+    /**
+     * 번호 2개가 함께 나온 횟수
+     */
+    public NumberComboCountResponse getPairCount(int a, int b) {
+        long mask = LottoMatchUtils.bit(a) | LottoMatchUtils.bit(b);
+        List<Integer> numbers = validateCombo(mask, 2);
+        return NumberComboCountResponse.builder()
+                .numbers(numbers)
+                .count(bodies.pairCounts()[numbers.get(0) * SLOTS + numbers.get(1)])
+                .build();
+    }
+
+    /**
+     * 번호 3개가 함께 나온 횟수
+     */
+    public NumberComboCountResponse getTripleCount(int a, int b, int c) {
+        long mask = LottoMatchUtils.bit(a) | LottoMatchUtils.bit(b) | LottoMatchUtils.bit(c);
+        List<Integer> numbers = validateCombo(mask, 3);
+        return NumberComboCountResponse.builder()
+                .numbers(numbers)
+                .count(bodies.tripleCounts()[tripleIndex(numbers.get(0), numbers.get(1), numbers.get(2))])
+                .build();
+    }
+
+    /**
+     * 새 회차 저장 커밋 후 반영 (메모리 저장소 다음)
+     */
+    @Order(4)
+    @TransactionalEventListener
+    public void onDrawPublished(DrawPublishedEvent event) {
+        add(event.getDraw());
+    }
+
+    /**
+     * 새 회차 반영 (최신 회차 다음이면 카운터만 갱신, 아니면 다시 집계)
+     */
+    public synchronized void add(LottoHistory draw) {
+        if (draw.getDrawNo() > latestDrawNo) {
+            apply(draw.getDrawNo(), draw.toNumbersMask(), draw.getBonusNumber());
+            publish();
+        } else {
+            log.info("{}회차가 최신 회차({}) 이전이므로 번호 통계를 다시 집계합니다", draw.getDrawNo(), latestDrawNo);
+            rebuild();
+        }
+    }
+
+    /**
+     * 메모리 저장소 스냅샷으로 처음부터 집계
+     */
+    public synchronized void rebuild() {
+        Arrays.fill(frequency, 0);
+        Arrays.fill(bonusFrequency, 0);
+        Arrays.fill(lastSeen, 0);
+        Arrays.fill(pairCounts, 0);
+        Arrays.fill(tripleCounts, 0);
+        topPairs.clear();
+        topTriples.clear();
+        windowFrequency = new int[windows.length][SLOTS];
+        recentMasks = new long[windows[windows.length - 1]];
+        head = 0;
+        totalDraws = 0;
+        latestDrawNo = 0;
+
+        DrawHistoryStore.Snapshot draws = drawHistoryStore.snapshot();
+        for (int i = 0; i < draws.size(); i++) {
+            apply(draws.drawNo(i), draws.mask(i), draws.bonus(i));
+        }
+        publish();
+
+        log.info("번호별 출현 통계 집계 완료 ({}회차)", totalDraws);
+    }
+
+    // 회차 1개 반영 (회차 오름차순으로만 호출)
+    private void apply(int drawNo, long mask, int bonusNumber) {
+        // 1. 구간에서 빠지는 회차 (구간 크기 - 1 번째 이전 회차)
+        for (int w = 0; w < windows.length; w++) {
+            if (totalDraws >= windows[w]) {
+                subtract(windowFrequency[w], recent(windows[w] - 1));
+            }
+        }
+
+        // 2. 새 회차
+        long remaining = mask;
+        while (remaining != 0) {
+            int number = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+
+            frequency[number]++;
+            lastSeen[number] = drawNo;
+            for (int[] counts : windowFrequency) {
+                counts[number]++;
+            }
+        }
+        if (bonusNumber >= LottoMatchUtils.MIN_NUMBER && bonusNumber <= LottoMatchUtils.MAX_NUMBER) {
+            bonusFrequency[bonusNumber]++;
+        }
+
+        // 3. 쌍 / 삼중 (번호 오름차순)
+        int[] drawn = new int[Long.bitCount(mask)];
+        remaining = mask;
+        for (int i = 0; remaining != 0; i++) {
+            drawn[i] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        for (int i = 0; i < drawn.length; i++) {
+            for (int j = i + 1; j < drawn.length; j++) {
+                int pair = drawn[i] * SLOTS + drawn[j];
+                pairCounts[pair]++;
+                topPairs.incremented(pair);
+
+                for (int k = j + 1; k < drawn.length; k++) {
+                    int triple = tripleIndex(drawn[i], drawn[j], drawn[k]);
+                    tripleCounts[triple]++;
+                    topTriples.incremented(triple);
+                }
+            }
+        }
+
+        recentMasks[head] = mask;
+        head = (head + 1) % recentMasks.length;
+        totalDraws++;
+        latestDrawNo = drawNo;
+    }
+
+    // i번째 이전 회차 비트마스크 (0 = 가장 최근)
+    private long recent(int i) {
+        return recentMasks[Math.floorMod(head - 1 - i, recentMasks.length)];
+    }
+
+    private static void subtract(int[] counts, long mask) {
+        long remaining = mask;
+        while (remaining != 0) {
+            int number = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            counts[number]--;
+        }
+    }
+
+    // 현재 카운터로 응답 본문 생성 후 교체
+    private void publish() {
+        List<NumberStatsResponse> numbers = new ArrayList<>(LottoMatchUtils.MAX_NUMBER);
+        for (int n = LottoMatchUtils.MIN_NUMBER; n <= LottoMatchUtils.MAX_NUMBER; n++) {
+            Map<Integer, Integer> byWindow = new LinkedHashMap<>();
+            for (int w = 0; w < windows.length; w++) {
+                byWindow.put(windows[w], windowFrequency[w][n]);
+            }
+            numbers.add(NumberStatsResponse.builder()
+                    .number(n)
+                    .frequency(frequency[n])
+                    .bonusFrequency(bonusFrequency[n])
+                    .lastSeenDrawNo(lastSeen[n])
+                    .drawsSinceLastSeen(latestDrawNo - lastSeen[n])
+                    .windowFrequency(byWindow)
+                    .build());
+        }
+
+        LottoNumberStatsResponse numberStats = LottoNumberStatsResponse.builder()
+                .latestDrawNo(latestDrawNo)
+                .totalDraws(totalDraws)
+                .windows(Arrays.stream(windows).boxed().toList())
+                .numbers(numbers)
+                .build();
+        Body numbersBody = toBody(ApiResponse.success(numberStats, "번호별 통계 조회 성공"));
+
+        Map<Integer, Body> hotColdBodies = new HashMap<>();
+        for (int window : windows) {
+            hotColdBodies.put(window, toBody(ApiResponse.success(hotCold(numbers, window), "핫/콜드 번호 조회 성공")));
+        }
+
+        // 쌍 / 삼중은 복사본을 넘겨서 조회가 갱신 중인 배열을 보지 않게 함
+        List<NumberComboCountResponse> pairs = new ArrayList<>(topPairs.capacity());
+        for (int pair : topPairs.top()) {
+            pairs.add(toCombo((1L << (pair / SLOTS)) | (1L << (pair % SLOTS)), pairCounts[pair]));
+        }
+        List<NumberComboCountResponse> triples = new ArrayList<>(topTriples.capacity());
+        for (int triple : topTriples.top()) {
+            triples.add(toCombo(TRIPLE_MASKS[triple], tripleCounts[triple]));
+        }
+
+        bodies = new Bodies(numbersBody, Map.copyOf(hotColdBodies),
+                pairCounts.clone(), tripleCounts.clone(), List.copyOf(pairs), List.copyOf(triples),
+                latestDrawNo, totalDraws);
+    }
+
+    private HotColdNumbersResponse hotCold(List<NumberStatsResponse> numbers, int window) {
+        Comparator<NumberStatsResponse> byCount = Comparator.comparing(s -> s.getWindowFrequency().get(window));
+
+        List<NumberStatsResponse> hot = numbers.stream()
+                .sorted(byCount.reversed().thenComparing(NumberStatsResponse::getNumber))
+                .limit(hotColdSize)
+                .toList();
+        List<NumberStatsResponse> cold = numbers.stream()
+                .sorted(byCount
+                        .thenComparing(NumberStatsResponse::getDrawsSinceLastSeen, Comparator.reverseOrder())
+                        .thenComparing(NumberStatsResponse::getNumber))
+                .limit(hotColdSize)
+                .toList();
+
+        return HotColdNumbersResponse.builder()
+                .latestDrawNo(latestDrawNo)
+                .window(window)
+                .hot(hot)
+                .cold(cold)
+                .build();
+    }
+
+    private CoOccurrenceResponse toCoOccurrence(Bodies current, int comboSize,
+                                                List<NumberComboCountResponse> top, int k) {
+        if (k < 1 || k > topKMax) {
+            throw new IllegalArgumentException("k 는 1 ~ " + topKMax + " 사이여야 합니다: " + k);
+        }
+        return CoOccurrenceResponse.builder()
+                .latestDrawNo(current.latestDrawNo())
+                .totalDraws(current.totalDraws())
+                .comboSize(comboSize)
+                .combos(top.subList(0, Math.min(k, top.size())))
+                .build();
+    }
+
+    private static NumberComboCountResponse toCombo(long mask, int count) {
+        return NumberComboCountResponse.builder()
+                .numbers(LottoMatchUtils.toList(mask))
+                .count(count)
+                .build();
+    }
+
+    // 1 ~ 45 범위의 서로 다른 번호 size 개인지 확인 후 오름차순 목록
+    private static List<Integer> validateCombo(long mask, int size) {
+        if (Long.bitCount(mask) != size) {
+            throw new IllegalArgumentException("1 ~ 45 사이의 서로 다른 번호 " + size + "개가 필요합니다");
+        }
+        return LottoMatchUtils.toList(mask);
+    }
+
+    // a < b < c 의 colex 순위 = C(a-1, 1) + C(b-1, 2) + C(c-1, 3)
+    private static int tripleIndex(int a, int b, int c) {
+        return (a - 1) + (b - 1) * (b - 2) / 2 + (c - 1) * (c - 2) * (c - 3) / 6;
+    }
+
+    // JSON 직렬화 + 본문 CRC32 ETag (노드가 달라도 같은 통계면 같은 값)
+    private Body toBody(Object response) {
+        byte[] json = jsonMapper.writeValueAsBytes(response);
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return new Body(json, "\"stats-" + latestDrawNo + "-" + Long.toHexString(crc.getValue()) + "\"");
+    }
+}
@@ -0,0 +1,141 @@
+package hhammong.apilotto.service;
+
+import hhammong.apilotto.util.WinBitmap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * PREDICTIONS_HISTORY 행 → PREDICTION_WIN_HISTORY 비트맵 이관
+ * - 비트맵이 없거나 COMPLETE_YN = 'N' 인 예측번호만 PREDICTION_ID 순으로 page-size 개씩 처리
+ * - 정산이 먼저 붙인 회차와 합친 뒤 COMPLETE_YN = 'Y' 로 저장 (페이지마다 커밋, 중단돼도 이어서 실행 가능)
+ * - 정산 배치와 동시에 실행하지 않는다 (이관 중인 예측번호에 같은 순간 추가된 회차는 빠질 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PredictionWinHistoryMigrationService {
+
+    private static final String SELECT_PENDING_SQL =
+            "SELECT p.PREDICTION_ID, p.USER_ID FROM USER_PREDICTIONS p " +
+            "LEFT JOIN PREDICTION_WIN_HISTORY w ON w.PREDICTION_ID = p.PREDICTION_ID " +
+            "WHERE (w.PREDICTION_ID IS NULL OR w.COMPLETE_YN = 'N') AND p.PREDICTION_ID > ? " +
+            "ORDER BY p.PREDICTION_ID LIMIT ?";
+
+    private static final String LOCK_WINS_SQL =
+            "SELECT PREDICTION_ID, WIN_DRAWS, WIN_RANKS FROM PREDICTION_WIN_HISTORY " +
+            "WHERE PREDICTION_ID IN (:predictionIds) FOR UPDATE";
+
+    private static final String SELECT_HISTORY_SQL =
+            "SELECT \"PREDICTION_ID\", \"DRAW_NO\", \"RANK\" FROM \"PREDICTIONS_HISTORY\" " +
+            "WHERE \"PREDICTION_ID\" IN (:predictionIds)";
+
+    private static final String UPSERT_WINS_SQL =
+            "INSERT INTO PREDICTION_WIN_HISTORY (PREDICTION_ID, USER_ID, WIN_DRAWS, WIN_RANKS, WIN_COUNT, " +
+            "COMPLETE_YN, UPDATED_AT) VALUES (?, ?, ?, ?, ?, 'Y', now()) " +
+            "ON CONFLICT (PREDICTION_ID) DO UPDATE SET WIN_DRAWS = EXCLUDED.WIN_DRAWS, " +
+            "WIN_RANKS = EXCLUDED.WIN_RANKS, WIN_COUNT = EXCLUDED.WIN_COUNT, COMPLETE_YN = 'Y', UPDATED_AT = now()";
+
+    // 00000000-0000-0000-0000-000000000000 (DB 의 uuid 정렬 기준 최솟값)
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${lotto.win-history.migration.page-size:500}")
+    private int pageSize;
+
+    @Value("${lotto.win-history.migration.on-startup:false}")
+    private boolean migrateOnStartup;
+
+    /**
+     * 이관 대상 전체 처리
+     * @return 이관한 예측번호 수
+     */
+    public int migrate() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long startedAt = System.currentTimeMillis();
+
+        int migrated = 0;
+        UUID after = MIN_ID;
+        while (true) {
+            UUID cursor = after;
+            List<UUID[]> page = jdbcTemplate.query(SELECT_PENDING_SQL,
+                    (rs, rowNum) -> new UUID[]{
+                            rs.getObject("PREDICTION_ID", UUID.class),
+                            rs.getObject("USER_ID", UUID.class)},
+                    cursor, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            transaction.executeWithoutResult(status -> migratePage(page));
+            migrated += page.size();
+            after = page.get(page.size() - 1)[0];
+        }
+
+        log.info("당첨 비트맵 이관 완료: {}건, {}ms", migrated, System.currentTimeMillis() - startedAt);
+        return migrated;
+    }
+
+    /**
+     * 기동 시 이관 (lotto.win-history.migration.on-startup=true)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!migrateOnStartup) {
+            return;
+        }
+        Thread.ofVirtual().name("win-history-migration").start(() -> {
+            try {
+                migrate();
+            } catch (Exception e) {
+                log.error("당첨 비트맵 이관 중 오류 발생", e);
+            }
+        });
+    }
+
+    private void migratePage(List<UUID[]> page) {
+        Map<String, Object> params = Map.of("predictionIds", page.stream().map(row -> row[0]).toList());
+
+        // 1. 정산이 먼저 만든 비트맵 (잠금 후 읽음)
+        Map<UUID, WinBitmap> wins = new HashMap<>();
+        namedParameterJdbcTemplate.query(LOCK_WINS_SQL, params, rs -> {
+            wins.put(rs.getObject("PREDICTION_ID", UUID.class),
+                    WinBitmap.of(rs.getBytes("WIN_DRAWS"), rs.getBytes("WIN_RANKS")));
+        });
+
+        // 2. 기존 당첨 행 합치기 (같은 회차는 한 번만 들어감)
+        namedParameterJdbcTemplate.query(SELECT_HISTORY_SQL, params, rs -> {
+            int rank = rs.getInt("RANK");
+            if (rank < 1) {
+                return;
+            }
+            UUID predictionId = rs.getObject("PREDICTION_ID", UUID.class);
+            WinBitmap bitmap = wins.getOrDefault(predictionId, WinBitmap.empty());
+            wins.put(predictionId, bitmap.with(rs.getInt("DRAW_NO"), rank));
+        });
+
+        // 3. 완료 상태로 저장
+        List<Object[]> rows = new ArrayList<>(page.size());
+        for (UUID[] row : page) {
+            WinBitmap bitmap = wins.getOrDefault(row[0], WinBitmap.empty());
+            rows.add(new Object[]{row[0], row[1], bitmap.drawBytes(), bitmap.rankBytes(), bitmap.size()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_WINS_SQL, rows);
+    }
+}
@@ -0,0 +1,340 @@
+package hhammong.apilotto.service;
+
+import hhammong.apilotto.dto.TicketGenerateRequest;
+import hhammong.apilotto.dto.TicketGenerateSummary;
+import hhammong.apilotto.dto.UserPredictionCreateRequest;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.util.LottoMatchUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 조건부 랜덤 번호 생성 (포함 / 제외 번호, 합 범위, 홀짝, 연속 번호 길이, 과거 당첨번호 제외)
+ * - 비트마스크 rejection sampling : 포함 번호에서 시작해 후보 번호를 뽑고, 조건에 안 맞으면 버리고 다시 뽑음
+ * - worker 마다 SplittableRandom (root.split) 을 두고 라운드마다 worker 수만큼 chunk 를 병렬 생성
+ * - 라운드 결과는 요청 안에서 중복 제거 후 바로 내보냄 (다 모으지 않으므로 메모리는 마스크 Set 만큼)
+ * - 과거 당첨번호는 메모리 저장소 스냅샷 (LOTTO_HISTORY) 의 비트마스크로 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketGeneratorService {
+
+    // 1 ~ 45번 비트
+    private static final long ALL_NUMBERS = ((1L << (LottoMatchUtils.MAX_NUMBER + 1)) - 1) & ~1L;
+    // 홀수 번호 비트 (1, 3, 5, ...)
+    private static final long ODD_NUMBERS = 0xAAAAAAAAAAAAAAAAL & ALL_NUMBERS;
+
+    private final DrawHistoryStore drawHistoryStore;
+    private final JsonMapper jsonMapper;
+
+    @Value("${lotto.generator.parallelism:0}")
+    private int parallelism;
+
+    @Value("${lotto.generator.chunk-size:2048}")
+    private int chunkSize;
+
+    // 연속으로 이만큼 버려지면 조건을 만족하는 조합이 (거의) 없는 것으로 봄
+    @Value("${lotto.generator.max-rejections:200000}")
+    private int maxRejections;
+
+    /**
+     * 생성 결과를 NDJSON 으로 스트리밍
+     * - 한 줄에 UserPredictionCreateRequest 형태 {"numbers":[...]} 하나, 마지막 줄은 TicketGenerateSummary
+     * - 조건 검증과 첫 조합 탐색은 호출 시점에 처리 (불가능한 조건이면 스트림 시작 전에 400)
+     */
+    public StreamingResponseBody stream(TicketGenerateRequest request) {
+        Constraints constraints = compile(request);
+        int count = request.getCount();
+
+        return out -> {
+            long startedAt = System.currentTimeMillis();
+            StringBuilder line = new StringBuilder(32 * chunkSize);
+
+            int generated = generate(constraints, count, masks -> {
+                line.setLength(0);
+                for (long mask : masks) {
+                    appendLine(line, mask);
+                }
+                out.write(line.toString().getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+            });
+
+            TicketGenerateSummary summary = TicketGenerateSummary.builder()
+                    .requested(count)
+                    .generated(generated)
+                    .complete(generated == count)
+                    .elapsedMillis(System.currentTimeMillis() - startedAt)
+                    .build();
+            out.write(jsonMapper.writeValueAsBytes(summary));
+            out.write('\n');
+            out.flush();
+        };
+    }
+
+    /**
+     * 생성 결과를 등록 요청 목록으로 반환 (UserPredictionService.createPredictions 로 바로 등록)
+     * 요청 개수만큼 만들지 못하면 400
+     */
+    public List<UserPredictionCreateRequest> generateRequests(TicketGenerateRequest request) {
+        Constraints constraints = compile(request);
+        int count = request.getCount();
+
+        List<UserPredictionCreateRequest> requests = new ArrayList<>(count);
+        try {
+            generate(constraints, count, masks -> {
+                for (long mask : masks) {
+                    requests.add(UserPredictionCreateRequest.builder()
+                            .numbers(LottoMatchUtils.toList(mask))
+                            .memo(request.getMemo())
+                            .build());
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException(e);  // 목록에 담기만 하므로 발생하지 않음
+        }
+
+        if (requests.size() < count) {
+            throw new IllegalArgumentException(
+                    "조건을 만족하는 번호 조합을 " + count + "개 만들 수 없습니다 (생성 " + requests.size() + "개)");
+        }
+        return requests;
+    }
+
+    // ===== 생성 =====
+
+    @FunctionalInterface
+    private interface RoundConsumer {
+        void accept(long[] masks) throws IOException;
+    }
+
+    /**
+     * 라운드마다 worker 수만큼 병렬 생성 → 중복 제거 → consumer 전달
+     * 새 조합이 하나도 안 나온 라운드가 있거나 worker 가 rejection 한도에 걸리면 중단
+     * @return 생성한 조합 수
+     */
+    private int generate(Constraints constraints, int count, RoundConsumer consumer) throws IOException {
+        int workers = Math.max(1, parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        SplittableRandom root = new SplittableRandom();
+        SplittableRandom[] randoms = new SplittableRandom[workers];
+        for (int w = 0; w < workers; w++) {
+            randoms[w] = root.split();
+        }
+
+        Set<Long> seen = new HashSet<>(count * 2);
+        int generated = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (generated < count) {
+                // 1. 남은 개수를 worker 에 나눠서 병렬 생성
+                int remaining = count - generated;
+                int perWorker = Math.min(chunkSize, (remaining + workers - 1) / workers);
+                List<Future<long[]>> futures = new ArrayList<>(workers);
+                int[] sizes = new int[workers];
+                int total = 0;
+                for (int w = 0; w < workers && w * perWorker < remaining; w++) {
+                    SplittableRandom random = randoms[w];
+                    int size = Math.min(perWorker, remaining - w * perWorker);
+                    sizes[w] = size;
+                    total += size;
+                    futures.add(executor.submit(() -> sample(random, constraints, size)));
+                }
+
+                // 2. 중복 제거 (요청 안에서 같은 조합은 한 번만)
+                long[] accepted = new long[total];
+                int added = 0;
+                boolean exhausted = false;
+                for (int w = 0; w < futures.size(); w++) {
+                    long[] masks = await(futures.get(w));
+                    exhausted |= masks.length < sizes[w];
+                    for (long mask : masks) {
+                        if (seen.add(mask)) {
+                            accepted[added++] = mask;
+                        }
+                    }
+                }
+
+                if (added > 0) {
+                    consumer.accept(Arrays.copyOf(accepted, added));
+                    generated += added;
+                }
+                if (added == 0 || exhausted) {
+                    if (generated < count) {
+                        log.info("조건을 만족하는 새 조합을 더 찾지 못해 생성 중단 ({}/{})", generated, count);
+                    }
+                    break;
+                }
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * worker 1개 chunk (연속 rejection 이 한도를 넘으면 그때까지 만든 것만 반환)
+     */
+    private long[] sample(SplittableRandom random, Constraints constraints, int size) {
+        long[] masks = new long[size];
+        int n = 0;
+        int rejections = 0;
+        while (n < size) {
+            long mask = constraints.draw(random);
+            if (constraints.test(mask)) {
+                masks[n++] = mask;
+                rejections = 0;
+            } else if (++rejections > maxRejections) {
+                return Arrays.copyOf(masks, n);
+            }
+        }
+        return masks;
+    }
+
+    private static long[] await(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("번호 생성이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("번호 생성 중 오류 발생", e.getCause());
+        }
+    }
+
+    // {"numbers":[1,2,3,4,5,6]} + 줄바꿈 (UserPredictionCreateRequest JSON 과 같은 모양)
+    private static void appendLine(StringBuilder line, long mask) {
+        line.append("{\"numbers\":[");
+        long remaining = mask;
+        boolean first = true;
+        while (remaining != 0) {
+            if (!first) {
+                line.append(',');
+            }
+            line.append(Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+            first = false;
+        }
+        line.append("]}\n");
+    }
+
+    // ===== 조건 =====
+
+    /**
+     * 요청 검증 + 조건 컴파일, 첫 조합을 미리 찾아서 불가능한 조건은 바로 400
+     */
+    private Constraints compile(TicketGenerateRequest request) {
+        request.validate();
+
+        long include = request.getIncludeNumbers() != null ? LottoMatchUtils.toMask(request.getIncludeNumbers()) : 0L;
+        long exclude = request.getExcludeNumbers() != null ? LottoMatchUtils.toMask(request.getExcludeNumbers()) : 0L;
+        long pool = ALL_NUMBERS & ~include & ~exclude;
+        if (Long.bitCount(include) + Long.bitCount(pool) < 6) {
+            throw new IllegalArgumentException("제외할 번호가 너무 많아서 6개를 고를 수 없습니다");
+        }
+
+        long[] drawn = new long[0];
+        if (Boolean.TRUE.equals(request.getNotDrawnBefore())) {
+            DrawHistoryStore.Snapshot draws = drawHistoryStore.snapshot();
+            drawn = new long[draws.size()];
+            for (int i = 0; i < draws.size(); i++) {
+                drawn[i] = draws.mask(i);
+            }
+            Arrays.sort(drawn);
+        }
+
+        Constraints constraints = new Constraints(include, pool,
+                request.getMinSum() != null ? request.getMinSum() : 0,
+                request.getMaxSum() != null ? request.getMaxSum() : Integer.MAX_VALUE,
+                request.getOddCount() != null ? request.getOddCount() : -1,
+                request.getMaxConsecutive() != null ? request.getMaxConsecutive() : 6,
+                drawn);
+
+        if (sample(new SplittableRandom(), constraints, 1).length == 0) {
+            throw new IllegalArgumentException("조건을 만족하는 번호 조합을 찾을 수 없습니다");
+        }
+        return constraints;
+    }
+
+    /**
+     * 컴파일된 조건 (불변, worker 간 공유)
+     */
+    private static final class Constraints {
+
+        private final long include;
+        private final int[] pool;          // 뽑을 수 있는 번호 (포함 번호 제외)
+        private final int minSum;
+        private final int maxSum;
+        private final int oddCount;        // -1 이면 조건 없음
+        private final int maxConsecutive;
+        private final long[] drawn;        // 과거 당첨번호 마스크 (정렬, 조건 없으면 빈 배열)
+
+        Constraints(long include, long pool, int minSum, int maxSum, int oddCount, int maxConsecutive, long[] drawn) {
+            this.include = include;
+            this.pool = LottoMatchUtils.toList(pool).stream().mapToInt(Integer::intValue).toArray();
+            this.minSum = minSum;
+            this.maxSum = maxSum;
+            this.oddCount = oddCount;
+            this.maxConsecutive = maxConsecutive;
+            this.drawn = drawn;
+        }
+
+        /**
+         * 포함 번호 + 후보 번호 중 무작위로 6개가 될 때까지 (이미 뽑은 번호면 다시 뽑음)
+         */
+        long draw(SplittableRandom random) {
+            long mask = include;
+            while (Long.bitCount(mask) < 6) {
+                mask |= 1L << pool[random.nextInt(pool.length)];
+            }
+            return mask;
+        }
+
+        boolean test(long mask) {
+            if (oddCount >= 0 && Long.bitCount(mask & ODD_NUMBERS) != oddCount) {
+                return false;
+            }
+            if (maxConsecutive < 6 && longestRun(mask) > maxConsecutive) {
+                return false;
+            }
+            int sum = sum(mask);
+            if (sum < minSum || sum > maxSum) {
+                return false;
+            }
+            return drawn.length == 0 || Arrays.binarySearch(drawn, mask) < 0;
+        }
+
+        // 연속된 1비트 최대 길이 (한 번 AND 할 때마다 모든 구간이 1씩 줄어듦)
+        private static int longestRun(long mask) {
+            int run = 0;
+            while (mask != 0) {
+                mask &= mask >>> 1;
+                run++;
+            }
+            return run;
+        }
+
+        private static int sum(long mask) {
+            int sum = 0;
+            while (mask != 0) {
+                sum += Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+            }
+            return sum;
+        }
+    }
+}
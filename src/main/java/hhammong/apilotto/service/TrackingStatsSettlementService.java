@@ -0,0 +1,37 @@
+package hhammong.apilotto.service;
+
+import hhammong.apilotto.repository.UserPredictionTrackingStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 추적 통계 회차 반영 (전체 재계산 없이 변경분만 적용)
+ * - 등수별 UPDATE 5번 + 나머지 UPDATE 1번
+ * - 행마다 LAST_SETTLED_DRAW_NO 로 반영 여부를 기록하므로 회차 단위로 멱등
+ * - 뒤 회차가 먼저 정산된 뒤에 저장된 회차(조회 실패 후 백필 등)는 증분으로 붙일 수 없으므로
+ *   이미 뒤 회차까지 반영된 행만 원본 기준으로 다시 집계 (드문 경우라 전체 재계산 비용 감수)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrackingStatsSettlementService {
+
+    private final UserPredictionTrackingStatsRepository trackingStatsRepository;
+
+    @Transactional
+    public void settle(int drawNo) {
+        int winners = 0;
+        for (int rank = 1; rank <= 5; rank++) {
+            winners += trackingStatsRepository.applyWinningDraw(drawNo, rank);
+        }
+        int others = trackingStatsRepository.applyLosingDraw(drawNo);
+        int recomputed = trackingStatsRepository.recomputeForLateDraw(drawNo);
+
+        if (recomputed > 0) {
+            log.warn("{}회차는 뒤 회차보다 늦게 정산되어 {}건을 다시 집계했습니다", drawNo, recomputed);
+        }
+        log.info("{}회차 추적 통계 반영 완료 (당첨 {}건, 미당첨 {}건, 재집계 {}건)", drawNo, winners, others, recomputed);
+    }
+}
@@ -0,0 +1,47 @@
+package hhammong.apilotto.service;
+
+import hhammong.apilotto.dto.PredictionDashboardItem;
+import hhammong.apilotto.dto.UserDashboardResponse;
+import hhammong.apilotto.exception.ResourceNotFoundException;
+import hhammong.apilotto.repository.UserPredictionRepository;
+import hhammong.apilotto.repository.UserRepository;
+import hhammong.apilotto.store.DashboardCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자 대시보드 (내 번호 + 번호별 과거 / 추적 통계 + 사용자 합계)
+ * 캐시 적중 시 DB 커넥션을 잡지 않도록 서비스 트랜잭션 없이 조회 (쿼리는 repository 읽기 전용 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDashboardService {
+
+    private final UserPredictionRepository predictionRepository;
+    private final UserRepository userRepository;
+    private final DashboardCache dashboardCache;
+
+    public UserDashboardResponse getDashboard(UUID userId) {
+        UserDashboardResponse cached = dashboardCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 1. 번호 + 통계 (LEFT JOIN 쿼리 1번)
+        long generation = dashboardCache.generation();
+        List<PredictionDashboardItem> items = predictionRepository.findDashboardItems(userId);
+
+        // 2. 번호가 없을 때만 사용자 존재 확인
+        if (items.isEmpty() && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userId);
+        }
+
+        // 3. 사용자 합계
+        UserDashboardResponse response = UserDashboardResponse.of(userId, items);
+        dashboardCache.put(userId, response, generation);
+        return response;
+    }
+}
@@ -4,24 +4,36 @@ import hhammong.apilotto.dto.AllNumbersCheckResponse;
 import hhammong.apilotto.dto.DrawMatchResult;
 import hhammong.apilotto.dto.MyNumberCheckResult;
 import hhammong.apilotto.dto.PredictionHistoryResponse;
+import hhammong.apilotto.dto.UserPredictionSummary;
 import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.entity.PredictionWinHistory;
 import hhammong.apilotto.entity.PredictionsHistory;
 import hhammong.apilotto.entity.UserPrediction;
 import hhammong.apilotto.exception.ResourceNotFoundException;
-import hhammong.apilotto.repository.LottoHistoryRepository;
+import hhammong.apilotto.repository.PredictionWinHistoryRepository;
 import hhammong.apilotto.repository.PredictionsHistoryRepository;
 import hhammong.apilotto.repository.UserPredictionRepository;
+import hhammong.apilotto.store.DrawCache;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.store.DrawNumberIndex;
 import hhammong.apilotto.util.LottoMatchUtils;
+import hhammong.apilotto.util.RankAccumulator;
 import hhammong.apilotto.util.LottoMatchUtils.MatchResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,16 +41,19 @@ import java.util.stream.Collectors;
 public class UserPredictionCheckService {
 
     private final UserPredictionRepository predictionRepository;
-    private final LottoHistoryRepository lottoHistoryRepository;
     private final PredictionsHistoryRepository predictionsHistoryRepository;
+    private final PredictionWinHistoryRepository predictionWinHistoryRepository;
+    private final DrawHistoryStore drawHistoryStore;
+    private final DrawNumberIndex drawNumberIndex;
+    private final DrawCache drawCache;
+    private final JsonMapper jsonMapper;
 
     /**
      * 내가 등록한 모든 번호를 최신 회차와 비교
      */
     public AllNumbersCheckResponse checkAllMyNumbers(UUID userId) {
         // 1. 최신 회차 조회
-        LottoHistory latestDraw = lottoHistoryRepository
-                .findTopByDeleteYnAndUseYnOrderByDrawNoDesc("N", "Y")
+        LottoHistory latestDraw = drawCache.getLatest()
                 .orElseThrow(() -> new ResourceNotFoundException("당첨번호가 존재하지 않습니다"));
 
         // 2. 당첨번호 리스트 생성
@@ -51,26 +66,32 @@ public class UserPredictionCheckService {
                 latestDraw.getNumber6().intValue()
         );
 
-        // 3. 내 번호 목록 조회
-        List<UserPrediction> myPredictions = predictionRepository.findByUser_UserIdAndDeleteYnOrderByCreatedAtDesc(userId, "N");
+        long winningMask = latestDraw.toNumbersMask();
 
-        // 4. 각 번호마다 매칭 계산
-        List<MyNumberCheckResult> results = myPredictions.stream()
-                .map(prediction -> checkSingleNumber(prediction, winningNumbers,
-                        latestDraw.getBonusNumber().intValue(), latestDraw))
-                .collect(Collectors.toList());
+        // 3. 내 번호 목록 조회 (projection 쿼리 1번)
+        List<UserPredictionSummary> myPredictions = predictionRepository.findSummaries(userId);
 
-        // 5. 통계 계산
-        return buildResponse(latestDraw, winningNumbers, results);
+        // 4. 각 번호마다 매칭 계산 (통계도 같은 순회에서 집계)
+        List<MyNumberCheckResult> results = new ArrayList<>(myPredictions.size());
+        RankAccumulator stats = new RankAccumulator();
+        for (UserPredictionSummary prediction : myPredictions) {
+            MyNumberCheckResult result = checkSingleNumber(prediction, winningMask,
+                    latestDraw.getBonusNumber().intValue(), latestDraw);
+            stats.add(result.getRank(), result.getPrizeAmount());
+            results.add(result);
+        }
+
+        // 5. 응답 생성
+        return buildResponse(latestDraw, winningNumbers, results, stats);
     }
 
     /**
      * 개별 번호 매칭 계산
      */
     private MyNumberCheckResult checkSingleNumber(
-            UserPrediction prediction,
-            List<Integer> winningNumbers,
-            Integer bonusNumber,
+            UserPredictionSummary prediction,
+            long winningMask,
+            int bonusNumber,
             LottoHistory draw) {
 
         // 내 번호 리스트
@@ -85,7 +106,7 @@ public class UserPredictionCheckService {
 
         // 매칭 계산
         MatchResult matchResult = LottoMatchUtils.calculateMatch(
-                myNumbers, winningNumbers, bonusNumber);
+                prediction.toNumbersMask(), winningMask, bonusNumber);
 
         // 당첨금 계산
         Long prizeAmount = getPrizeAmount(draw, matchResult.getRank());
@@ -126,18 +147,19 @@ public class UserPredictionCheckService {
     private AllNumbersCheckResponse buildResponse(
             LottoHistory draw,
             List<Integer> winningNumbers,
-            List<MyNumberCheckResult> results) {
+            List<MyNumberCheckResult> results,
+            RankAccumulator stats) {
 
-        // 통계 계산
+        // 통계 (매칭하면서 집계한 값)
         int totalCount = results.size();
-        int winningCount = (int) results.stream().filter(MyNumberCheckResult::getIsWinning).count();
-        long totalPrize = results.stream().mapToLong(MyNumberCheckResult::getPrizeAmount).sum();
+        int winningCount = stats.getWinningCount();
+        long totalPrize = stats.getTotalPrize();
 
-        int rank1 = (int) results.stream().filter(r -> Integer.valueOf(1).equals(r.getRank())).count();
-        int rank2 = (int) results.stream().filter(r -> Integer.valueOf(2).equals(r.getRank())).count();
-        int rank3 = (int) results.stream().filter(r -> Integer.valueOf(3).equals(r.getRank())).count();
-        int rank4 = (int) results.stream().filter(r -> Integer.valueOf(4).equals(r.getRank())).count();
-        int rank5 = (int) results.stream().filter(r -> Integer.valueOf(5).equals(r.getRank())).count();
+        int rank1 = stats.count(1);
+        int rank2 = stats.count(2);
+        int rank3 = stats.count(3);
+        int rank4 = stats.count(4);
+        int rank5 = stats.count(5);
 
         // 메시지 생성
         String message = generateSummaryMessage(totalCount, winningCount, totalPrize,
@@ -215,26 +237,53 @@ public class UserPredictionCheckService {
         // 3. 시작 회차 결정
         Integer startDrawNo = determineStartDrawNo(prediction);
 
-        // ✨ 4. PREDICTIONS_HISTORY에서 당첨 이력만 조회!
+        // 4. 당첨 회차 비트맵이 있으면 조인 없이 메모리 회차 저장소로 변환
+        PredictionWinHistory winHistory = predictionWinHistoryRepository.findById(predictionId)
+                .filter(PredictionWinHistory::isComplete)
+                .orElse(null);
+        if (winHistory != null) {
+            long myMask = prediction.toNumbersMask();
+            DrawHistoryStore.Snapshot allDraws = drawHistoryStore.snapshot();
+
+            List<DrawMatchResult> history = new ArrayList<>(winHistory.getWinCount());
+            RankAccumulator stats = new RankAccumulator();
+            winHistory.toBitmap().forEach((drawNo, rank) -> {
+                int index = allDraws.indexOf(drawNo);
+                if (index >= 0) {
+                    DrawMatchResult result = calculateDrawMatch(myMask, allDraws, index);
+                    stats.add(rank, result.getPrizeAmount(), drawNo);
+                    history.add(result);
+                }
+            });
+            Collections.reverse(history);  // 최신 회차부터
+
+            return buildHistoryResponse(prediction, myNumbers, startDrawNo, allDraws, history, stats);
+        }
+
+        // ✨ 4-1. 비트맵 이관 전이면 PREDICTIONS_HISTORY에서 당첨 이력만 조회!
         List<PredictionsHistory> winningHistories = predictionsHistoryRepository
                 .findByPredictionIdOrderByDrawNoAsc(predictionId);
 
-        // 5. DrawMatchResult로 변환 (LOTTO_HISTORY 조인 필요)
-        List<DrawMatchResult> history = winningHistories.stream()
-                .map(this::convertToDrawMatchResult)
-                .sorted(Comparator.comparing(DrawMatchResult::getDrawNo).reversed())
-                .collect(Collectors.toList());
+        // 5. DrawMatchResult로 변환 (LOTTO_HISTORY 조인 필요), 통계도 같은 순회에서 집계
+        List<DrawMatchResult> history = new ArrayList<>(winningHistories.size());
+        RankAccumulator stats = new RankAccumulator();
+        for (PredictionsHistory ph : winningHistories) {
+            DrawMatchResult result = convertToDrawMatchResult(ph);
+            stats.add(result.getRank(), result.getPrizeAmount(), result.getDrawNo());
+            history.add(result);
+        }
+        history.sort(Comparator.comparing(DrawMatchResult::getDrawNo).reversed());
 
-        // 6. 통계 계산 및 응답 생성
-        return buildHistoryResponse(prediction, myNumbers, startDrawNo, history);
+        // 6. 응답 생성
+        return buildHistoryResponse(prediction, myNumbers, startDrawNo, drawHistoryStore.snapshot(), history, stats);
     }
 
     /**
      * PredictionsHistory → DrawMatchResult 변환
      */
     private DrawMatchResult convertToDrawMatchResult(PredictionsHistory ph) {
-        // LOTTO_HISTORY에서 회차 정보 조회 (캐싱 권장)
-        LottoHistory draw = lottoHistoryRepository.findById(ph.getHistoryId())
+        // 회차 정보 조회 (회차 캐시)
+        LottoHistory draw = drawCache.findByHistoryId(ph.getHistoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("회차 정보를 찾을 수 없습니다"));
 
         List<Integer> winningNumbers = Arrays.asList(
@@ -273,9 +322,19 @@ public class UserPredictionCheckService {
     }
 
     /**
-     * 특정 번호의 전체 이력 조회
+     * 특정 번호의 전체 이력 조회 (시작 회차 이후 모든 회차)
      */
     public PredictionHistoryResponse getPredictionHistory(UUID userId, UUID predictionId) {
+        return getPredictionHistory(userId, predictionId, false);
+    }
+
+    /**
+     * 특정 번호의 이력 조회
+     * - winningOnly = false : 시작 회차 이후 모든 회차를 한 건씩 (꽝 포함)
+     * - winningOnly = true  : 당첨 회차(5등 이상)만, 번호별 회차 인덱스로 당첨 회차만 계산
+     * 통계는 두 경우 모두 같음
+     */
+    public PredictionHistoryResponse getPredictionHistory(UUID userId, UUID predictionId, boolean winningOnly) {
         // 1. 내 번호 조회
         UserPrediction prediction = predictionRepository
                 .findByPredictionIdAndUser_UserIdAndDeleteYn(predictionId, userId, "N")
@@ -294,18 +353,34 @@ public class UserPredictionCheckService {
         // 3. 시작 회차 결정
         Integer startDrawNo = determineStartDrawNo(prediction);
 
-        // 4. 시작 회차 이후 모든 회차 조회
-        List<LottoHistory> allDraws = lottoHistoryRepository
-                .findByDrawNoGreaterThanEqualAndDeleteYnAndUseYnOrderByDrawNoAsc(
-                        startDrawNo, "N", "Y");
-
-        // 5. 각 회차마다 매칭 계산
-        List<DrawMatchResult> history = allDraws.stream()
-                .map(draw -> calculateDrawMatch(myNumbers, draw))
-                .collect(Collectors.toList());
+        // 4. 시작 회차 이후 모든 회차 (메모리 저장소)
+        DrawHistoryStore.Snapshot allDraws = drawHistoryStore.snapshot();
+
+        // 5. 회차별 매칭 계산 (당첨 회차만이면 번호별 회차 인덱스)
+        long myMask = prediction.toNumbersMask();
+        List<DrawMatchResult> history;
+        RankAccumulator stats = new RankAccumulator();
+        if (winningOnly) {
+            history = new ArrayList<>();
+            drawNumberIndex.forEachWin(myMask, startDrawNo, (drawNo, matchCount, hasBonus, rank) -> {
+                int index = allDraws.indexOf(drawNo);
+                if (index >= 0) {
+                    DrawMatchResult result = calculateDrawMatch(myMask, allDraws, index);
+                    stats.add(rank, result.getPrizeAmount(), drawNo);
+                    history.add(result);
+                }
+            });
+        } else {
+            history = new ArrayList<>(allDraws.countFrom(startDrawNo));
+            for (int i = allDraws.lowerBound(startDrawNo); i < allDraws.size(); i++) {
+                DrawMatchResult result = calculateDrawMatch(myMask, allDraws, i);
+                stats.add(result.getRank(), result.getPrizeAmount(), result.getDrawNo());
+                history.add(result);
+            }
+        }
 
-        // 6. 통계 계산 및 응답 생성
-        return buildHistoryResponse(prediction, myNumbers, startDrawNo, history);
+        // 6. 응답 생성
+        return buildHistoryResponse(prediction, myNumbers, startDrawNo, allDraws, history, stats);
     }
 
     /**
@@ -325,51 +400,39 @@ public class UserPredictionCheckService {
 
     /**
      * 시작 회차부터 현재까지 총 회차 수 계산
+     * - 이력을 계산한 snapshot 기준 (그 사이 추가된 회차는 세지 않음)
      */
-    private int getTotalDrawsSinceStart(Integer startDrawNo) {
-        LottoHistory latestDraw = lottoHistoryRepository
-                .findTopByDeleteYnAndUseYnOrderByDrawNoDesc("N", "Y")
-                .orElse(null);
-
-        if (latestDraw == null) {
+    private int getTotalDrawsSinceStart(DrawHistoryStore.Snapshot draws, Integer startDrawNo) {
+        if (draws.isEmpty()) {
             return 0;
         }
 
-        return latestDraw.getDrawNo() - startDrawNo + 1;
+        return draws.latestDrawNo() - startDrawNo + 1;
     }
 
     /**
      * 특정 회차와 내 번호 매칭 계산
      */
-    private DrawMatchResult calculateDrawMatch(List<Integer> myNumbers, LottoHistory draw) {
+    private DrawMatchResult calculateDrawMatch(long myMask, DrawHistoryStore.Snapshot draws, int index) {
         // 당첨번호 리스트
-        List<Integer> winningNumbers = Arrays.asList(
-                draw.getNumber1().intValue(),
-                draw.getNumber2().intValue(),
-                draw.getNumber3().intValue(),
-                draw.getNumber4().intValue(),
-                draw.getNumber5().intValue(),
-                draw.getNumber6().intValue()
-        );
+        long winningMask = draws.mask(index);
+        List<Integer> winningNumbers = LottoMatchUtils.toList(winningMask);
 
         // 매칭 계산
         MatchResult matchResult = LottoMatchUtils.calculateMatch(
-                myNumbers, winningNumbers, draw.getBonusNumber().intValue());
+                myMask, winningMask, draws.bonus(index));
 
         // 일치한 번호들 찾기
-        List<Integer> matchedNumbers = myNumbers.stream()
-                .filter(winningNumbers::contains)
-                .sorted()
-                .collect(Collectors.toList());
+        List<Integer> matchedNumbers = LottoMatchUtils.toList(myMask & winningMask);
 
         // 당첨금 계산
-        Long prizeAmount = getPrizeAmount(draw, matchResult.getRank());
+        Long prizeAmount = draws.prize(index, matchResult.isWinning() ? matchResult.getRank() : 0);
 
         return DrawMatchResult.builder()
-                .drawNo(draw.getDrawNo())
-                .drawDate(draw.getDrawDate())
+                .drawNo(draws.drawNo(index))
+                .drawDate(draws.drawDate(index))
                 .winningNumbers(winningNumbers)
-                .bonusNumber(draw.getBonusNumber().intValue())
+                .bonusNumber(draws.bonus(index))
                 .matchCount(matchResult.getMatchCount())
                 .hasBonus(matchResult.isHasBonus())
                 .rank(matchResult.getRank())
@@ -379,6 +442,66 @@ public class UserPredictionCheckService {
                 .build();
     }
 
+    /**
+     * 특정 번호의 전체 이력 스트리밍 (NDJSON)
+     * - 당첨 회차를 계산하는 대로 DrawMatchResult 한 줄씩 기록, 마지막 줄은 통계 (history 없음)
+     * - 목록을 모으지 않으므로 이력 길이와 상관없이 메모리 사용량 일정
+     * - 번호 조회는 호출 시점에 처리 (없으면 스트림 시작 전에 404)
+     */
+    public StreamingResponseBody streamPredictionHistory(UUID userId, UUID predictionId) {
+        UserPrediction prediction = predictionRepository
+                .findByPredictionIdAndUser_UserIdAndDeleteYn(predictionId, userId, "N")
+                .orElseThrow(() -> new ResourceNotFoundException("해당 번호를 찾을 수 없습니다"));
+
+        Integer startDrawNo = determineStartDrawNo(prediction);
+        DrawHistoryStore.Snapshot allDraws = drawHistoryStore.snapshot();
+        long myMask = prediction.toNumbersMask();
+
+        return out -> {
+            RankAccumulator stats = new RankAccumulator();
+            int[] written = new int[1];
+
+            try {
+                drawNumberIndex.forEachWin(myMask, startDrawNo, (drawNo, matchCount, hasBonus, rank) -> {
+                    int index = allDraws.indexOf(drawNo);
+                    if (index < 0) {
+                        return;
+                    }
+                    DrawMatchResult result = calculateDrawMatch(myMask, allDraws, index);
+                    stats.add(rank, result.getPrizeAmount(), drawNo);
+
+                    // 첫 줄은 바로 내보내고 이후는 64줄마다
+                    writeLine(out, result);
+                    if (written[0]++ % 64 == 0) {
+                        flush(out);
+                    }
+                });
+
+                writeLine(out, summarize(prediction, LottoMatchUtils.toList(myMask), startDrawNo, allDraws, stats));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+    }
+
+    private void flush(OutputStream out) {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(jsonMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * 이력 응답 생성 (통계 포함)
      */
@@ -386,54 +509,44 @@ public class UserPredictionCheckService {
             UserPrediction prediction,
             List<Integer> myNumbers,
             Integer startDrawNo,
-            List<DrawMatchResult> history) {
+            DrawHistoryStore.Snapshot draws,
+            List<DrawMatchResult> history,
+            RankAccumulator stats) {
 
-        // 기본 통계
-        /*int totalDraws = history.size();
-        int winningDraws = (int) history.stream()
-                .filter(h -> h.getRank() != null)
-                .count();*/
+        PredictionHistoryResponse response = summarize(prediction, myNumbers, startDrawNo, draws, stats);
+        response.setHistory(history);
+        return response;
+    }
 
-        int totalDraws = getTotalDrawsSinceStart(startDrawNo);  // 전체 참여 회차
-        int winningDraws = history.size();  // 당첨 회차 = history 개수
+    /**
+     * 누적 집계로 통계 응답 생성 (history 제외)
+     */
+    private PredictionHistoryResponse summarize(
+            UserPrediction prediction,
+            List<Integer> myNumbers,
+            Integer startDrawNo,
+            DrawHistoryStore.Snapshot draws,
+            RankAccumulator stats) {
 
-        // 등수별 카운트
-        int rank1 = (int) history.stream().filter(h -> Integer.valueOf(1).equals(h.getRank())).count();
-        int rank2 = (int) history.stream().filter(h -> Integer.valueOf(2).equals(h.getRank())).count();
-        int rank3 = (int) history.stream().filter(h -> Integer.valueOf(3).equals(h.getRank())).count();
-        int rank4 = (int) history.stream().filter(h -> Integer.valueOf(4).equals(h.getRank())).count();
-        int rank5 = (int) history.stream().filter(h -> Integer.valueOf(5).equals(h.getRank())).count();
+        int totalDraws = getTotalDrawsSinceStart(draws, startDrawNo);  // 전체 참여 회차
+        int winningDraws = stats.getWinningCount();
+        long totalPrize = stats.getTotalPrize();
 
         // 금액 통계
-        long totalPrize = history.stream()
-                .mapToLong(DrawMatchResult::getPrizeAmount)
-                .sum();
         long totalInvestment = totalDraws * 1000L;  // 회차당 1,000원
         long netProfit = totalPrize - totalInvestment;
         double returnRate = totalInvestment > 0
                 ? ((double) totalPrize / totalInvestment * 100)
                 : 0.0;
 
-        // 최고 등수 찾기
-        Integer bestRank = history.stream()
-                .map(DrawMatchResult::getRank)
-                .filter(rank -> rank != null)
-                .min(Integer::compareTo)
-                .orElse(null);
-
-        Integer bestDrawNo = null;
-        if (bestRank != null) {
-            bestDrawNo = history.stream()
-                    .filter(h -> bestRank.equals(h.getRank()))
-                    .map(DrawMatchResult::getDrawNo)
-                    .findFirst()
-                    .orElse(null);
-        }
+        // 최고 등수 (처음 달성한 회차)
+        Integer bestRank = stats.getBestRank();
+        Integer bestDrawNo = stats.getBestDrawNo();
 
         // 요약 메시지
         String message = generateHistorySummaryMessage(
                 totalDraws, winningDraws, totalPrize, netProfit, returnRate,
-                rank1, rank2, rank3, rank4, rank5, bestRank);
+                stats.count(1), stats.count(2), stats.count(3), stats.count(4), stats.count(5), bestRank);
 
         return PredictionHistoryResponse.builder()
                 .predictionId(prediction.getPredictionId())
@@ -441,14 +554,13 @@ public class UserPredictionCheckService {
                 .memo(prediction.getMemo())
                 .createdAt(prediction.getCreatedAt())
                 .startDrawNo(startDrawNo)
-                .history(history)
                 .totalDraws(totalDraws)
                 .winningDraws(winningDraws)
-                .rank1Count(rank1)
-                .rank2Count(rank2)
-                .rank3Count(rank3)
-                .rank4Count(rank4)
-                .rank5Count(rank5)
+                .rank1Count(stats.count(1))
+                .rank2Count(stats.count(2))
+                .rank3Count(stats.count(3))
+                .rank4Count(stats.count(4))
+                .rank5Count(stats.count(5))
                 .totalPrizeAmount(totalPrize)
                 .totalInvestment(totalInvestment)
                 .netProfit(netProfit)
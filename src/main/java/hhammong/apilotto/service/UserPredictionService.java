@@ -1,25 +1,46 @@
 package hhammong.apilotto.service;
 
+import hhammong.apilotto.dto.BulkPredictionImportResponse;
+import hhammong.apilotto.dto.BulkPredictionRowResult;
+import hhammong.apilotto.dto.CursorPageResponse;
 import hhammong.apilotto.dto.DrawMatchResult;
 import hhammong.apilotto.dto.PredictionHistoryResponse;
 import hhammong.apilotto.dto.UserPredictionCreateRequest;
 import hhammong.apilotto.dto.UserPredictionResponse;
+import hhammong.apilotto.dto.UserPredictionSummary;
 import hhammong.apilotto.entity.*;
+import hhammong.apilotto.event.PredictionsChangedEvent;
 import hhammong.apilotto.exception.DuplicateNumberException;
 import hhammong.apilotto.exception.ResourceNotFoundException;
 import hhammong.apilotto.repository.*;
+import hhammong.apilotto.store.CombinationOutcomeTable;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.store.DrawNumberIndex;
 import hhammong.apilotto.util.LottoMatchUtils;
+import hhammong.apilotto.util.PageCursor;
+import hhammong.apilotto.util.RankAccumulator;
+import hhammong.apilotto.util.WinBitmap;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,13 +48,29 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UserPredictionService {
 
+    // 일괄 등록: 동시 등록과 겹친 조합은 unique 인덱스(UX_USER_PREDICTIONS_USER_MASK)에 걸려 그 행만 건너뜀
+    private static final String INSERT_PREDICTION_SQL =
+            "INSERT INTO USER_PREDICTIONS (PREDICTION_ID, USER_ID, TARGET_DRAW_NO, " +
+            "PREDICTED_NUM1, PREDICTED_NUM2, PREDICTED_NUM3, PREDICTED_NUM4, PREDICTED_NUM5, PREDICTED_NUM6, " +
+            "PREDICTED_NUMBERS, NUMBERS_MASK, CREATED_AT, UPDATED_AT, DELETE_YN, USE_YN, MEMO, START_DRAW_ID) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now(), 'N', 'Y', ?, ?) " +
+            "ON CONFLICT (USER_ID, NUMBERS_MASK) WHERE DELETE_YN = 'N' DO NOTHING";
+
     private final UserPredictionRepository predictionRepository;
     private final UserRepository userRepository;
 
     private final PredictionsHistoryRepository predictionsHistoryRepository;
-    private final LottoHistoryRepository lottoHistoryRepository;
+    private final PredictionWinHistoryRepository predictionWinHistoryRepository;
+    private final DrawHistoryStore drawHistoryStore;
+    private final DrawNumberIndex drawNumberIndex;
+    private final CombinationOutcomeTable combinationOutcomeTable;
     private final UserPredictionHistoricalStatsRepository userPredictionHistoricalStatsRepository;
     private final UserPredictionTrackingStatsRepository userPredictionTrackingStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${lotto.bulk-import.max-rows:5000}")
+    private int bulkImportMaxRows;
 
     /**
      * 번호 등록
@@ -52,18 +89,9 @@ public class UserPredictionService {
         // 3. 번호 정렬
         List<Integer> sortedNumbers = request.getSortedNumbers();
 
-        // 4. 동일 번호 조합 이미 등록되었는지 확인
-        boolean exists = predictionRepository.existsDuplicateNumbers(
-                userId,
-                sortedNumbers.get(0).shortValue(),
-                sortedNumbers.get(1).shortValue(),
-                sortedNumbers.get(2).shortValue(),
-                sortedNumbers.get(3).shortValue(),
-                sortedNumbers.get(4).shortValue(),
-                sortedNumbers.get(5).shortValue()
-        );
-
-        if (exists) {
+        // 4. 동일 번호 조합 이미 등록되었는지 확인 (비트마스크)
+        long numbersMask = LottoMatchUtils.toMask(sortedNumbers);
+        if (predictionRepository.existsDuplicateNumbers(userId, numbersMask)) {
             throw new DuplicateNumberException("이미 등록된 번호 조합입니다");
         }
 
@@ -78,6 +106,7 @@ public class UserPredictionService {
                 .predictedNum4(sortedNumbers.get(3).shortValue())
                 .predictedNum5(sortedNumbers.get(4).shortValue())
                 .predictedNum6(sortedNumbers.get(5).shortValue())
+                .numbersMask(numbersMask)
                 .memo(request.getMemo())
                 .targetDrawNo(request.getTargetDrawNo())
                 .startDrawId(startDrawId)
@@ -85,16 +114,201 @@ public class UserPredictionService {
                 .build();
 
         // 6. 저장 (Entity의 @PrePersist에서 predictedNumbers 자동 생성)
-        UserPrediction saved = predictionRepository.save(prediction);
+        //    동시 요청이 확인을 함께 통과해도 unique 인덱스가 하나만 남김
+        UserPrediction saved = saveAndFlushUnique(prediction);
 
         savePredictionsHistory(saved, userId);
         saveUserPredictionHistoricalStats(userId, prediction);
         saveUserPredictionTrackingStats(userId, prediction);
 
+        // 커밋 후 대시보드 캐시 제거
+        eventPublisher.publishEvent(new PredictionsChangedEvent(userId));
+
         // 7. DTO 변환 후 반환
         return UserPredictionResponse.from(saved);
     }
 
+    /**
+     * 번호 일괄 등록
+     * - 요청 내 중복 / 이미 등록된 조합은 메모리에서 걸러냄 (사용자, 시작 회차, 기존 번호 조회는 1번씩)
+     * - 번호는 ON CONFLICT DO NOTHING batch insert, 그 사이 동시 등록된 조합만 DUPLICATE 로 바뀜
+     * - 조합마다 회차 인덱스를 1번만 훑어서 과거 이력, 당첨 비트맵, 추적 통계를 함께 만듦
+     *   (과거 통계는 조합 성적 테이블이 준비되어 있으면 조회로 대체)
+     * - 이력 / 통계 저장은 Entity 별 saveAll (hibernate.jdbc.batch_size + order_inserts 로 JDBC batch 처리)
+     */
+    @Transactional
+    public BulkPredictionImportResponse createPredictions(UUID userId, List<UserPredictionCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("등록할 번호가 없습니다");
+        }
+        if (requests.size() > bulkImportMaxRows) {
+            throw new IllegalArgumentException("한 번에 최대 " + bulkImportMaxRows + "개까지 등록할 수 있습니다");
+        }
+
+        // 1. 사용자 존재 확인
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+
+        // 2. 이미 등록된 조합 (비트마스크 컬럼만 조회)
+        Set<Long> registered = new HashSet<>(predictionRepository.findNumbersMasks(userId));
+
+        Integer startDrawId = calculateStartDrawId();
+        DrawHistoryStore.Snapshot allDraws = drawHistoryStore.snapshot();
+
+        // 3. 행별 검증 + 중복 제거
+        List<BulkPredictionRowResult> results = new ArrayList<>(requests.size());
+        List<UserPrediction> accepted = new ArrayList<>();
+        List<Integer> acceptedRows = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            UserPredictionCreateRequest request = requests.get(i);
+            String error = validateNumbers(request);
+            if (error != null) {
+                results.add(BulkPredictionRowResult.builder()
+                        .row(i + 1)
+                        .status(BulkPredictionRowResult.INVALID)
+                        .numbers(request.getNumbers())
+                        .message(error)
+                        .build());
+                continue;
+            }
+
+            List<Integer> sortedNumbers = request.getSortedNumbers();
+            long numbersMask = LottoMatchUtils.toMask(sortedNumbers);
+            if (!registered.add(numbersMask)) {
+                results.add(BulkPredictionRowResult.builder()
+                        .row(i + 1)
+                        .status(BulkPredictionRowResult.DUPLICATE)
+                        .numbers(sortedNumbers)
+                        .message("이미 등록된 번호 조합입니다")
+                        .build());
+                continue;
+            }
+
+            accepted.add(UserPrediction.builder()
+                    .predictionId(UUID.randomUUID())
+                    .user(user)
+                    .predictedNum1(sortedNumbers.get(0).shortValue())
+                    .predictedNum2(sortedNumbers.get(1).shortValue())
+                    .predictedNum3(sortedNumbers.get(2).shortValue())
+                    .predictedNum4(sortedNumbers.get(3).shortValue())
+                    .predictedNum5(sortedNumbers.get(4).shortValue())
+                    .predictedNum6(sortedNumbers.get(5).shortValue())
+                    .predictedNumbers(sortedNumbers.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                    .numbersMask(numbersMask)
+                    .memo(request.getMemo())
+                    .targetDrawNo(request.getTargetDrawNo())
+                    .startDrawId(startDrawId)
+                    .build());
+            acceptedRows.add(results.size());
+            results.add(null);  // 저장 후 채움
+        }
+
+        // 4. 번호 저장, 확인 이후 동시 등록된 조합은 건너뛰고 저장된 행만 다시 읽음 (이후 Entity 연관용)
+        Map<UUID, UserPrediction> saved = insertIgnoringConflicts(accepted);
+
+        // 5. 조합별 이력/통계 (회차 인덱스 1회 순회)
+        List<PredictionsHistory> pastHistories = new ArrayList<>();
+        List<PredictionWinHistory> winHistories = new ArrayList<>(saved.size());
+        List<UserPredictionHistoricalStats> historicalStats = new ArrayList<>(saved.size());
+        List<UserPredictionTrackingStats> trackingStats = new ArrayList<>(saved.size());
+
+        for (int k = 0; k < accepted.size(); k++) {
+            int row = acceptedRows.get(k);
+            UserPrediction prediction = saved.get(accepted.get(k).getPredictionId());
+            if (prediction == null) {
+                results.set(row, BulkPredictionRowResult.builder()
+                        .row(row + 1)
+                        .status(BulkPredictionRowResult.DUPLICATE)
+                        .numbers(LottoMatchUtils.toList(accepted.get(k).toNumbersMask()))
+                        .message("이미 등록된 번호 조합입니다")
+                        .build());
+                continue;
+            }
+
+            long myMask = prediction.toNumbersMask();
+            List<Integer> myNumbers = LottoMatchUtils.toList(myMask);
+
+            // 과거 통계는 조합 성적 테이블 우선, 없으면 추적(시작 회차 이후) 통계와 같은 순회에서 집계
+            CombinationOutcomeTable.Outcome outcome = combinationOutcomeTable.lookup(myMask, allDraws);
+            List<DrawMatchResult> history = new ArrayList<>();
+            List<DrawMatchResult> tracked = new ArrayList<>();
+            RankAccumulator historyStats = new RankAccumulator();
+            RankAccumulator trackedStats = new RankAccumulator();
+            WinBitmap[] wins = {WinBitmap.empty()};
+            drawNumberIndex.forEachWin(myMask, 1, (drawNo, matchCount, hasBonus, rank) -> {
+                int index = allDraws.indexOf(drawNo);
+                if (index < 0) {
+                    return;
+                }
+                pastHistories.add(toPastHistory(prediction, userId, allDraws, index, matchCount, hasBonus, rank));
+                wins[0] = wins[0].with(drawNo, rank);
+
+                if (outcome != null && drawNo < startDrawId) {
+                    return;
+                }
+                DrawMatchResult result = calculateDrawMatchForHistory(myMask, allDraws, index);
+                if (outcome == null) {
+                    historyStats.add(rank, result.getPrizeAmount(), drawNo);
+                    history.add(result);
+                }
+                if (drawNo >= startDrawId) {
+                    trackedStats.add(rank, result.getPrizeAmount(), drawNo);
+                    tracked.add(result);
+                }
+            });
+
+            winHistories.add(PredictionWinHistory.of(prediction.getPredictionId(), userId, wins[0]));
+            historicalStats.add(outcome != null
+                    ? toHistoricalStats(prediction, outcome)
+                    : toHistoricalStats(prediction, buildHistoryResponse(
+                            prediction, myNumbers, 1, allDraws.countFrom(1), history, historyStats)));
+
+            trackingStats.add(toTrackingStats(prediction, buildHistoryResponse(
+                    prediction, myNumbers, startDrawId, allDraws.countFrom(startDrawId), tracked, trackedStats),
+                    allDraws.latestDrawNo()));
+
+            results.set(row, BulkPredictionRowResult.builder()
+                    .row(row + 1)
+                    .status(BulkPredictionRowResult.CREATED)
+                    .predictionId(prediction.getPredictionId())
+                    .numbers(myNumbers)
+                    .build());
+        }
+
+        // 6. 일괄 저장
+        predictionsHistoryRepository.saveAll(pastHistories);
+        predictionWinHistoryRepository.saveAll(winHistories);
+        userPredictionHistoricalStatsRepository.saveAll(historicalStats);
+        userPredictionTrackingStatsRepository.saveAll(trackingStats);
+
+        // 커밋 후 대시보드 캐시 제거
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new PredictionsChangedEvent(userId));
+        }
+
+        return BulkPredictionImportResponse.from(results);
+    }
+
+    /**
+     * 번호 형식 검증 (정상이면 null, 아니면 오류 메시지)
+     */
+    private String validateNumbers(UserPredictionCreateRequest request) {
+        List<Integer> numbers = request.getNumbers();
+        if (numbers == null || numbers.size() != 6) {
+            return "번호 6개가 필요합니다";
+        }
+        for (Integer number : numbers) {
+            if (number == null || number < LottoMatchUtils.MIN_NUMBER || number > LottoMatchUtils.MAX_NUMBER) {
+                return "번호는 1~45 사이여야 합니다";
+            }
+        }
+        if (request.hasDuplicates()) {
+            return "중복된 번호가 있습니다";
+        }
+        return null;
+    }
+
     /**
      * 현재 시간 기준으로 시작 회차 계산
      * - 토요일 20:00 이전: 이번 주 회차
@@ -104,12 +318,13 @@ public class UserPredictionService {
         LocalDateTime now = LocalDateTime.now();
 
         // 최신 회차 정보 조회
-        LottoHistory latestHistory = lottoHistoryRepository
-                .findTopByDeleteYnAndUseYnOrderByDrawNoDesc("N", "Y")
-                .orElseThrow(() -> new IllegalStateException("최신 회차 정보를 찾을 수 없습니다"));
+        DrawHistoryStore.Snapshot draws = drawHistoryStore.snapshot();
+        if (draws.isEmpty()) {
+            throw new IllegalStateException("최신 회차 정보를 찾을 수 없습니다");
+        }
 
-        Integer latestDrawNo = latestHistory.getDrawNo();
-        LocalDate latestDrawDate = latestHistory.getDrawDate();
+        Integer latestDrawNo = draws.latestDrawNo();
+        LocalDate latestDrawDate = draws.drawDate(draws.size() - 1);
 
         // 다음 추첨일 계산 (최신 추첨일 + 7일씩 더해가며 현재보다 미래인 토요일 찾기)
         LocalDateTime nextDrawDateTime = latestDrawDate.atTime(20, 0);
@@ -156,35 +371,25 @@ public class UserPredictionService {
         // 3. 시작 회차 결정
         //Integer startDrawNo = determineStartDrawNo(prediction);
 
-        // 4. 시작 회차 이후 모든 회차 조회
-        List<LottoHistory> allDraws = lottoHistoryRepository
-                .findByDrawNoGreaterThanEqualAndDeleteYnAndUseYnOrderByDrawNoAsc(
-                        1, "N", "Y");
+        // 4. 시작 회차 이후 모든 회차 (메모리 저장소)
+        DrawHistoryStore.Snapshot allDraws = drawHistoryStore.snapshot();
 
-        // 5. 각 회차마다 매칭 계산
-        List<DrawMatchResult> history = allDraws.stream()
-                .map(draw -> calculateDrawMatchForHistory(myNumbers, draw))
-                .collect(Collectors.toList());
+        // 4-1. 조합 성적 테이블이 준비되어 있으면 조회만으로 끝
+        CombinationOutcomeTable.Outcome outcome = combinationOutcomeTable.lookup(prediction.toNumbersMask(), allDraws);
+        if (outcome != null) {
+            userPredictionHistoricalStatsRepository.save(toHistoricalStats(prediction, outcome));
+            return;
+        }
 
-        // 6. 통계 계산 및 응답 생성
-        PredictionHistoryResponse response = buildHistoryResponse(prediction, myNumbers, 1, history);
+        // 5. 당첨된 회차만 매칭 계산 (번호별 회차 인덱스)
+        RankAccumulator stats = new RankAccumulator();
+        List<DrawMatchResult> history = collectWinningDraws(prediction.toNumbersMask(), allDraws, 1, stats);
 
-        UserPredictionHistoricalStats entity = UserPredictionHistoricalStats.builder()
-                .userPrediction(prediction)  // UserPrediction 객체
-                .totalDraws(response.getTotalDraws())
-                .winningDraws(response.getWinningDraws())
-                .totalPrizeAmount(response.getTotalPrizeAmount())
-                .bestRank(response.getBestRank())
-                .bestDrawNo(response.getBestDrawNo())
-                .returnRate(response.getReturnRate())
-                .rank1Count(response.getRank1Count())
-                .rank2Count(response.getRank2Count())
-                .rank3Count(response.getRank3Count())
-                .rank4Count(response.getRank4Count())
-                .rank5Count(response.getRank5Count())
-                .build();
+        // 6. 응답 생성
+        PredictionHistoryResponse response = buildHistoryResponse(
+                prediction, myNumbers, 1, allDraws.countFrom(1), history, stats);
 
-        userPredictionHistoricalStatsRepository.save(entity);
+        userPredictionHistoricalStatsRepository.save(toHistoricalStats(prediction, response));
 
     }
     private void saveUserPredictionTrackingStats(UUID userId, UserPrediction prediction) {
@@ -206,20 +411,26 @@ public class UserPredictionService {
         // 3. 시작 회차 결정
         Integer startDrawNo = determineStartDrawNo(prediction);
 
-        // 4. 시작 회차 이후 모든 회차 조회
-        List<LottoHistory> allDraws = lottoHistoryRepository
-                .findByDrawNoGreaterThanEqualAndDeleteYnAndUseYnOrderByDrawNoAsc(
-                        startDrawNo, "N", "Y");
+        // 4. 시작 회차 이후 모든 회차 (메모리 저장소)
+        DrawHistoryStore.Snapshot allDraws = drawHistoryStore.snapshot();
 
-        // 5. 각 회차마다 매칭 계산
-        List<DrawMatchResult> history = allDraws.stream()
-                .map(draw -> calculateDrawMatchForHistory(myNumbers, draw))
-                .collect(Collectors.toList());
+        // 5. 당첨된 회차만 매칭 계산 (번호별 회차 인덱스)
+        RankAccumulator stats = new RankAccumulator();
+        List<DrawMatchResult> history = collectWinningDraws(prediction.toNumbersMask(), allDraws, startDrawNo, stats);
 
-        // 6. 통계 계산 및 응답 생성
-        PredictionHistoryResponse response = buildHistoryResponse(prediction, myNumbers, startDrawNo, history);
+        // 6. 응답 생성
+        PredictionHistoryResponse response = buildHistoryResponse(
+                prediction, myNumbers, startDrawNo, allDraws.countFrom(startDrawNo), history, stats);
 
-        UserPredictionTrackingStats entity = UserPredictionTrackingStats.builder()
+        userPredictionTrackingStatsRepository.save(toTrackingStats(prediction, response, allDraws.latestDrawNo()));
+
+    }
+
+    /**
+     * 과거 통계 Entity 생성
+     */
+    private UserPredictionHistoricalStats toHistoricalStats(UserPrediction prediction, PredictionHistoryResponse response) {
+        return UserPredictionHistoricalStats.builder()
                 .userPrediction(prediction)  // UserPrediction 객체
                 .totalDraws(response.getTotalDraws())
                 .winningDraws(response.getWinningDraws())
@@ -233,95 +444,191 @@ public class UserPredictionService {
                 .rank4Count(response.getRank4Count())
                 .rank5Count(response.getRank5Count())
                 .build();
+    }
 
-        userPredictionTrackingStatsRepository.save(entity);
+    /**
+     * 과거 통계 Entity 생성 (조합 성적 테이블 조회 결과)
+     */
+    private UserPredictionHistoricalStats toHistoricalStats(UserPrediction prediction, CombinationOutcomeTable.Outcome outcome) {
+        return UserPredictionHistoricalStats.builder()
+                .userPrediction(prediction)
+                .totalDraws(outcome.getTotalDraws())
+                .winningDraws(outcome.getWinningDraws())
+                .totalPrizeAmount(outcome.getTotalPrizeAmount())
+                .bestRank(outcome.getBestRank())
+                .bestDrawNo(outcome.getBestDrawNo())
+                .returnRate(outcome.getReturnRate())
+                .rank1Count(outcome.getRank1Count())
+                .rank2Count(outcome.getRank2Count())
+                .rank3Count(outcome.getRank3Count())
+                .rank4Count(outcome.getRank4Count())
+                .rank5Count(outcome.getRank5Count())
+                .build();
+    }
 
+    /**
+     * 추적 통계 Entity 생성 (latestDrawNo 회차까지 반영된 상태)
+     */
+    private UserPredictionTrackingStats toTrackingStats(UserPrediction prediction, PredictionHistoryResponse response,
+                                                        int latestDrawNo) {
+        return UserPredictionTrackingStats.builder()
+                .userPrediction(prediction)  // UserPrediction 객체
+                .totalDraws(response.getTotalDraws())
+                .winningDraws(response.getWinningDraws())
+                .totalPrizeAmount(response.getTotalPrizeAmount())
+                .bestRank(response.getBestRank())
+                .bestDrawNo(response.getBestDrawNo())
+                .returnRate(response.getReturnRate())
+                .rank1Count(response.getRank1Count())
+                .rank2Count(response.getRank2Count())
+                .rank3Count(response.getRank3Count())
+                .rank4Count(response.getRank4Count())
+                .rank5Count(response.getRank5Count())
+                .lastSettledDrawNo(latestDrawNo)
+                .build();
     }
     /**
-     * PREDICTIONS_HISTORY 저장
+     * PREDICTIONS_HISTORY / PREDICTION_WIN_HISTORY 저장
      */
     private void savePredictionsHistory(UserPrediction prediction, UUID userId) {
-        // 1. 내 번호 리스트
-        List<Integer> myNumbers = Arrays.asList(
-                prediction.getPredictedNum1().intValue(),
-                prediction.getPredictedNum2().intValue(),
-                prediction.getPredictedNum3().intValue(),
-                prediction.getPredictedNum4().intValue(),
-                prediction.getPredictedNum5().intValue(),
-                prediction.getPredictedNum6().intValue()
-        );
+        // 1. 내 번호 비트마스크
+        long myMask = prediction.toNumbersMask();
 
         // 2. 시작 회차 결정 (CheckService의 로직 사용)
         //Integer startDrawNo = determineStartDrawNo(prediction);
 
-        // 3. 과거 회차 조회
-        List<LottoHistory> pastDraws = lottoHistoryRepository
-                .findByDrawNoGreaterThanEqualAndDeleteYnAndUseYnOrderByDrawNoAsc(
-                        1, "N", "Y");
-
-        // 4. 각 회차별로 매칭 계산 & PredictionsHistory 생성
-        List<PredictionsHistory> histories = pastDraws.stream()
-                .map(draw -> {
-                    // CheckService의 calculateDrawMatch 로직 활용
-                    DrawMatchResult result = calculateDrawMatchForHistory(myNumbers, draw);
-
-                    // 꽝이면 null 반환
-                    if (result.getRank() == null) {
-                        return null;
-                    }
-
-                    return PredictionsHistory.builder()
-                            .predictionId(prediction.getPredictionId())
-                            .historyId(draw.getHistoryId())
-                            .userId(userId)
-                            .rank(result.getRank())
-                            .hasBonus(result.getHasBonus())
-                            .matchedCount(result.getMatchCount().shortValue())
-                            .prizeAmount(result.getPrizeAmount().intValue())
-                            .startDrawSortation("past")
-                            .build();
-                })
-                .filter(history -> history != null)
-                .collect(Collectors.toList());
+        // 3. 과거 회차 (메모리 저장소)
+        DrawHistoryStore.Snapshot pastDraws = drawHistoryStore.snapshot();
 
-        // 5. 당첨된 것만 일괄 저장
+        // 4. 당첨된 회차만 PredictionsHistory 생성 (번호별 회차 인덱스)
+        List<PredictionsHistory> histories = new ArrayList<>();
+        WinBitmap[] wins = {WinBitmap.empty()};
+        drawNumberIndex.forEachWin(myMask, 1, (drawNo, matchCount, hasBonus, rank) -> {
+            int index = pastDraws.indexOf(drawNo);
+            if (index < 0) {
+                return;
+            }
+
+            histories.add(toPastHistory(prediction, userId, pastDraws, index, matchCount, hasBonus, rank));
+            wins[0] = wins[0].with(drawNo, rank);
+        });
+
+        // 5. 당첨된 것만 일괄 저장, 비트맵은 당첨이 없어도 저장 (이후 정산이 이어 붙임)
         if (!histories.isEmpty()) {
             predictionsHistoryRepository.saveAll(histories);
         }
+        predictionWinHistoryRepository.save(PredictionWinHistory.of(prediction.getPredictionId(), userId, wins[0]));
+    }
+
+    /**
+     * 저장 후 바로 flush (번호 조합 unique 인덱스 위반을 중복 번호 오류로 변환)
+     */
+    private UserPrediction saveAndFlushUnique(UserPrediction prediction) {
+        UserPrediction saved = predictionRepository.save(prediction);
+        flushUnique();
+        return saved;
+    }
+
+    /**
+     * 번호 일괄 저장 (unique 인덱스에 걸린 행은 건너뜀)
+     * @return 실제로 저장된 번호 (ID → Entity), 빠진 ID 는 동시 등록과 겹친 조합
+     */
+    private Map<UUID, UserPrediction> insertIgnoringConflicts(List<UserPrediction> predictions) {
+        if (predictions.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object[]> rows = new ArrayList<>(predictions.size());
+        for (UserPrediction prediction : predictions) {
+            rows.add(new Object[]{
+                    prediction.getPredictionId(),
+                    prediction.getUser().getUserId(),
+                    prediction.getTargetDrawNo(),
+                    prediction.getPredictedNum1(),
+                    prediction.getPredictedNum2(),
+                    prediction.getPredictedNum3(),
+                    prediction.getPredictedNum4(),
+                    prediction.getPredictedNum5(),
+                    prediction.getPredictedNum6(),
+                    prediction.getPredictedNumbers(),
+                    prediction.getNumbersMask(),
+                    prediction.getMemo(),
+                    prediction.getStartDrawId()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_PREDICTION_SQL, rows);
+
+        return predictionRepository.findAllById(predictions.stream().map(UserPrediction::getPredictionId).toList())
+                .stream()
+                .collect(Collectors.toMap(UserPrediction::getPredictionId, Function.identity()));
+    }
+
+    private void flushUnique() {
+        try {
+            predictionRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateNumberException("이미 등록된 번호 조합입니다");
+        }
+    }
+
+    /**
+     * 과거 당첨 이력 Entity 생성
+     */
+    private PredictionsHistory toPastHistory(UserPrediction prediction, UUID userId, DrawHistoryStore.Snapshot draws,
+                                             int index, int matchCount, boolean hasBonus, int rank) {
+        return PredictionsHistory.builder()
+                .predictionId(prediction.getPredictionId())
+                .historyId(draws.historyId(index))
+                .userId(userId)
+                .drawNo(draws.drawNo(index))
+                .rank(rank)
+                .hasBonus(hasBonus)
+                .matchedCount((short) matchCount)
+                .prizeAmount((int) draws.prize(index, rank))
+                .startDrawSortation("past")
+                .build();
+    }
+
+    /**
+     * 시작 회차 이후 당첨된 회차만 매칭 결과 생성 (통계는 stats 에 함께 집계)
+     */
+    private List<DrawMatchResult> collectWinningDraws(long myMask, DrawHistoryStore.Snapshot draws, int startDrawNo,
+                                                      RankAccumulator stats) {
+        List<DrawMatchResult> history = new ArrayList<>();
+        drawNumberIndex.forEachWin(myMask, startDrawNo, (drawNo, matchCount, hasBonus, rank) -> {
+            int index = draws.indexOf(drawNo);
+            if (index >= 0) {
+                DrawMatchResult result = calculateDrawMatchForHistory(myMask, draws, index);
+                stats.add(rank, result.getPrizeAmount(), drawNo);
+                history.add(result);
+            }
+        });
+        return history;
     }
 
     /**
      * 회차와 내 번호 매칭 계산 (CheckService 로직 복사)
      */
-    private DrawMatchResult calculateDrawMatchForHistory(List<Integer> myNumbers, LottoHistory draw) {
+    private DrawMatchResult calculateDrawMatchForHistory(long myMask, DrawHistoryStore.Snapshot draws, int index) {
         // 당첨번호 리스트
-        List<Integer> winningNumbers = Arrays.asList(
-                draw.getNumber1().intValue(),
-                draw.getNumber2().intValue(),
-                draw.getNumber3().intValue(),
-                draw.getNumber4().intValue(),
-                draw.getNumber5().intValue(),
-                draw.getNumber6().intValue()
-        );
+        long winningMask = draws.mask(index);
+        List<Integer> winningNumbers = LottoMatchUtils.toList(winningMask);
 
         // 매칭 계산
         LottoMatchUtils.MatchResult matchResult = LottoMatchUtils.calculateMatch(
-                myNumbers, winningNumbers, draw.getBonusNumber().intValue());
+                myMask, winningMask, draws.bonus(index));
 
         // 일치한 번호들 찾기
-        List<Integer> matchedNumbers = myNumbers.stream()
-                .filter(winningNumbers::contains)
-                .sorted()
-                .collect(Collectors.toList());
+        List<Integer> matchedNumbers = LottoMatchUtils.toList(myMask & winningMask);
 
         // 당첨금 계산
-        Long prizeAmount = getPrizeAmount(draw, matchResult.getRank());
+        Long prizeAmount = draws.prize(index, matchResult.isWinning() ? matchResult.getRank() : 0);
 
         return DrawMatchResult.builder()
-                .drawNo(draw.getDrawNo())
-                .drawDate(draw.getDrawDate())
+                .drawNo(draws.drawNo(index))
+                .drawDate(draws.drawDate(index))
                 .winningNumbers(winningNumbers)
-                .bonusNumber(draw.getBonusNumber().intValue())
+                .bonusNumber(draws.bonus(index))
                 .matchCount(matchResult.getMatchCount())
                 .hasBonus(matchResult.isHasBonus())
                 .rank(matchResult.getRank())
@@ -338,49 +645,34 @@ public class UserPredictionService {
             UserPrediction prediction,
             List<Integer> myNumbers,
             Integer startDrawNo,
-            List<DrawMatchResult> history) {
+            int totalDraws,
+            List<DrawMatchResult> history,
+            RankAccumulator stats) {
 
-        // 기본 통계
-        int totalDraws = history.size();
-        int winningDraws = (int) history.stream()
-                .filter(h -> h.getRank() != null)
-                .count();
+        // 기본 통계 (history 를 만들면서 집계한 값)
+        int winningDraws = stats.getWinningCount();
 
         /*int totalDraws = getTotalDrawsSinceStart(startDrawNo);  // 전체 참여 회차
         int winningDraws = history.size();  // 당첨 회차 = history 개수*/
 
         // 등수별 카운트
-        int rank1 = (int) history.stream().filter(h -> Integer.valueOf(1).equals(h.getRank())).count();
-        int rank2 = (int) history.stream().filter(h -> Integer.valueOf(2).equals(h.getRank())).count();
-        int rank3 = (int) history.stream().filter(h -> Integer.valueOf(3).equals(h.getRank())).count();
-        int rank4 = (int) history.stream().filter(h -> Integer.valueOf(4).equals(h.getRank())).count();
-        int rank5 = (int) history.stream().filter(h -> Integer.valueOf(5).equals(h.getRank())).count();
+        int rank1 = stats.count(1);
+        int rank2 = stats.count(2);
+        int rank3 = stats.count(3);
+        int rank4 = stats.count(4);
+        int rank5 = stats.count(5);
 
         // 금액 통계
-        long totalPrize = history.stream()
-                .mapToLong(DrawMatchResult::getPrizeAmount)
-                .sum();
+        long totalPrize = stats.getTotalPrize();
         long totalInvestment = totalDraws * 1000L;  // 회차당 1,000원
         long netProfit = totalPrize - totalInvestment;
         double returnRate = totalInvestment > 0
                 ? ((double) totalPrize / totalInvestment * 100)
                 : 0.0;
 
-        // 최고 등수 찾기
-        Integer bestRank = history.stream()
-                .map(DrawMatchResult::getRank)
-                .filter(rank -> rank != null)
-                .min(Integer::compareTo)
-                .orElse(null);
-
-        Integer bestDrawNo = null;
-        if (bestRank != null) {
-            bestDrawNo = history.stream()
-                    .filter(h -> bestRank.equals(h.getRank()))
-                    .map(DrawMatchResult::getDrawNo)
-                    .findFirst()
-                    .orElse(null);
-        }
+        // 최고 등수 (처음 달성한 회차)
+        Integer bestRank = stats.getBestRank();
+        Integer bestDrawNo = stats.getBestDrawNo();
 
         // 요약 메시지
         String message = generateHistorySummaryMessage(
@@ -454,22 +746,6 @@ public class UserPredictionService {
         return sb.toString();
     }
 
-    /**
-     * 등수별 당첨금 조회 (CheckService 로직 복사)
-     */
-    private Long getPrizeAmount(LottoHistory draw, Integer rank) {
-        if (rank == null) return 0L;
-
-        return switch (rank) {
-            case 1 -> draw.getPrize1st();
-            case 2 -> draw.getPrize2nd();
-            case 3 -> draw.getPrize3rd();
-            case 4 -> draw.getPrize4th() != null ? draw.getPrize4th().longValue() : 50000L;
-            case 5 -> draw.getPrize5th() != null ? draw.getPrize5th().longValue() : 5000L;
-            default -> 0L;
-        };
-    }
-
     /**
      * 시작 회차 결정 (CheckService 로직 복사)
      */
@@ -484,38 +760,54 @@ public class UserPredictionService {
      * 시작 회차부터 현재까지 총 회차 수 계산
      */
     private int getTotalDrawsSinceStart(Integer startDrawNo) {
-        LottoHistory latestDraw = lottoHistoryRepository
-                .findTopByDeleteYnAndUseYnOrderByDrawNoDesc("N", "Y")
-                .orElse(null);
+        DrawHistoryStore.Snapshot draws = drawHistoryStore.snapshot();
 
-        if (latestDraw == null) {
+        if (draws.isEmpty()) {
             return 0;
         }
 
-        return latestDraw.getDrawNo() - startDrawNo + 1;
+        return draws.latestDrawNo() - startDrawNo + 1;
     }
 
     /**
-     * 내 번호 목록 조회
+     * 내 번호 목록 조회 (projection 쿼리 1번)
      */
     public List<UserPredictionResponse> getMyPredictions(UUID userId) {
-        List<UserPrediction> predictions = predictionRepository
-                .findByUser_UserIdAndDeleteYnOrderByCreatedAtDesc(userId, "N");
+        List<UserPredictionSummary> predictions = predictionRepository.findSummaries(userId);
         return predictions.stream()
                 .map(UserPredictionResponse::from)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 내 번호 목록 조회 (페이징)
+     * 내 번호 목록 조회 (페이징, projection 목록 + COUNT)
      */
     public Page<UserPredictionResponse> getMyPredictions(UUID userId, Pageable pageable) {
-        Page<UserPrediction> predictions = predictionRepository
-                .findByUser_UserIdAndDeleteYnOrderByCreatedAtDesc(userId, "N", pageable);
+        Page<UserPredictionSummary> predictions = predictionRepository.findSummaries(userId, pageable);
 
         return predictions.map(UserPredictionResponse::from);
     }
 
+    /**
+     * 내 번호 목록 조회 (커서, 생성일시 + ID 최신순)
+     * (USER_ID, CREATED_AT, PREDICTION_ID) 인덱스 범위 조회라서 얼마나 뒤 페이지든 비용이 같음
+     */
+    public CursorPageResponse<UserPredictionResponse> getMyPredictions(UUID userId, String cursor, int size) {
+        CursorPageResponse.validateSize(size);
+
+        List<UserPredictionSummary> predictions;
+        if (cursor == null || cursor.isBlank()) {
+            predictions = predictionRepository.findSummaries(userId, Limit.of(size + 1));
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            predictions = predictionRepository
+                    .findSummariesBefore(userId, after.getCreatedAt(), after.getPredictionId(), Limit.of(size + 1));
+        }
+
+        return CursorPageResponse.of(predictions, size, UserPredictionResponse::from,
+                prediction -> PageCursor.encode(prediction.getCreatedAt(), prediction.getPredictionId()));
+    }
+
     /**
      * 번호 상세 조회
      */
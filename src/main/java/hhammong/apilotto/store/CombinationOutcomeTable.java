@@ -0,0 +1,564 @@
+package hhammong.apilotto.store;
+
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.event.DrawPublishedEvent;
+import hhammong.apilotto.util.LottoMatchUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 전체 조합(C(45,6) = 8,145,060개) 과거 성적 테이블 (memory-mapped file)
+ * - 조합의 colex 순위가 곧 레코드 위치이므로 조회는 O(1)
+ * - 최초 1회 fork/join 으로 전체 조합을 계산해서 파일로 저장
+ * - 새 회차는 3개 이상 일치하는 조합(약 19만개)만 갱신
+ *
+ * 레코드 (16 byte)
+ *  0  long  총 당첨금
+ *  8  short 5등 횟수
+ *  10 byte  4등 횟수
+ *  11 byte  3등 횟수
+ *  12 byte  2등 횟수
+ *  13 byte  1등 횟수
+ *  14 char  최고 등수 회차 (최고 등수를 처음 달성한 회차)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CombinationOutcomeTable {
+
+    public static final int COMBINATIONS = 8_145_060;
+
+    private static final int MAGIC = 0x4C4F5454;      // "LOTT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 16;
+    private static final long FILE_SIZE = HEADER_SIZE + (long) COMBINATIONS * RECORD_SIZE;
+
+    // 헤더 위치
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_APPLIED_DRAW_NO = 8;
+    private static final int H_APPLIED_COUNT = 12;
+    private static final int H_HISTORY_HASH = 16;
+    private static final int H_DIRTY = 24;          // 갱신 중 종료되면 1로 남아서 다음 기동 시 재생성
+
+    // 레코드 내 위치
+    private static final int R_PRIZE = 0;
+    private static final int R_RANK5 = 8;
+    private static final int R_RANK4 = 10;
+    private static final int R_RANK3 = 11;
+    private static final int R_RANK2 = 12;
+    private static final int R_RANK1 = 13;
+    private static final int R_BEST_DRAW_NO = 14;
+
+    // 1~45 번호 비트
+    private static final long NUMBERS_MASK = ((1L << (LottoMatchUtils.MAX_NUMBER + 1)) - 1) & ~1L;
+
+    // BINOM[n][k] = C(n, k)
+    private static final int[][] BINOM = new int[LottoMatchUtils.MAX_NUMBER + 1][7];
+
+    static {
+        for (int n = 0; n <= LottoMatchUtils.MAX_NUMBER; n++) {
+            BINOM[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, 6); k++) {
+                BINOM[n][k] = BINOM[n - 1][k - 1] + BINOM[n - 1][k];
+            }
+        }
+    }
+
+    private final DrawHistoryStore drawHistoryStore;
+    private final DrawNumberIndex drawNumberIndex;
+
+    @Value("${lotto.combination-table.enabled:false}")
+    private boolean enabled;
+
+    @Value("${lotto.combination-table.path:data/combination-outcomes.bin}")
+    private Path path;
+
+    private final StampedLock lock = new StampedLock();
+
+    // lock 으로 보호 (쓰기는 synchronized 메서드 안에서만)
+    private MappedByteBuffer buffer;
+    private int appliedDrawNo;
+    private int appliedCount;
+    private long historyHash;
+
+    // 백그라운드 재생성 중이면 append 는 건너뜀 (끝난 뒤 open 으로 이어서 반영)
+    private volatile boolean rebuilding;
+
+    /**
+     * 조합 하나의 과거 성적
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Outcome {
+        private final int totalDraws;
+        private final int rank1Count;
+        private final int rank2Count;
+        private final int rank3Count;
+        private final int rank4Count;
+        private final int rank5Count;
+        private final long totalPrizeAmount;
+        private final Integer bestRank;
+        private final Integer bestDrawNo;
+
+        public int getWinningDraws() {
+            return rank1Count + rank2Count + rank3Count + rank4Count + rank5Count;
+        }
+
+        public double getReturnRate() {
+            long totalInvestment = totalDraws * 1000L;
+            double returnRate = totalInvestment > 0 ? ((double) totalPrizeAmount / totalInvestment * 100) : 0.0;
+            return Math.round(returnRate * 100.0) / 100.0;
+        }
+    }
+
+    /**
+     * 기동 후 백그라운드에서 파일을 열거나 생성 (요청 처리는 기존 계산으로 대체됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofPlatform().daemon().name("combination-table").start(() -> {
+            try {
+                open();
+            } catch (Exception e) {
+                log.error("조합 성적 테이블 준비 중 오류 발생", e);
+            }
+        });
+    }
+
+    /**
+     * 기존 파일이 현재 이력과 맞으면 이어서 사용, 아니면 전체 재생성
+     */
+    public synchronized void open() throws IOException {
+        DrawHistoryStore.Snapshot draws = drawHistoryStore.snapshot();
+
+        if (Files.exists(path) && Files.size(path) == FILE_SIZE) {
+            MappedByteBuffer mapped = map(path);
+            if (isReusable(mapped, draws)) {
+                publish(mapped);
+                int applied = 0;
+                for (int i = draws.lowerBound(appliedDrawNo + 1); i < draws.size(); i++) {
+                    applyDraw(draws, i);
+                    applied++;
+                }
+                log.info("조합 성적 테이블 로드 완료 ({}회차까지, 추가 반영 {}회차)", appliedDrawNo, applied);
+                return;
+            }
+            log.info("조합 성적 테이블이 현재 이력과 달라서 다시 생성합니다");
+        }
+
+        rebuild(draws);
+    }
+
+    /**
+     * 새 회차 반영 (최신 회차보다 뒤면 3개 이상 일치 조합만 갱신, 이전 회차면 백그라운드에서 다시 생성)
+     * 다시 생성하는 동안 들어온 회차는 생성이 끝난 뒤 이어서 반영
+     */
+    public synchronized void append(LottoHistory draw) {
+        if (!enabled || buffer == null || rebuilding) {
+            return;
+        }
+
+        DrawHistoryStore.Snapshot draws = drawHistoryStore.snapshot();
+        if (draw.getDrawNo() <= appliedDrawNo) {
+            if (appliedCount == draws.size() && historyHash == historyHash(draws, draws.size())) {
+                log.debug("{}회차는 이미 조합 성적 테이블에 반영되어 있습니다", draw.getDrawNo());
+                return;
+            }
+            log.warn("{}회차가 조합 성적 테이블 반영 회차({}) 이전이므로 다시 생성합니다", draw.getDrawNo(), appliedDrawNo);
+            rebuildInBackground();
+            return;
+        }
+
+        int index = draws.indexOf(draw.getDrawNo());
+        if (index < 0) {
+            return;
+        }
+        applyDraw(draws, index);
+    }
+
+    /**
+     * 새 회차 저장 커밋 후 반영 (메모리 저장소 스냅샷을 읽으므로 저장소 다음)
+     */
+    @Order(2)
+    @TransactionalEventListener
+    public void onDrawPublished(DrawPublishedEvent event) {
+        append(event.getDraw());
+    }
+
+    /**
+     * 조합 성적 조회
+     * @return 테이블이 준비되지 않았거나 draws 와 반영 회차가 다르면 null
+     */
+    public Outcome lookup(long numbersMask, DrawHistoryStore.Snapshot draws) {
+        if (!enabled || Long.bitCount(numbersMask) != 6 || (numbersMask & ~NUMBERS_MASK) != 0) {
+            return null;
+        }
+        int offset = HEADER_SIZE + colexRank(numbersMask) * RECORD_SIZE;
+
+        long stamp = lock.tryOptimisticRead();
+        Outcome outcome = read(offset, draws);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                outcome = read(offset, draws);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return outcome;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * 6개 번호 비트마스크의 colex 순위 (0 ~ C(45,6)-1)
+     */
+    static int colexRank(long numbersMask) {
+        int rank = 0;
+        int i = 0;
+        long remaining = numbersMask;
+        while (remaining != 0) {
+            int number = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            rank += BINOM[number - 1][++i];
+        }
+        return rank;
+    }
+
+    /**
+     * colex 순위 → 조합 (0부터 시작하는 오름차순 6개, colexRank 의 역)
+     */
+    static int[] unrank(int rank) {
+        int[] combination = new int[6];
+        int value = LottoMatchUtils.MAX_NUMBER - 1;
+        for (int k = 6; k >= 1; k--) {
+            while (BINOM[value][k] > rank) {
+                value--;
+            }
+            combination[k - 1] = value;
+            rank -= BINOM[value][k];
+            value--;
+        }
+        return combination;
+    }
+
+    /**
+     * colex 다음 조합 (제자리 변경)
+     */
+    static void next(int[] combination) {
+        int i = 0;
+        while (i < 5 && combination[i] + 1 == combination[i + 1]) {
+            i++;
+        }
+        combination[i]++;
+        for (int j = 0; j < i; j++) {
+            combination[j] = j;
+        }
+    }
+
+    // ===== 내부 =====
+
+    private Outcome read(int offset, DrawHistoryStore.Snapshot draws) {
+        MappedByteBuffer current = buffer;
+        if (current == null || appliedCount != draws.size() || appliedDrawNo != draws.latestDrawNo()) {
+            return null;
+        }
+
+        int rank1 = current.get(offset + R_RANK1) & 0xFF;
+        int rank2 = current.get(offset + R_RANK2) & 0xFF;
+        int rank3 = current.get(offset + R_RANK3) & 0xFF;
+        int rank4 = current.get(offset + R_RANK4) & 0xFF;
+        int rank5 = current.getChar(offset + R_RANK5);
+        int bestDrawNo = current.getChar(offset + R_BEST_DRAW_NO);
+        Integer bestRank = rank1 > 0 ? 1 : rank2 > 0 ? 2 : rank3 > 0 ? 3 : rank4 > 0 ? 4 : rank5 > 0 ? 5 : null;
+
+        return new Outcome(draws.size(), rank1, rank2, rank3, rank4, rank5,
+                current.getLong(offset + R_PRIZE), bestRank, bestRank != null ? bestDrawNo : null);
+    }
+
+    private boolean isReusable(MappedByteBuffer mapped, DrawHistoryStore.Snapshot draws) {
+        if (mapped.getInt(H_MAGIC) != MAGIC || mapped.getInt(H_VERSION) != VERSION || mapped.getInt(H_DIRTY) != 0) {
+            return false;
+        }
+        int drawNo = mapped.getInt(H_APPLIED_DRAW_NO);
+        int count = mapped.getInt(H_APPLIED_COUNT);
+        int end = draws.lowerBound(drawNo + 1);
+        return end == count && historyHash(draws, end) == mapped.getLong(H_HISTORY_HASH);
+    }
+
+    private void publish(MappedByteBuffer mapped) {
+        long stamp = lock.writeLock();
+        try {
+            buffer = mapped;
+            appliedDrawNo = mapped.getInt(H_APPLIED_DRAW_NO);
+            appliedCount = mapped.getInt(H_APPLIED_COUNT);
+            historyHash = mapped.getLong(H_HISTORY_HASH);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 백그라운드 재생성 (끝날 때까지 조회는 반영 회차가 달라서 null, 호출자는 기존 계산으로 대체)
+     */
+    private void rebuildInBackground() {
+        rebuilding = true;
+        Thread.ofPlatform().daemon().name("combination-table-rebuild").start(() -> {
+            try {
+                rebuild(drawHistoryStore.snapshot());
+            } catch (Exception e) {
+                log.error("조합 성적 테이블 재생성 중 오류 발생", e);
+            } finally {
+                rebuilding = false;
+            }
+            try {
+                // 재생성 중 저장된 회차 반영 (그 사이 이전 회차가 또 들어왔으면 다시 생성)
+                open();
+            } catch (Exception e) {
+                log.error("조합 성적 테이블 재생성 후 회차 반영 중 오류 발생", e);
+            }
+        });
+    }
+
+    /**
+     * 전체 재생성 (임시 파일에 만든 뒤 교체)
+     */
+    private void rebuild(DrawHistoryStore.Snapshot draws) throws IOException {
+        long startedAt = System.nanoTime();
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+
+        MappedByteBuffer mapped = map(temp);
+
+        // 회차 번호 → 당첨금 테이블 (스냅샷 밖의 회차는 null 이라 집계에서 제외)
+        long[][] prizesByDrawNo = new long[draws.latestDrawNo() + 1][];
+        for (int i = 0; i < draws.size(); i++) {
+            prizesByDrawNo[draws.drawNo(i)] = prizeRow(draws, i);
+        }
+
+        ForkJoinPool.commonPool().invoke(new BuildTask(mapped, prizesByDrawNo, 0, COMBINATIONS));
+
+        mapped.putInt(H_MAGIC, MAGIC);
+        mapped.putInt(H_VERSION, VERSION);
+        mapped.putInt(H_APPLIED_DRAW_NO, draws.latestDrawNo());
+        mapped.putInt(H_APPLIED_COUNT, draws.size());
+        mapped.putLong(H_HISTORY_HASH, historyHash(draws, draws.size()));
+        mapped.putInt(H_DIRTY, 0);
+        mapped.force();
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        publish(mapped);
+
+        log.info("조합 성적 테이블 생성 완료 ({}회차, {}ms)",
+                draws.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 회차 하나 반영 - 당첨번호 k개 + 나머지 39개 중 6-k개 (k = 3..6)
+     */
+    private void applyDraw(DrawHistoryStore.Snapshot draws, int index) {
+        int drawNo = draws.drawNo(index);
+        long winningMask = draws.mask(index);
+        int bonusNumber = draws.bonus(index);
+        long[] prizes = prizeRow(draws, index);
+
+        long othersMask = NUMBERS_MASK & ~winningMask;
+        long[] others = new long[Long.bitCount(othersMask)];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = Long.lowestOneBit(othersMask);
+            othersMask &= othersMask - 1;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            buffer.putInt(H_DIRTY, 1);
+
+            // 당첨번호의 부분집합 중 3개 이상
+            for (long sub = winningMask; sub != 0; sub = (sub - 1) & winningMask) {
+                int matchCount = Long.bitCount(sub);
+                if (matchCount >= 3) {
+                    applyCombinations(sub, others, 0, 6 - matchCount, matchCount, bonusNumber, drawNo, prizes);
+                }
+            }
+
+            appliedDrawNo = drawNo;
+            appliedCount++;
+            historyHash = mix(historyHash, draws, index);
+
+            buffer.putInt(H_APPLIED_DRAW_NO, appliedDrawNo);
+            buffer.putInt(H_APPLIED_COUNT, appliedCount);
+            buffer.putLong(H_HISTORY_HASH, historyHash);
+            buffer.putInt(H_DIRTY, 0);
+            buffer.force();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        log.info("{}회차 조합 성적 테이블 반영 완료", drawNo);
+    }
+
+    // others[from..] 에서 remaining 개를 더 골라 조합 완성
+    private void applyCombinations(long mask, long[] others, int from, int remaining,
+                                   int matchCount, int bonusNumber, int drawNo, long[] prizes) {
+        if (remaining == 0) {
+            boolean hasBonus = LottoMatchUtils.hasBonus(mask, bonusNumber);
+            int rank = LottoMatchUtils.rankOf(matchCount, hasBonus);
+            addWin(buffer, HEADER_SIZE + colexRank(mask) * RECORD_SIZE, rank, drawNo, prizes[rank]);
+            return;
+        }
+        for (int i = from; i <= others.length - remaining; i++) {
+            applyCombinations(mask | others[i], others, i + 1, remaining - 1,
+                    matchCount, bonusNumber, drawNo, prizes);
+        }
+    }
+
+    // 회차 오름차순으로 호출된다고 가정 (최고 등수는 처음 달성한 회차 유지)
+    private static void addWin(MappedByteBuffer target, int offset, int rank, int drawNo, long prize) {
+        target.putLong(offset + R_PRIZE, target.getLong(offset + R_PRIZE) + prize);
+
+        int bestRank = currentBestRank(target, offset);
+        switch (rank) {
+            case 1 -> target.put(offset + R_RANK1, increment(target.get(offset + R_RANK1)));
+            case 2 -> target.put(offset + R_RANK2, increment(target.get(offset + R_RANK2)));
+            case 3 -> target.put(offset + R_RANK3, increment(target.get(offset + R_RANK3)));
+            case 4 -> target.put(offset + R_RANK4, increment(target.get(offset + R_RANK4)));
+            case 5 -> target.putChar(offset + R_RANK5, (char) (target.getChar(offset + R_RANK5) + 1));
+            default -> { }
+        }
+        if (bestRank == 0 || rank < bestRank) {
+            target.putChar(offset + R_BEST_DRAW_NO, (char) drawNo);
+        }
+    }
+
+    private static int currentBestRank(MappedByteBuffer target, int offset) {
+        if (target.get(offset + R_RANK1) != 0) return 1;
+        if (target.get(offset + R_RANK2) != 0) return 2;
+        if (target.get(offset + R_RANK3) != 0) return 3;
+        if (target.get(offset + R_RANK4) != 0) return 4;
+        if (target.getChar(offset + R_RANK5) != 0) return 5;
+        return 0;
+    }
+
+    private static byte increment(byte count) {
+        if ((count & 0xFF) == 0xFF) {
+            throw new IllegalStateException("조합 성적 레코드 범위를 초과했습니다");
+        }
+        return (byte) (count + 1);
+    }
+
+    private static long[] prizeRow(DrawHistoryStore.Snapshot draws, int index) {
+        long[] prizes = new long[6];
+        for (int rank = 1; rank <= 5; rank++) {
+            prizes[rank] = draws.prize(index, rank);
+        }
+        return prizes;
+    }
+
+    // 앞에서부터 end 개 회차의 내용 해시 (파일이 어떤 이력으로 만들어졌는지 확인용)
+    private static long historyHash(DrawHistoryStore.Snapshot draws, int end) {
+        long hash = 1L;
+        for (int i = 0; i < end; i++) {
+            hash = mix(hash, draws, i);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, DrawHistoryStore.Snapshot draws, int index) {
+        hash = hash * 31 + draws.drawNo(index);
+        hash = hash * 31 + draws.mask(index);
+        hash = hash * 31 + draws.bonus(index);
+        for (int rank = 1; rank <= 5; rank++) {
+            hash = hash * 31 + draws.prize(index, rank);
+        }
+        return hash;
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+        }
+    }
+
+    /**
+     * 조합 순위 구간 [from, to) 계산 (구간별로 레코드 위치가 겹치지 않으므로 병렬 기록 가능)
+     */
+    private final class BuildTask extends RecursiveAction {
+
+        private static final int THRESHOLD = 1 << 15;
+
+        private final MappedByteBuffer target;
+        private final long[][] prizesByDrawNo;
+        private final int from;
+        private final int to;
+
+        BuildTask(MappedByteBuffer target, long[][] prizesByDrawNo, int from, int to) {
+            this.target = target;
+            this.prizesByDrawNo = prizesByDrawNo;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BuildTask(target, prizesByDrawNo, from, mid),
+                        new BuildTask(target, prizesByDrawNo, mid, to));
+                return;
+            }
+
+            int[] combination = unrank(from);
+            for (int rank = from; rank < to; rank++) {
+                long mask = 0L;
+                for (int value : combination) {
+                    mask |= 1L << (value + 1);
+                }
+
+                int offset = HEADER_SIZE + rank * RECORD_SIZE;
+                drawNumberIndex.forEachWin(mask, 1, (drawNo, matchCount, hasBonus, winRank) -> {
+                    if (drawNo < prizesByDrawNo.length && prizesByDrawNo[drawNo] != null) {
+                        addWin(target, offset, winRank, drawNo, prizesByDrawNo[drawNo][winRank]);
+                    }
+                });
+
+                next(combination);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package hhammong.apilotto.store;
+
+import hhammong.apilotto.dto.UserDashboardResponse;
+import hhammong.apilotto.event.DrawSettledEvent;
+import hhammong.apilotto.event.PredictionsChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자별 대시보드 캐시 (LRU, 최대 maxSize 명)
+ * - 예측번호 등록 커밋 후 해당 사용자만 제거 (PredictionsChangedEvent)
+ * - 회차 정산 완료 후 전체 제거 (DrawSettledEvent)
+ * - 제거할 때마다 generation 을 올리고, 조회 전에 읽은 generation 이 그대로일 때만 저장
+ *   (제거 전에 읽은 이전 통계가 제거 후에 저장되는 것을 막음)
+ */
+@Slf4j
+@Component
+public class DashboardCache {
+
+    @Value("${lotto.dashboard-cache.max-size:1000}")
+    private int maxSize;
+
+    private Map<UUID, UserDashboardResponse> entries;
+
+    // entries 잠금 안에서만 변경
+    private volatile long generation;
+
+    @PostConstruct
+    public void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UserDashboardResponse> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public UserDashboardResponse get(UUID userId) {
+        synchronized (entries) {
+            return entries.get(userId);
+        }
+    }
+
+    /**
+     * 조회 시작 시점의 generation (put 에 그대로 넘김)
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * 조회 시작 후 제거가 없었을 때만 저장
+     */
+    public void put(UUID userId, UserDashboardResponse dashboard, long loadedGeneration) {
+        synchronized (entries) {
+            if (loadedGeneration == generation) {
+                entries.put(userId, dashboard);
+            }
+        }
+    }
+
+    public void evict(UUID userId) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(userId);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * 예측번호 등록 반영 (커밋 후)
+     */
+    @TransactionalEventListener
+    public void onPredictionsChanged(PredictionsChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    /**
+     * 회차 정산 반영 (추적 통계가 모두 바뀌므로 전체 제거)
+     */
+    @EventListener
+    public void onDrawSettled(DrawSettledEvent event) {
+        clear();
+        log.debug("{}회차 정산으로 대시보드 캐시 전체 제거", event.getDrawNo());
+    }
+}
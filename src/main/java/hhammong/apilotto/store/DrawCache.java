@@ -0,0 +1,131 @@
+package hhammong.apilotto.store;
+
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.event.DrawPublishedEvent;
+import hhammong.apilotto.repository.LottoHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 회차 조회 캐시 (LottoHistory 엔티티)
+ * - 최신 회차는 별도 슬롯에 고정 (evict 되지 않음)
+ * - 회차 번호 / historyId 별 LRU (최대 maxSize 건)
+ * - 새 회차는 DrawPublishedEvent 로 반영되므로 만료 시간 없음
+ * 반환하는 엔티티는 여러 요청이 공유하므로 읽기 전용으로만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawCache {
+
+    private final LottoHistoryRepository lottoHistoryRepository;
+
+    @Value("${lotto.draw-cache.max-size:256}")
+    private int maxSize;
+
+    private volatile LottoHistory latest;
+
+    private Map<Integer, LottoHistory> byDrawNo;
+    private Map<UUID, LottoHistory> byHistoryId;
+
+    @PostConstruct
+    public void init() {
+        byDrawNo = lru(maxSize);
+        byHistoryId = lru(maxSize);
+    }
+
+    /**
+     * 최신 회차
+     */
+    public Optional<LottoHistory> getLatest() {
+        LottoHistory current = latest;
+        if (current == null) {
+            current = lottoHistoryRepository.findTopByDeleteYnAndUseYnOrderByDrawNoDesc("N", "Y").orElse(null);
+            if (current != null) {
+                pinLatest(current);
+            }
+        }
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * 회차 번호로 조회 (삭제/미사용 회차 제외)
+     */
+    public Optional<LottoHistory> findByDrawNo(int drawNo) {
+        LottoHistory current = latest;
+        if (current != null && current.getDrawNo() == drawNo) {
+            return Optional.of(current);
+        }
+
+        LottoHistory cached = byDrawNo.get(drawNo);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<LottoHistory> loaded = lottoHistoryRepository.findByDrawNoAndDeleteYnAndUseYn(drawNo, "N", "Y");
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * historyId 로 조회
+     */
+    public Optional<LottoHistory> findByHistoryId(UUID historyId) {
+        LottoHistory cached = byHistoryId.get(historyId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<LottoHistory> loaded = lottoHistoryRepository.findById(historyId);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * 새 회차 반영 (커밋 후, 메모리 저장소/인덱스 다음)
+     */
+    @Order(3)
+    @TransactionalEventListener
+    public void onDrawPublished(DrawPublishedEvent event) {
+        LottoHistory draw = event.getDraw();
+        put(draw);
+
+        pinLatest(draw);
+        log.debug("{}회차 캐시 반영", draw.getDrawNo());
+    }
+
+    // 더 최신 회차만 고정 (DB 조회와 이벤트 반영이 겹쳐도 이전 회차로 돌아가지 않음)
+    private synchronized void pinLatest(LottoHistory draw) {
+        if (latest == null || draw.getDrawNo() >= latest.getDrawNo()) {
+            latest = draw;
+        }
+    }
+
+    private void put(LottoHistory draw) {
+        byHistoryId.put(draw.getHistoryId(), draw);
+        if ("N".equals(draw.getDeleteYn()) && "Y".equals(draw.getUseYn())) {
+            byDrawNo.put(draw.getDrawNo(), draw);
+        }
+    }
+
+    // 접근 순서 기준 LRU (가장 오래 안 쓴 항목부터 제거)
+    private static <K> Map<K, LottoHistory> lru(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, LottoHistory> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+}
@@ -0,0 +1,253 @@
+package hhammong.apilotto.store;
+
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.event.DrawPublishedEvent;
+import hhammong.apilotto.repository.LottoHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 전체 당첨번호 이력 메모리 저장소 (컬럼 단위 원시 배열)
+ * - 기동 시 LOTTO_HISTORY 를 한 번만 읽어서 적재
+ * - 새 회차 저장 시 append (copy-on-write, 읽기는 락 없이 스냅샷 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawHistoryStore {
+
+    // 4등, 5등 당첨금이 없을 때 기본값
+    public static final long DEFAULT_PRIZE_4TH = 50000L;
+    public static final long DEFAULT_PRIZE_5TH = 5000L;
+
+    private final LottoHistoryRepository lottoHistoryRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 기동 시 전체 회차 적재
+     */
+    @PostConstruct
+    public void load() {
+        List<LottoHistory> draws = lottoHistoryRepository
+                .findByDrawNoGreaterThanEqualAndDeleteYnAndUseYnOrderByDrawNoAsc(1, "N", "Y");
+
+        Snapshot loaded = Snapshot.of(draws);
+        snapshot = loaded;
+
+        log.info("당첨번호 이력 {}건 메모리 적재 완료", loaded.size());
+    }
+
+    /**
+     * 현재 스냅샷 (읽는 동안 append 되어도 변하지 않음)
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 새 회차 추가 (이미 있는 회차면 교체)
+     */
+    public synchronized void append(LottoHistory draw) {
+        snapshot = snapshot.with(draw);
+    }
+
+    /**
+     * 새 회차 저장 커밋 후 반영 (인덱스, 조합 테이블보다 먼저)
+     */
+    @Order(0)
+    @TransactionalEventListener
+    public void onDrawPublished(DrawPublishedEvent event) {
+        append(event.getDraw());
+    }
+
+    /**
+     * 회차별 당첨금 테이블 (index = 등수, 0은 꽝)
+     */
+    public static long[] prizeTable(LottoHistory draw) {
+        long[] prizes = new long[6];
+        prizes[1] = draw.getPrize1st() != null ? draw.getPrize1st() : 0L;
+        prizes[2] = draw.getPrize2nd() != null ? draw.getPrize2nd() : 0L;
+        prizes[3] = draw.getPrize3rd() != null ? draw.getPrize3rd() : 0L;
+        prizes[4] = draw.getPrize4th() != null ? draw.getPrize4th().longValue() : DEFAULT_PRIZE_4TH;
+        prizes[5] = draw.getPrize5th() != null ? draw.getPrize5th().longValue() : DEFAULT_PRIZE_5TH;
+        return prizes;
+    }
+
+    /**
+     * 불변 스냅샷 (회차 오름차순)
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(0, new int[0], new long[0], new byte[0],
+                new long[0][], new int[0], new UUID[0]);
+
+        private final int size;
+        private final int[] drawNos;
+        private final long[] masks;
+        private final byte[] bonus;
+        private final long[][] prizes;
+        private final int[] drawDays;       // 추첨일 (epoch day)
+        private final UUID[] historyIds;
+
+        private Snapshot(int size, int[] drawNos, long[] masks, byte[] bonus,
+                         long[][] prizes, int[] drawDays, UUID[] historyIds) {
+            this.size = size;
+            this.drawNos = drawNos;
+            this.masks = masks;
+            this.bonus = bonus;
+            this.prizes = prizes;
+            this.drawDays = drawDays;
+            this.historyIds = historyIds;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public int drawNo(int index) {
+            return drawNos[index];
+        }
+
+        public long mask(int index) {
+            return masks[index];
+        }
+
+        public int bonus(int index) {
+            return bonus[index];
+        }
+
+        public long prize(int index, int rank) {
+            return prizes[index][rank];
+        }
+
+        public LocalDate drawDate(int index) {
+            return LocalDate.ofEpochDay(drawDays[index]);
+        }
+
+        public UUID historyId(int index) {
+            return historyIds[index];
+        }
+
+        /**
+         * 최신 회차 번호 (없으면 0)
+         */
+        public int latestDrawNo() {
+            return size == 0 ? 0 : drawNos[size - 1];
+        }
+
+        /**
+         * 회차 위치 (없으면 음수)
+         */
+        public int indexOf(int drawNo) {
+            return Arrays.binarySearch(drawNos, 0, size, drawNo);
+        }
+
+        /**
+         * drawNo 이상인 첫 회차 위치
+         */
+        public int lowerBound(int drawNo) {
+            int index = indexOf(drawNo);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /**
+         * drawNo 이상인 회차 수
+         */
+        public int countFrom(int drawNo) {
+            return size - lowerBound(drawNo);
+        }
+
+        // 회차 오름차순으로 정렬된 목록에서 생성
+        static Snapshot of(List<LottoHistory> draws) {
+            int size = draws.size();
+            int[] drawNos = new int[size];
+            long[] masks = new long[size];
+            byte[] bonus = new byte[size];
+            long[][] prizes = new long[size][];
+            int[] drawDays = new int[size];
+            UUID[] historyIds = new UUID[size];
+
+            for (int i = 0; i < size; i++) {
+                LottoHistory draw = draws.get(i);
+                drawNos[i] = draw.getDrawNo();
+                masks[i] = draw.toNumbersMask();
+                bonus[i] = draw.getBonusNumber().byteValue();
+                prizes[i] = prizeTable(draw);
+                drawDays[i] = (int) draw.getDrawDate().toEpochDay();
+                historyIds[i] = draw.getHistoryId();
+            }
+            return new Snapshot(size, drawNos, masks, bonus, prizes, drawDays, historyIds);
+        }
+
+        Snapshot with(LottoHistory draw) {
+            int drawNo = draw.getDrawNo();
+            int index = indexOf(drawNo);
+            boolean replace = index >= 0;
+            int position = replace ? index : -index - 1;
+            int newSize = replace ? size : size + 1;
+
+            int[] newDrawNos = insert(drawNos, position, replace, newSize);
+            long[] newMasks = insert(masks, position, replace, newSize);
+            byte[] newBonus = insert(bonus, position, replace, newSize);
+            long[][] newPrizes = insert(prizes, position, replace, newSize);
+            int[] newDrawDays = insert(drawDays, position, replace, newSize);
+            UUID[] newHistoryIds = insert(historyIds, position, replace, newSize);
+
+            newDrawNos[position] = drawNo;
+            newMasks[position] = draw.toNumbersMask();
+            newBonus[position] = draw.getBonusNumber().byteValue();
+            newPrizes[position] = prizeTable(draw);
+            newDrawDays[position] = (int) draw.getDrawDate().toEpochDay();
+            newHistoryIds[position] = draw.getHistoryId();
+
+            return new Snapshot(newSize, newDrawNos, newMasks, newBonus, newPrizes, newDrawDays, newHistoryIds);
+        }
+
+        private static int[] insert(int[] source, int position, boolean replace, int newSize) {
+            int[] target = new int[newSize];
+            copyAround(source, target, source.length, position, replace);
+            return target;
+        }
+
+        private static long[] insert(long[] source, int position, boolean replace, int newSize) {
+            long[] target = new long[newSize];
+            copyAround(source, target, source.length, position, replace);
+            return target;
+        }
+
+        private static byte[] insert(byte[] source, int position, boolean replace, int newSize) {
+            byte[] target = new byte[newSize];
+            copyAround(source, target, source.length, position, replace);
+            return target;
+        }
+
+        private static <T> T[] insert(T[] source, int position, boolean replace, int newSize) {
+            T[] target = Arrays.copyOf(source, newSize);
+            copyAround(source, target, source.length, position, replace);
+            return target;
+        }
+
+        // position 앞뒤를 복사 (replace 면 같은 자리, 아니면 한 칸 뒤로 밀기)
+        private static void copyAround(Object source, Object target, int length, int position, boolean replace) {
+            System.arraycopy(source, 0, target, 0, position);
+            int tail = length - position;
+            if (tail > 0) {
+                System.arraycopy(source, position, target, replace ? position : position + 1, tail);
+            }
+        }
+    }
+}
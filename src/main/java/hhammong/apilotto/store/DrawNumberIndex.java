@@ -0,0 +1,176 @@
+package hhammong.apilotto.store;
+
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.event.DrawPublishedEvent;
+import hhammong.apilotto.util.LottoMatchUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 번호별 회차 비트셋 인덱스
+ * - numberBits[n] 의 d번째 비트 = d회차 당첨번호에 n이 포함됨
+ * - bonusBits[n] 의 d번째 비트 = d회차 보너스번호가 n
+ * 티켓 6개 번호의 비트셋을 bit-sliced 덧셈으로 합산해서
+ * 전 회차 일치 개수를 64회차씩 한 번에 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawNumberIndex {
+
+    private final DrawHistoryStore drawHistoryStore;
+
+    private volatile Bits bits = Bits.EMPTY;
+
+    /**
+     * 당첨 회차 콜백 (할당 없이 결과 전달)
+     */
+    @FunctionalInterface
+    public interface WinConsumer {
+        void accept(int drawNo, int matchCount, boolean hasBonus, int rank);
+    }
+
+    /**
+     * 기동 시 메모리 저장소에서 인덱스 생성
+     */
+    @PostConstruct
+    public void build() {
+        DrawHistoryStore.Snapshot draws = drawHistoryStore.snapshot();
+
+        Bits built = Bits.EMPTY.withCapacity(draws.latestDrawNo());
+        for (int i = 0; i < draws.size(); i++) {
+            built.set(draws.drawNo(i), draws.mask(i), draws.bonus(i));
+        }
+        bits = built;
+
+        log.info("번호별 회차 인덱스 생성 완료 ({}회차)", draws.size());
+    }
+
+    /**
+     * 새 회차 반영 (copy-on-write)
+     */
+    public synchronized void add(LottoHistory draw) {
+        Bits updated = bits.withCapacity(draw.getDrawNo());
+        updated.clear(draw.getDrawNo());
+        updated.set(draw.getDrawNo(), draw.toNumbersMask(), draw.getBonusNumber());
+        bits = updated;
+    }
+
+    /**
+     * 새 회차 저장 커밋 후 반영
+     */
+    @Order(1)
+    @TransactionalEventListener
+    public void onDrawPublished(DrawPublishedEvent event) {
+        add(event.getDraw());
+    }
+
+    /**
+     * fromDrawNo 회차 이후 3개 이상 일치한 회차를 오름차순으로 전달
+     * @return 당첨 회차 수
+     */
+    public int forEachWin(long ticketMask, int fromDrawNo, WinConsumer consumer) {
+        Bits current = bits;
+        int wins = 0;
+
+        int firstWord = Math.max(fromDrawNo, 0) >>> 6;
+        for (int w = firstWord; w < current.words; w++) {
+            // 3비트 카운터 (s2 s1 s0) 에 번호별 비트셋을 더함 (최대 6이므로 overflow 없음)
+            long s0 = 0L, s1 = 0L, s2 = 0L;
+            long bonus = 0L;
+            long remaining = ticketMask;
+            while (remaining != 0) {
+                int number = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+
+                long x = current.numberBits[number][w];
+                long carry0 = s0 & x;
+                s0 ^= x;
+                long carry1 = s1 & carry0;
+                s1 ^= carry0;
+                s2 |= carry1;
+
+                bonus |= current.bonusBits[number][w];
+            }
+
+            // 일치 개수 3 이상 = 100, 101, 110 또는 011
+            long candidates = (s2 | (s1 & s0)) & current.presentBits[w];
+            if (w == firstWord) {
+                candidates &= -1L << (fromDrawNo & 63);
+            }
+
+            while (candidates != 0) {
+                int bit = Long.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+
+                int matchCount = (int) (((s2 >>> bit) & 1L) << 2 | ((s1 >>> bit) & 1L) << 1 | ((s0 >>> bit) & 1L));
+                boolean hasBonus = ((bonus >>> bit) & 1L) != 0;
+                consumer.accept((w << 6) | bit, matchCount, hasBonus, LottoMatchUtils.rankOf(matchCount, hasBonus));
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * 불변 비트셋 묶음 (회차 번호가 곧 비트 위치)
+     */
+    private static final class Bits {
+
+        static final Bits EMPTY = new Bits(0);
+
+        final int words;
+        final long[][] numberBits;
+        final long[][] bonusBits;
+        final long[] presentBits;
+
+        Bits(int words) {
+            this.words = words;
+            this.numberBits = new long[LottoMatchUtils.MAX_NUMBER + 1][words];
+            this.bonusBits = new long[LottoMatchUtils.MAX_NUMBER + 1][words];
+            this.presentBits = new long[words];
+        }
+
+        // maxDrawNo 까지 담을 수 있는 복사본
+        Bits withCapacity(int maxDrawNo) {
+            int required = Math.max(words, (maxDrawNo >>> 6) + 1);
+            Bits copy = new Bits(required);
+            for (int n = 0; n <= LottoMatchUtils.MAX_NUMBER; n++) {
+                System.arraycopy(numberBits[n], 0, copy.numberBits[n], 0, words);
+                System.arraycopy(bonusBits[n], 0, copy.bonusBits[n], 0, words);
+            }
+            System.arraycopy(presentBits, 0, copy.presentBits, 0, words);
+            return copy;
+        }
+
+        void set(int drawNo, long mask, int bonusNumber) {
+            int w = drawNo >>> 6;
+            long bit = 1L << (drawNo & 63);
+
+            long remaining = mask;
+            while (remaining != 0) {
+                int number = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                numberBits[number][w] |= bit;
+            }
+            if (bonusNumber >= LottoMatchUtils.MIN_NUMBER && bonusNumber <= LottoMatchUtils.MAX_NUMBER) {
+                bonusBits[bonusNumber][w] |= bit;
+            }
+            presentBits[w] |= bit;
+        }
+
+        void clear(int drawNo) {
+            int w = drawNo >>> 6;
+            long keep = ~(1L << (drawNo & 63));
+            for (int n = 0; n <= LottoMatchUtils.MAX_NUMBER; n++) {
+                numberBits[n][w] &= keep;
+                bonusBits[n][w] &= keep;
+            }
+            presentBits[w] &= keep;
+        }
+    }
+}
@@ -1,52 +1,90 @@
 package hhammong.apilotto.util;
 
+import hhammong.apilotto.security.JwtKeyRing;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
 
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
     private final long validityInMilliseconds = 3600000; // 1시간
 
-    // 토큰 생성
+    // 서명 키 (모든 노드가 같은 값을 써야 함, application.properties 참고)
+    @Value("${lotto.jwt.active-kid:}")
+    private String activeKid;
+
+    @Value("${lotto.jwt.keys:}")
+    private String keys;
+
+    @Value("${lotto.jwt.keystore.path:}")
+    private String keystorePath;
+
+    @Value("${lotto.jwt.keystore.type:PKCS12}")
+    private String keystoreType;
+
+    @Value("${lotto.jwt.keystore.password:}")
+    private String keystorePassword;
+
+    private JwtKeyRing keyRing;
+
+    // 불변 / 스레드 안전이므로 한 번만 만들어서 모든 검증에 공유 (kid 로 검증 키 선택)
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        keyRing = JwtKeyRing.load(activeKid, keys, keystorePath, keystoreType, keystorePassword);
+        parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        SecretKey key = keyRing.find(header.getKeyId());
+                        if (key == null) {
+                            throw new JwtException("알 수 없는 서명 키입니다: kid=" + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    // 토큰 생성 (active 키로 서명, 헤더에 kid)
     public String createToken(String userId, String userUid) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
+                .header().keyId(keyRing.getActiveKid()).and()
                 .subject(userId)              // ← 이렇게!
                 .claim("userUid", userUid)
                 .issuedAt(now)
                 .expiration(validity)         // ← 이렇게!
-                .signWith(secretKey)
+                .signWith(keyRing.getActiveKey())
                 .compact();
     }
 
+    // 서명 검증 후 claims 반환 (유효하지 않으면 JwtException)
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
     // 토큰에서 사용자 ID 추출
     public String getUserId(String token) {
-        return Jwts.parser()                  // ← parserBuilder 아님!
-                .verifyWith(secretKey)        // ← setSigningKey 아님!
-                .build()
-                .parseSignedClaims(token)     // ← parseClaimsJws 아님!
-                .getPayload()                 // ← getBody 아님!
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -2,39 +2,130 @@ package hhammong.apilotto.util;
 
 import lombok.*;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 public class LottoMatchUtils {
 
+    public static final int MIN_NUMBER = 1;
+    public static final int MAX_NUMBER = 45;
+
+    // 등수 테이블: index = (일치 개수 << 1) | 보너스 일치, 값 = 등수 (0이면 꽝)
+    private static final int[] RANK_TABLE = new int[14];
+
+    // 매칭 결과는 14가지 조합뿐이므로 미리 만들어 두고 재사용
+    private static final MatchResult[] MATCH_RESULTS = new MatchResult[14];
+
+    static {
+        for (int matchCount = 0; matchCount <= 6; matchCount++) {
+            for (int bonus = 0; bonus <= 1; bonus++) {
+                Integer rank = getRank(matchCount, bonus == 1);
+                int index = (matchCount << 1) | bonus;
+                RANK_TABLE[index] = rank != null ? rank : 0;
+                MATCH_RESULTS[index] = new MatchResult(matchCount, bonus == 1, rank);
+            }
+        }
+    }
+
+    // ===== 비트마스크 엔진 (번호 n → n번째 비트, 1~45) =====
+
+    /**
+     * 번호 하나의 비트 (범위 밖이면 0)
+     */
+    public static long bit(int number) {
+        if (number < MIN_NUMBER || number > MAX_NUMBER) {
+            return 0L;
+        }
+        return 1L << number;
+    }
+
+    /**
+     * 번호 목록 → 비트마스크
+     */
+    public static long toMask(List<Integer> numbers) {
+        long mask = 0L;
+        if (numbers == null) {
+            return mask;
+        }
+        for (int i = 0; i < numbers.size(); i++) {
+            Integer number = numbers.get(i);
+            if (number != null) {
+                mask |= bit(number);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크 → 번호 목록 (오름차순)
+     */
+    public static List<Integer> toList(long mask) {
+        List<Integer> numbers = new ArrayList<>(Long.bitCount(mask));
+        while (mask != 0) {
+            numbers.add(Long.numberOfTrailingZeros(mask));
+            mask &= mask - 1;
+        }
+        return numbers;
+    }
+
+    /**
+     * 일치 개수
+     */
+    public static int matchCount(long myMask, long winningMask) {
+        return Long.bitCount(myMask & winningMask);
+    }
+
+    /**
+     * 보너스 번호 일치 여부
+     */
+    public static boolean hasBonus(long myMask, int bonusNumber) {
+        return (myMask & bit(bonusNumber)) != 0;
+    }
+
+    /**
+     * 등수 판정 (0이면 꽝)
+     */
+    public static int rankOf(int matchCount, boolean hasBonus) {
+        return RANK_TABLE[(matchCount << 1) | (hasBonus ? 1 : 0)];
+    }
+
+    /**
+     * 등수 판정 (0이면 꽝)
+     */
+    public static int rankOf(long myMask, long winningMask, int bonusNumber) {
+        return rankOf(matchCount(myMask, winningMask), hasBonus(myMask, bonusNumber));
+    }
+
+    /**
+     * 매칭 결과 (미리 만들어 둔 인스턴스 반환, 할당 없음)
+     */
+    public static MatchResult calculateMatch(long myMask, long winningMask, int bonusNumber) {
+        int matchCount = matchCount(myMask, winningMask);
+        boolean hasBonus = hasBonus(myMask, bonusNumber);
+        return MATCH_RESULTS[(matchCount << 1) | (hasBonus ? 1 : 0)];
+    }
+
+    // ===== List 기반 API (비트마스크 엔진 어댑터) =====
+
     /**
      * 두 번호 배열의 일치 개수 계산
      */
     public static int countMatches(List<Integer> myNumbers, List<Integer> winningNumbers) {
-        Set<Integer> winSet = new HashSet<>(winningNumbers);
-
-        return (int) myNumbers.stream()
-                .filter(winSet::contains)
-                .count();
+        return matchCount(toMask(myNumbers), toMask(winningNumbers));
     }
 
     /**
      * 일치하는 번호들 반환 (NEW!)
      */
     public static List<Integer> getMatchedNumbers(List<Integer> myNumbers, List<Integer> winningNumbers) {
-        Set<Integer> winSet = new HashSet<>(winningNumbers);
-        return myNumbers.stream()
-                .filter(winSet::contains)
-                .sorted()
-                .toList();
+        return toList(toMask(myNumbers) & toMask(winningNumbers));
     }
 
     /**
      * 보너스 번호 일치 여부
      */
     public static boolean hasBonusMatch(List<Integer> myNumbers, Integer bonusNumber) {
-        return myNumbers.contains(bonusNumber);
+        return bonusNumber != null && hasBonus(toMask(myNumbers), bonusNumber);
     }
 
     /**
@@ -66,15 +157,10 @@ public class LottoMatchUtils {
             List<Integer> winningNumbers,
             Integer bonusNumber) {
 
-        int matchCount = countMatches(myNumbers, winningNumbers);
-        boolean hasBonus = hasBonusMatch(myNumbers, bonusNumber);
-        Integer rank = getRank(matchCount, hasBonus);
-
-        return MatchResult.builder()
-                .matchCount(matchCount)
-                .hasBonus(hasBonus)
-                .rank(rank)
-                .build();
+        return calculateMatch(
+                toMask(myNumbers),
+                toMask(winningNumbers),
+                bonusNumber != null ? bonusNumber : 0);
     }
 
     /**
@@ -97,4 +183,4 @@ public class LottoMatchUtils {
             return rank + "등";
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package hhammong.apilotto.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 목록 커서 (예측번호: 생성일시 + PREDICTION_ID, 회차: DRAW_NO)
+ * 클라이언트에는 base64url 문자열로만 노출하므로 형식을 바꿔도 API 는 그대로 유지된다.
+ */
+public final class PageCursor {
+
+    private static final char SEPARATOR = '|';
+    private static final String DRAW_PREFIX = "draw" + SEPARATOR;
+
+    private final LocalDateTime createdAt;
+    private final UUID predictionId;
+
+    private PageCursor(LocalDateTime createdAt, UUID predictionId) {
+        this.createdAt = createdAt;
+        this.predictionId = predictionId;
+    }
+
+    public static String encode(LocalDateTime createdAt, UUID predictionId) {
+        String raw = createdAt.toString() + SEPARATOR + predictionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (형식이 맞지 않으면 IllegalArgumentException)
+     */
+    public static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+
+    /**
+     * 회차 목록 커서 (다음 페이지는 이 회차 미만부터)
+     */
+    public static String encodeDrawNo(int drawNo) {
+        String raw = DRAW_PREFIX + drawNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 회차 목록 커서 해석 (형식이 맞지 않으면 IllegalArgumentException)
+     */
+    public static int decodeDrawNo(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!raw.startsWith(DRAW_PREFIX)) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+        try {
+            return Integer.parseInt(raw.substring(DRAW_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getPredictionId() {
+        return predictionId;
+    }
+}
@@ -0,0 +1,74 @@
+package hhammong.apilotto.util;
+
+import hhammong.apilotto.dto.UserPredictionCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 번호 일괄 등록용 CSV 파서
+ * 한 줄에 한 조합: n1,n2,n3,n4,n5,n6[,메모]
+ * - 빈 줄, # 으로 시작하는 줄은 무시
+ * - 첫 줄이 숫자로 시작하지 않으면 헤더로 보고 건너뜀
+ * - 숫자가 아닌 번호는 null 로 두고 검증 단계에서 행 단위 오류로 처리
+ */
+public class PredictionCsvParser {
+
+    private PredictionCsvParser() {
+    }
+
+    /**
+     * 한 줄씩 읽어서 요청 목록 생성
+     * @throws IllegalArgumentException maxRows 초과
+     */
+    public static List<UserPredictionCreateRequest> parse(Reader reader, int maxRows) throws IOException {
+        List<UserPredictionCreateRequest> requests = new ArrayList<>();
+        BufferedReader lines = reader instanceof BufferedReader br ? br : new BufferedReader(reader);
+
+        boolean first = true;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (first) {
+                first = false;
+                if (!Character.isDigit(trimmed.charAt(0))) {
+                    continue;   // 헤더
+                }
+            }
+            if (requests.size() >= maxRows) {
+                throw new IllegalArgumentException("한 번에 최대 " + maxRows + "개까지 등록할 수 있습니다");
+            }
+            requests.add(parseLine(trimmed));
+        }
+        return requests;
+    }
+
+    private static UserPredictionCreateRequest parseLine(String line) {
+        String[] tokens = line.split(",", 7);
+
+        List<Integer> numbers = new ArrayList<>(6);
+        for (int i = 0; i < Math.min(tokens.length, 6); i++) {
+            numbers.add(parseNumber(tokens[i]));
+        }
+        String memo = tokens.length > 6 ? tokens[6].strip() : null;
+
+        return UserPredictionCreateRequest.builder()
+                .numbers(numbers)
+                .memo(memo == null || memo.isEmpty() ? null : memo)
+                .build();
+    }
+
+    private static Integer parseNumber(String token) {
+        try {
+            return Integer.valueOf(token.strip());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package hhammong.apilotto.util;
+
+/**
+ * 등수별 당첨 집계 (결과를 만드는 순회 안에서 함께 채움)
+ * - 등수별 개수 (index = 등수, 0은 꽝), 총 당첨금
+ * - 최고 등수와 그 등수를 처음 달성한 회차 (추가 순서와 무관)
+ * 결과 목록을 다시 훑지 않고 응답 통계를 만들 수 있다. 스레드 안전하지 않음.
+ */
+public final class RankAccumulator {
+
+    private final int[] rankCounts = new int[6];
+    private long totalPrize;
+    private int bestRank;     // 0 = 당첨 없음
+    private int bestDrawNo;
+
+    /**
+     * 결과 하나 반영 (rank 0 또는 null 은 꽝)
+     */
+    public void add(Integer rank, long prize, int drawNo) {
+        int r = rank == null ? 0 : rank;
+        rankCounts[r]++;
+        totalPrize += prize;
+
+        if (r != 0 && (bestRank == 0 || r < bestRank || (r == bestRank && drawNo < bestDrawNo))) {
+            bestRank = r;
+            bestDrawNo = drawNo;
+        }
+    }
+
+    /**
+     * 회차 구분이 없는 결과 반영 (한 회차에 대한 여러 번호 확인)
+     */
+    public void add(Integer rank, long prize) {
+        add(rank, prize, 0);
+    }
+
+    public int count(int rank) {
+        return rankCounts[rank];
+    }
+
+    /**
+     * 꽝 포함 전체 반영 건수
+     */
+    public int getTotalCount() {
+        return rankCounts[0] + getWinningCount();
+    }
+
+    public int getWinningCount() {
+        return rankCounts[1] + rankCounts[2] + rankCounts[3] + rankCounts[4] + rankCounts[5];
+    }
+
+    public long getTotalPrize() {
+        return totalPrize;
+    }
+
+    /**
+     * 최고 등수 (당첨이 없으면 null)
+     */
+    public Integer getBestRank() {
+        return bestRank == 0 ? null : bestRank;
+    }
+
+    /**
+     * 최고 등수를 처음 달성한 회차 (당첨이 없으면 null)
+     */
+    public Integer getBestDrawNo() {
+        return bestRank == 0 ? null : bestDrawNo;
+    }
+}
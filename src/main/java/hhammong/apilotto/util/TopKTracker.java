@@ -0,0 +1,118 @@
+package hhammong.apilotto.util;
+
+import java.util.Arrays;
+
+/**
+ * 증가만 하는 카운터 배열의 상위 capacity 개 유지 (min-heap)
+ * - 순서 : 카운트가 크면 앞, 같으면 id 가 작으면 앞
+ * - heap 밖의 항목은 항상 root 보다 뒤이므로, 카운트가 1 오를 때 root 와만 비교하면 됨 (O(log capacity))
+ * - 카운트가 줄어드는 경우(재집계)는 clear 후 다시 채워야 함
+ * 동기화하지 않음 (호출하는 쪽에서 잠금)
+ */
+public final class TopKTracker {
+
+    private final int[] counts;
+    private final int[] heap;       // heap[0] = 상위 목록 중 가장 뒤
+    private final int[] position;   // id → heap 위치 (-1 = 밖)
+    private int size;
+
+    public TopKTracker(int[] counts, int capacity) {
+        this.counts = counts;
+        this.heap = new int[Math.min(capacity, counts.length)];
+        this.position = new int[counts.length];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * counts[id] 를 1 올린 뒤 호출
+     */
+    public void incremented(int id) {
+        int at = position[id];
+        if (at >= 0) {
+            siftDown(at);
+        } else if (size < heap.length) {
+            heap[size] = id;
+            position[id] = size;
+            siftUp(size++);
+        } else if (heap.length > 0 && ahead(id, heap[0])) {
+            position[heap[0]] = -1;
+            heap[0] = id;
+            position[id] = 0;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 상위 id 목록 (앞선 순서)
+     */
+    public int[] top() {
+        Integer[] ids = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = heap[i];
+        }
+        Arrays.sort(ids, (x, y) -> ahead(x, y) ? -1 : (x.equals(y) ? 0 : 1));
+
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = ids[i];
+        }
+        return result;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    // x 가 y 보다 앞서는지
+    private boolean ahead(int x, int y) {
+        return counts[x] != counts[y] ? counts[x] > counts[y] : x < y;
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!ahead(heap[parent], id)) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        place(id, i);
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && ahead(heap[child], heap[right])) {
+                child = right;
+            }
+            if (!ahead(id, heap[child])) {
+                break;
+            }
+            move(child, i);
+            i = child;
+        }
+        place(id, i);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        position[heap[to]] = to;
+    }
+
+    private void place(int id, int i) {
+        heap[i] = id;
+        position[id] = i;
+    }
+}
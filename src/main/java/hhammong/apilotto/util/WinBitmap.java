@@ -0,0 +1,133 @@
+package hhammong.apilotto.util;
+
+import java.util.Arrays;
+
+/**
+ * 예측번호 1개의 당첨 이력 (불변)
+ * - draws : 당첨 회차 비트맵, bit n = n회차 당첨 (BitSet.toByteArray 와 같은 little-endian 배치)
+ * - ranks : 당첨 회차 오름차순 등수, 1바이트에 2개 (하위 4비트가 앞 회차)
+ * 1,200회차 기준 비트맵 150바이트 + 당첨 수 / 2 바이트로, 당첨마다 한 행을 쓰는 것보다 훨씬 작다.
+ */
+public final class WinBitmap {
+
+    private static final WinBitmap EMPTY = new WinBitmap(new byte[0], new byte[0], 0);
+
+    private final byte[] draws;
+    private final byte[] ranks;
+    private final int size;
+
+    private WinBitmap(byte[] draws, byte[] ranks, int size) {
+        this.draws = draws;
+        this.ranks = ranks;
+        this.size = size;
+    }
+
+    public static WinBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 저장된 바이트에서 복원 (null 이면 빈 이력)
+     */
+    public static WinBitmap of(byte[] draws, byte[] ranks) {
+        if (draws == null || draws.length == 0) {
+            return EMPTY;
+        }
+        int size = 0;
+        for (byte b : draws) {
+            size += Integer.bitCount(b & 0xFF);
+        }
+        if (ranks == null || ranks.length != (size + 1) / 2) {
+            throw new IllegalArgumentException("당첨 회차 수와 등수 배열 길이가 맞지 않습니다: " + size);
+        }
+        return new WinBitmap(draws.clone(), ranks.clone(), size);
+    }
+
+    public boolean contains(int drawNo) {
+        int i = drawNo >>> 3;
+        return i < draws.length && (draws[i] & (1 << (drawNo & 7))) != 0;
+    }
+
+    /**
+     * 당첨 회차 추가 (이미 있으면 그대로 반환, 회차 순서와 상관없이 추가 가능)
+     */
+    public WinBitmap with(int drawNo, int rank) {
+        if (drawNo < 1) {
+            throw new IllegalArgumentException("잘못된 회차입니다: " + drawNo);
+        }
+        if (rank < 1 || rank > 5) {
+            throw new IllegalArgumentException("잘못된 등수입니다: " + rank);
+        }
+        if (contains(drawNo)) {
+            return this;
+        }
+
+        byte[] newDraws = Arrays.copyOf(draws, Math.max(draws.length, (drawNo >>> 3) + 1));
+        newDraws[drawNo >>> 3] |= (byte) (1 << (drawNo & 7));
+
+        // 등수 배열은 앞 회차 당첨 수 위치에 끼워 넣음 (정산은 항상 마지막에 붙음)
+        int position = countBefore(drawNo);
+        byte[] newRanks = new byte[(size + 2) / 2];
+        for (int k = 0, j = 0; k <= size; k++) {
+            int value = k == position ? rank : rankAt(j++);
+            newRanks[k >>> 1] |= (byte) (value << ((k & 1) << 2));
+        }
+        return new WinBitmap(newDraws, newRanks, size + 1);
+    }
+
+    /**
+     * 당첨 회차 오름차순으로 (회차, 등수) 전달
+     */
+    public void forEach(WinConsumer consumer) {
+        int k = 0;
+        for (int i = 0; i < draws.length; i++) {
+            int bits = draws[i] & 0xFF;
+            while (bits != 0) {
+                int bit = Integer.numberOfTrailingZeros(bits);
+                consumer.accept((i << 3) + bit, rankAt(k++));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * drawNo 회차의 등수 (당첨이 아니면 0)
+     */
+    public int rankOf(int drawNo) {
+        return contains(drawNo) ? rankAt(countBefore(drawNo)) : 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] drawBytes() {
+        return draws.clone();
+    }
+
+    public byte[] rankBytes() {
+        return ranks.clone();
+    }
+
+    private int rankAt(int k) {
+        return (ranks[k >>> 1] >>> ((k & 1) << 2)) & 0x0F;
+    }
+
+    // drawNo 보다 앞선 당첨 회차 수
+    private int countBefore(int drawNo) {
+        int full = Math.min(drawNo >>> 3, draws.length);
+        int count = 0;
+        for (int i = 0; i < full; i++) {
+            count += Integer.bitCount(draws[i] & 0xFF);
+        }
+        if (full < draws.length) {
+            count += Integer.bitCount(draws[full] & 0xFF & ((1 << (drawNo & 7)) - 1));
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    public interface WinConsumer {
+        void accept(int drawNo, int rank);
+    }
+}
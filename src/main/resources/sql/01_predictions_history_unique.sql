@@ -0,0 +1,8 @@
+-- PREDICTIONS_HISTORY: DRAW_NO 단독 unique 제거, (PREDICTION_ID, DRAW_NO) unique 추가
+-- 주간 정산 배치가 같은 회차에 여러 예측번호의 당첨 이력을 저장하고,
+-- 재실행 시 ON CONFLICT DO NOTHING 으로 중복 저장을 막는다.
+
+ALTER TABLE "PREDICTIONS_HISTORY" DROP CONSTRAINT IF EXISTS "PREDICTIONS_HISTORY_DRAW_NO_key";
+
+ALTER TABLE "PREDICTIONS_HISTORY"
+    ADD CONSTRAINT "UK_PREDICTIONS_HISTORY_PREDICTION_DRAW" UNIQUE ("PREDICTION_ID", "DRAW_NO");
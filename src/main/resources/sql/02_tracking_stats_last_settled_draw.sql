@@ -0,0 +1,11 @@
+-- USER_PREDICTION_TRACKING_STATS: 회차 반영 여부 컬럼 추가
+-- 정산 시 LAST_SETTLED_DRAW_NO < drawNo 인 행만 갱신해서 같은 회차를 두 번 반영하지 않는다.
+
+ALTER TABLE USER_PREDICTION_TRACKING_STATS ADD COLUMN IF NOT EXISTS LAST_SETTLED_DRAW_NO INTEGER;
+
+-- 기존 행: 등록 시점에 시작 회차부터 TOTAL_DRAWS 회차까지 반영되어 있음
+UPDATE USER_PREDICTION_TRACKING_STATS s
+SET LAST_SETTLED_DRAW_NO = p.START_DRAW_ID - 1 + COALESCE(s.TOTAL_DRAWS, 0)
+FROM USER_PREDICTIONS p
+WHERE p.PREDICTION_ID = s.PREDICTION_ID
+  AND s.LAST_SETTLED_DRAW_NO IS NULL;
@@ -0,0 +1,28 @@
+-- USER_PREDICTIONS: 번호 조합 비트마스크 컬럼 + (USER_ID, NUMBERS_MASK) partial unique 인덱스
+-- bit n = 번호 n (1~45), 같은 조합이면 번호 순서와 상관없이 같은 값
+-- 중복 확인은 인덱스 1번 조회, 동시 등록은 unique 위반으로 하나만 저장된다.
+
+ALTER TABLE USER_PREDICTIONS ADD COLUMN IF NOT EXISTS NUMBERS_MASK BIGINT;
+
+-- 기존 행 채우기
+UPDATE USER_PREDICTIONS
+SET NUMBERS_MASK = (1::BIGINT << PREDICTED_NUM1) | (1::BIGINT << PREDICTED_NUM2) | (1::BIGINT << PREDICTED_NUM3)
+                 | (1::BIGINT << PREDICTED_NUM4) | (1::BIGINT << PREDICTED_NUM5) | (1::BIGINT << PREDICTED_NUM6)
+WHERE NUMBERS_MASK IS NULL;
+
+ALTER TABLE USER_PREDICTIONS ALTER COLUMN NUMBERS_MASK SET NOT NULL;
+
+-- 이미 중복으로 들어간 조합이 있으면 가장 먼저 등록한 것만 남기고 삭제 처리
+UPDATE USER_PREDICTIONS p
+SET DELETE_YN = 'Y', UPDATED_AT = NOW()
+WHERE p.DELETE_YN = 'N'
+  AND EXISTS (SELECT 1
+              FROM USER_PREDICTIONS o
+              WHERE o.USER_ID = p.USER_ID
+                AND o.NUMBERS_MASK = p.NUMBERS_MASK
+                AND o.DELETE_YN = 'N'
+                AND (o.CREATED_AT, o.PREDICTION_ID) < (p.CREATED_AT, p.PREDICTION_ID));
+
+CREATE UNIQUE INDEX IF NOT EXISTS UX_USER_PREDICTIONS_USER_MASK
+    ON USER_PREDICTIONS (USER_ID, NUMBERS_MASK)
+    WHERE DELETE_YN = 'N';
@@ -0,0 +1,15 @@
+-- PREDICTION_WIN_HISTORY: 예측번호별 당첨 이력 (당첨마다 한 행 대신 예측번호마다 한 행)
+-- WIN_DRAWS : 당첨 회차 비트맵, bit n = n회차 (byte i 의 bit j = i * 8 + j 회차)
+-- WIN_RANKS : 당첨 회차 오름차순 등수, 1바이트에 2개 (하위 4비트가 앞 회차)
+-- COMPLETE_YN = 'N' : 정산이 먼저 만든 행, 이관하면서 PREDICTIONS_HISTORY 의 이전 당첨과 합쳐짐
+-- 기존 행 이관: lotto.win-history.migration.on-startup=true 로 한 번 기동 (정산 배치가 돌지 않을 때)
+
+CREATE TABLE IF NOT EXISTS PREDICTION_WIN_HISTORY (
+    PREDICTION_ID UUID PRIMARY KEY,
+    USER_ID       UUID        NOT NULL,
+    WIN_DRAWS     BYTEA       NOT NULL,
+    WIN_RANKS     BYTEA       NOT NULL,
+    WIN_COUNT     INTEGER     NOT NULL,
+    COMPLETE_YN   VARCHAR(1)  DEFAULT 'Y',
+    UPDATED_AT    TIMESTAMP   NOT NULL
+);
@@ -0,0 +1,14 @@
+-- 커서 기반 목록 조회용 인덱스 (WHERE + ORDER BY 를 인덱스 범위 조회 한 번으로 처리, COUNT 없음)
+
+-- GET /api/lotto/draws/scroll : DRAW_NO < :before AND DELETE_YN = 'N' AND USE_YN = 'Y' ORDER BY DRAW_NO DESC
+-- LOTTO_HISTORY 는 테이블명과 `백틱` 매핑 컬럼만 대문자 식별자, DELETE_YN / USE_YN 은 소문자로 저장되므로 따옴표 없이 씀
+CREATE INDEX IF NOT EXISTS "IX_LOTTO_HISTORY_ACTIVE_DRAW_NO"
+    ON "LOTTO_HISTORY" ("DRAW_NO" DESC)
+    WHERE DELETE_YN = 'N' AND USE_YN = 'Y';
+
+-- GET /api/users/{userId}/predictions/scroll :
+--   USER_ID = :userId AND DELETE_YN = 'N' AND (CREATED_AT, PREDICTION_ID) < 커서
+--   ORDER BY CREATED_AT DESC, PREDICTION_ID DESC
+CREATE INDEX IF NOT EXISTS IX_USER_PREDICTIONS_USER_CREATED
+    ON USER_PREDICTIONS (USER_ID, CREATED_AT DESC, PREDICTION_ID DESC)
+    WHERE DELETE_YN = 'N';
@@ -0,0 +1,231 @@
+package hhammong.apilotto.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import hhammong.apilotto.config.RestTemplateConfig;
+import hhammong.apilotto.dto.DhlotteryApiResponse;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동행복권 API 클라이언트 테스트 (로컬 fake 서버로 지연 / 오류 주입)
+ */
+class DhlotteryClientTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private CloseableHttpClient httpClient;
+    private DhlotteryClient client;
+
+    // fake 서버 동작 (테스트마다 바꿈)
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+    private final AtomicInteger hits = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/lt645/selectPstLt645Info.do", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        client = newClient(Duration.ofSeconds(5), Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void 정상_응답은_회차_정보로_변환된다() {
+        Optional<DhlotteryApiResponse.LottoInfo> info = client.fetchDraw(1100);
+
+        assertThat(info).isPresent();
+        assertThat(info.get().getLtEpsd()).isEqualTo(1100);
+        assertThat(client.getMetrics().getSuccesses()).isEqualTo(1);
+    }
+
+    @Test
+    void 응답이_느리면_call_timeout_에서_끊긴다() {
+        delayMillis = 2000;
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.fetchDraw(1100))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("시간 초과");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(elapsedMillis).isLessThan(1500);
+        assertThat(client.getMetrics().getTimeouts()).isEqualTo(1);
+        assertThat(client.getMetrics().getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void 응답_대기가_response_timeout_을_넘으면_소켓에서_끊긴다() {
+        tearDownClient();
+        client = newClient(Duration.ofMillis(200), Duration.ofSeconds(5));
+        delayMillis = 2000;
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.fetchDraw(1100))
+                .isInstanceOf(ResourceAccessException.class);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(elapsedMillis).isLessThan(1500);
+        assertThat(client.getMetrics().getFailures()).isEqualTo(1);
+        assertThat(client.getMetrics().getTimeouts()).isZero();
+    }
+
+    @Test
+    void 연속_5xx_면_서킷이_열리고_서버를_호출하지_않는다() {
+        status = 503;
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> client.fetchDraw(1100)).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> client.fetchDraw(1100)).isInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD);
+        assertThat(client.getMetrics().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void open_duration_후_시험_호출이_성공하면_닫힌다() throws InterruptedException {
+        status = 500;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> client.fetchLatest()).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        status = 200;
+        Thread.sleep(OPEN_DURATION.toMillis() + 100);
+
+        assertThat(client.fetchLatest()).isPresent();
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 타임아웃도_서킷_실패로_센다() {
+        delayMillis = 2000;
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> client.fetchDraw(1100)).isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void 요청_오류_4xx_는_서킷_실패로_세지_않는다() {
+        status = 404;
+
+        for (int i = 0; i < FAILURE_THRESHOLD * 2; i++) {
+            assertThatThrownBy(() -> client.fetchDraw(1100)).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD * 2);
+        assertThat(client.getMetrics().getClientErrors()).isEqualTo(FAILURE_THRESHOLD * 2);
+    }
+
+    @Test
+    void 지연_카운터는_실제_호출만_누적한다() {
+        delayMillis = 50;
+        client.fetchDraw(1100);
+        client.fetchDraw(1101);
+
+        UpstreamMetrics.Snapshot metrics = client.getMetrics();
+        assertThat(metrics.getCalls()).isEqualTo(2);
+        assertThat(metrics.getAvgLatencyMillis()).isGreaterThanOrEqualTo(50.0);
+        assertThat(metrics.getMaxLatencyMillis()).isGreaterThanOrEqualTo(metrics.getAvgLatencyMillis());
+        assertThat(metrics.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private DhlotteryClient newClient(Duration responseTimeout, Duration callTimeout) {
+        RestTemplateConfig config = new RestTemplateConfig();
+        httpClient = config.dhlotteryHttpClient(4, Duration.ofMillis(500), responseTimeout, Duration.ofMillis(500));
+
+        DhlotteryClient newClient = new DhlotteryClient(config.dhlotteryRestTemplate(httpClient));
+        ReflectionTestUtils.setField(newClient, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(newClient, "drawParam", "srchLtEpsd");
+        ReflectionTestUtils.setField(newClient, "callTimeout", callTimeout);
+        ReflectionTestUtils.setField(newClient, "failureThreshold", FAILURE_THRESHOLD);
+        ReflectionTestUtils.setField(newClient, "openDuration", OPEN_DURATION);
+        newClient.init();
+        return newClient;
+    }
+
+    private void tearDownClient() {
+        client.close();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String query = exchange.getRequestURI().getQuery();
+        int drawNo = query == null ? 1200 : Integer.parseInt(query.substring(query.indexOf('=') + 1));
+        String body = status == 200 ? body(drawNo) : "{}";
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        try {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+            exchange.close();
+        }
+    }
+
+    private static String body(int drawNo) {
+        return """
+                {"resultCode":"0000","resultMessage":"ok","data":{"list":[{
+                  "ltEpsd":%d,"ltRflYmd":"20240106",
+                  "tm1WnNo":1,"tm2WnNo":2,"tm3WnNo":3,"tm4WnNo":4,"tm5WnNo":5,"tm6WnNo":6,
+                  "bnsWnNo":7,
+                  "rnk1WnAmt":2000000000,"rnk2WnAmt":50000000,"rnk3WnAmt":1500000,
+                  "rnk4WnAmt":50000,"rnk5WnAmt":5000}]}}
+                """.formatted(drawNo);
+    }
+}
@@ -0,0 +1,147 @@
+package hhammong.apilotto.repository;
+
+import hhammong.apilotto.dto.PredictionDashboardItem;
+import hhammong.apilotto.dto.UserPredictionResponse;
+import hhammong.apilotto.dto.UserPredictionSummary;
+import hhammong.apilotto.entity.User;
+import hhammong.apilotto.entity.UserPrediction;
+import hhammong.apilotto.entity.UserPredictionHistoricalStats;
+import hhammong.apilotto.entity.UserPredictionTrackingStats;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예측번호 목록 조회 SQL 실행 횟수 테스트 (H2, Hibernate statistics)
+ * - 엔티티 목록은 역방향 OneToOne(과거 / 추적 통계) 때문에 행마다 조회가 2번씩 더 나감
+ * - projection 목록은 USER_PREDICTIONS 한 번만 조회
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.sql.init.schema-locations=classpath:sql/prediction-read-schema.sql",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserPredictionRepositoryTest {
+
+    private static final int PREDICTIONS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserPredictionRepository predictionRepository;
+
+    private UUID userId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .userUid("tester")
+                .name("테스터")
+                .password("password")
+                .build();
+        entityManager.persist(user);
+        userId = user.getUserId();
+
+        for (int i = 0; i < PREDICTIONS; i++) {
+            UserPrediction prediction = UserPrediction.builder()
+                    .user(user)
+                    .predictedNum1((short) (i + 1))
+                    .predictedNum2((short) (i + 2))
+                    .predictedNum3((short) (i + 3))
+                    .predictedNum4((short) (i + 4))
+                    .predictedNum5((short) (i + 5))
+                    .predictedNum6((short) (i + 6))
+                    .startDrawId(1)
+                    .build();
+            entityManager.persist(prediction);
+            entityManager.persist(UserPredictionHistoricalStats.builder().userPrediction(prediction).build());
+            entityManager.persist(UserPredictionTrackingStats.builder().userPrediction(prediction).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 엔티티_목록은_통계_OneToOne_때문에_행마다_추가_조회가_나간다() {
+        List<UserPredictionResponse> responses = predictionRepository
+                .findByUser_UserIdAndDeleteYnOrderByCreatedAtDesc(userId, "N").stream()
+                .map(UserPredictionResponse::from)
+                .toList();
+
+        assertThat(responses).hasSize(PREDICTIONS);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(PREDICTIONS);
+    }
+
+    @Test
+    void 목록_projection_은_쿼리_1번() {
+        List<UserPredictionResponse> responses = predictionRepository.findSummaries(userId).stream()
+                .map(UserPredictionResponse::from)
+                .toList();
+
+        assertThat(responses).hasSize(PREDICTIONS);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getUserId()).isEqualTo(userId);
+            assertThat(response.getNumbers()).hasSize(6);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 페이징_projection_은_목록과_COUNT_2번() {
+        Page<UserPredictionSummary> page = predictionRepository.findSummaries(userId, PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(PREDICTIONS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 대시보드는_통계까지_쿼리_1번() {
+        List<PredictionDashboardItem> items = predictionRepository.findDashboardItems(userId);
+
+        assertThat(items).hasSize(PREDICTIONS);
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getPrediction().getUserId()).isEqualTo(userId);
+            assertThat(item.getHistoricalStats()).isNotNull();
+            assertThat(item.getTrackingStats()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 커서_projection_은_페이지마다_쿼리_1번() {
+        List<UserPredictionSummary> first = predictionRepository.findSummaries(userId, Limit.of(3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        UserPredictionSummary last = first.get(first.size() - 1);
+        List<UserPredictionSummary> second = predictionRepository.findSummariesBefore(
+                userId, last.getCreatedAt(), last.getPredictionId(), Limit.of(3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // 두 페이지가 겹치거나 빠지지 않음
+        List<UUID> ids = new ArrayList<>();
+        first.forEach(summary -> ids.add(summary.getPredictionId()));
+        second.forEach(summary -> ids.add(summary.getPredictionId()));
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(PREDICTIONS - 3);
+        assertThat(ids).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,338 @@
+package hhammong.apilotto.repository;
+
+import hhammong.apilotto.batch.PredictionSettlementWriter;
+import hhammong.apilotto.batch.SettlementWin;
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.entity.PredictionsHistory;
+import hhammong.apilotto.entity.User;
+import hhammong.apilotto.entity.UserPrediction;
+import hhammong.apilotto.entity.UserPredictionTrackingStats;
+import hhammong.apilotto.service.TrackingStatsSettlementService;
+import hhammong.apilotto.util.LottoMatchUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추적 통계 정산 UPDATE 테스트 (Postgres, native SQL 이라 H2 로는 확인 불가)
+ * - N+1 회차를 먼저 정산한 뒤 N 회차를 저장 / 정산해도 전체 재집계와 같은 결과
+ * - 같은 회차를 다시 정산해도 값이 바뀌지 않음
+ * Docker 가 없으면 건너뜀
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:sql/tracking-settlement-schema.sql"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Import({TrackingStatsSettlementService.class, PredictionSettlementWriter.class})
+class UserPredictionTrackingStatsRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17");
+
+    private static final String SELECT_STATS_SQL =
+            "SELECT TOTAL_DRAWS, WINNING_DRAWS, TOTAL_PRIZE_AMOUNT, RANK_1_COUNT, RANK_2_COUNT, RANK_3_COUNT, " +
+            "RANK_4_COUNT, RANK_5_COUNT, BEST_RANK, BEST_DRAW_NO, RETURN_RATE, LAST_SETTLED_DRAW_NO " +
+            "FROM USER_PREDICTION_TRACKING_STATS WHERE PREDICTION_ID = ?";
+
+    private static final long[] PRIZES = {0L, 2_000_000_000L, 50_000_000L, 1_500_000L, 50_000L, 5_000L};
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TrackingStatsSettlementService settlementService;
+
+    @Autowired
+    private PredictionSettlementWriter settlementWriter;
+
+    private User user;
+
+    // 저장된 회차 (회차 → 당첨번호)
+    private final TreeMap<Integer, LottoHistory> stored = new TreeMap<>();
+
+    // 예측번호 → 번호 마스크
+    private final Map<UserPrediction, Long> predictions = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .userUid("settlement")
+                .name("정산")
+                .password("password")
+                .build();
+        entityManager.persist(user);
+
+        // 1~7회차: 31~42 구간에서 한 칸씩 밀린 번호 (F 번호가 1~4등을 차례로 맞춤)
+        for (int drawNo = 1; drawNo <= 7; drawNo++) {
+            storeDraw(drawNo, List.of(30 + drawNo, 31 + drawNo, 32 + drawNo, 33 + drawNo, 34 + drawNo, 35 + drawNo), 44);
+        }
+    }
+
+    @Test
+    void 뒤_회차가_먼저_정산된_뒤_저장된_회차도_반영된다() {
+        // 7회차까지 저장된 상태에서 등록
+        UserPrediction a = register(1, 1, 2, 3, 4, 5, 7);        // 8회차 2등
+        UserPrediction b = register(1, 11, 12, 13, 14, 15, 16);  // 9회차 1등
+        UserPrediction c = register(5, 1, 2, 3, 11, 12, 13);     // 8, 9회차 5등
+        UserPrediction d = register(9, 1, 2, 3, 4, 11, 12);      // 시작 회차가 9회차
+        UserPrediction f = register(1, 31, 32, 33, 34, 35, 36);  // 1~4회차 1, 3, 4, 5등
+        UserPrediction g = register(10, 1, 2, 3, 4, 5, 6);       // 아직 시작 전
+
+        // 8회차 조회 실패, 9회차 먼저 저장 / 정산
+        storeDraw(9, List.of(11, 12, 13, 14, 15, 16), 17);
+        settle(9);
+
+        // 백필로 8회차 저장, 그 사이 등록된 번호는 8회차까지 반영된 상태
+        storeDraw(8, List.of(1, 2, 3, 4, 5, 6), 7);
+        UserPrediction e = register(1, 1, 2, 3, 4, 33, 34);      // 8회차 4등
+        settle(8);
+
+        for (UserPrediction prediction : List.of(a, b, c, d, e, f, g)) {
+            assertThat(stats(prediction)).isEqualTo(recompute(prediction, 9));
+        }
+
+        // 수치로도 한 번 더 확인 (8회차가 빠지면 TOTAL_DRAWS 가 8)
+        Map<String, Object> statsA = stats(a);
+        assertThat(statsA.get("TOTAL_DRAWS")).isEqualTo(9);
+        assertThat(statsA.get("RANK_2_COUNT")).isEqualTo(1);
+        assertThat(statsA.get("BEST_RANK")).isEqualTo(2);
+        assertThat(statsA.get("BEST_DRAW_NO")).isEqualTo(8);
+        assertThat(stats(f).get("BEST_DRAW_NO")).isEqualTo(1);
+        assertThat(stats(e).get("TOTAL_DRAWS")).isEqualTo(9);
+        assertThat(stats(g).get("TOTAL_DRAWS")).isEqualTo(0);
+    }
+
+    @Test
+    void 같은_회차를_다시_정산해도_바뀌지_않는다() {
+        UserPrediction a = register(1, 1, 2, 3, 4, 5, 7);
+        UserPrediction c = register(5, 1, 2, 3, 11, 12, 13);
+        UserPrediction f = register(1, 31, 32, 33, 34, 35, 36);
+
+        storeDraw(9, List.of(11, 12, 13, 14, 15, 16), 17);
+        settle(9);
+        storeDraw(8, List.of(1, 2, 3, 4, 5, 6), 7);
+        settle(8);
+
+        List<Map<String, Object>> first = new ArrayList<>();
+        for (UserPrediction prediction : List.of(a, c, f)) {
+            first.add(stats(prediction));
+        }
+
+        settle(8);
+        settle(9);
+
+        List<Map<String, Object>> second = new ArrayList<>();
+        for (UserPrediction prediction : List.of(a, c, f)) {
+            second.add(stats(prediction));
+        }
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void 순서대로_정산하면_증분_UPDATE_만으로_전체_재집계와_같다() {
+        UserPrediction a = register(1, 1, 2, 3, 4, 5, 7);
+        UserPrediction b = register(1, 11, 12, 13, 14, 15, 16);
+        UserPrediction c = register(5, 1, 2, 3, 11, 12, 13);
+
+        storeDraw(8, List.of(1, 2, 3, 4, 5, 6), 7);
+        settle(8);
+        storeDraw(9, List.of(11, 12, 13, 14, 15, 16), 17);
+        settle(9);
+
+        for (UserPrediction prediction : List.of(a, b, c)) {
+            assertThat(stats(prediction)).isEqualTo(recompute(prediction, 9));
+        }
+    }
+
+    private void storeDraw(int drawNo, List<Integer> numbers, int bonus) {
+        LottoHistory draw = LottoHistory.builder()
+                .drawNo(drawNo)
+                .drawDate(LocalDate.of(2002, 12, 7).plusWeeks(drawNo - 1))
+                .number1(numbers.get(0).shortValue())
+                .number2(numbers.get(1).shortValue())
+                .number3(numbers.get(2).shortValue())
+                .number4(numbers.get(3).shortValue())
+                .number5(numbers.get(4).shortValue())
+                .number6(numbers.get(5).shortValue())
+                .bonusNumber((short) bonus)
+                .numbers(numbers.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .prize1st(PRIZES[1])
+                .prize2nd(PRIZES[2])
+                .prize3rd(PRIZES[3])
+                .prize4th((int) PRIZES[4])
+                .prize5th((int) PRIZES[5])
+                .build();
+        entityManager.persist(draw);
+        entityManager.flush();
+        stored.put(drawNo, draw);
+    }
+
+    /**
+     * 번호 등록 (등록 시점에 저장된 회차 기준으로 당첨 이력과 추적 통계 생성)
+     */
+    private UserPrediction register(int startDrawNo, int... numbers) {
+        UserPrediction prediction = UserPrediction.builder()
+                .user(user)
+                .predictedNum1((short) numbers[0])
+                .predictedNum2((short) numbers[1])
+                .predictedNum3((short) numbers[2])
+                .predictedNum4((short) numbers[3])
+                .predictedNum5((short) numbers[4])
+                .predictedNum6((short) numbers[5])
+                .startDrawId(startDrawNo)
+                .build();
+        entityManager.persist(prediction);
+        long mask = prediction.toNumbersMask();
+        predictions.put(prediction, mask);
+
+        int latestDrawNo = stored.isEmpty() ? 0 : stored.lastKey();
+        for (LottoHistory draw : stored.values()) {
+            int rank = rankOf(mask, draw);
+            if (rank > 0) {
+                entityManager.persist(PredictionsHistory.builder()
+                        .predictionId(prediction.getPredictionId())
+                        .historyId(draw.getHistoryId())
+                        .userId(user.getUserId())
+                        .drawNo(draw.getDrawNo())
+                        .rank(rank)
+                        .hasBonus(LottoMatchUtils.hasBonus(mask, draw.getBonusNumber()))
+                        .matchedCount((short) LottoMatchUtils.matchCount(mask, draw.toNumbersMask()))
+                        .prizeAmount((int) PRIZES[rank])
+                        .startDrawSortation(draw.getDrawNo() >= startDrawNo ? "tracking" : "past")
+                        .build());
+            }
+        }
+
+        Map<String, Object> initial = recompute(prediction, latestDrawNo);
+        entityManager.persist(UserPredictionTrackingStats.builder()
+                .userPrediction(prediction)
+                .totalDraws((Integer) initial.get("TOTAL_DRAWS"))
+                .winningDraws((Integer) initial.get("WINNING_DRAWS"))
+                .totalPrizeAmount((Long) initial.get("TOTAL_PRIZE_AMOUNT"))
+                .rank1Count((Integer) initial.get("RANK_1_COUNT"))
+                .rank2Count((Integer) initial.get("RANK_2_COUNT"))
+                .rank3Count((Integer) initial.get("RANK_3_COUNT"))
+                .rank4Count((Integer) initial.get("RANK_4_COUNT"))
+                .rank5Count((Integer) initial.get("RANK_5_COUNT"))
+                .bestRank((Integer) initial.get("BEST_RANK"))
+                .bestDrawNo((Integer) initial.get("BEST_DRAW_NO"))
+                .returnRate((Double) initial.get("RETURN_RATE"))
+                .lastSettledDrawNo(latestDrawNo)
+                .build());
+        entityManager.flush();
+        return prediction;
+    }
+
+    /**
+     * 정산 배치와 같은 순서: 당첨 이력 저장(writer) 후 추적 통계 반영
+     */
+    private void settle(int drawNo) {
+        LottoHistory draw = stored.get(drawNo);
+        List<SettlementWin> wins = new ArrayList<>();
+        predictions.forEach((prediction, mask) -> {
+            int rank = rankOf(mask, draw);
+            if (rank > 0 && prediction.getStartDrawId() <= drawNo) {
+                wins.add(new SettlementWin(prediction.getPredictionId(), user.getUserId(), draw.getHistoryId(),
+                        drawNo, rank, LottoMatchUtils.hasBonus(mask, draw.getBonusNumber()),
+                        LottoMatchUtils.matchCount(mask, draw.toNumbersMask()), PRIZES[rank]));
+            }
+        });
+
+        entityManager.flush();
+        settlementWriter.write(new Chunk<>(wins));
+        settlementService.settle(drawNo);
+        entityManager.clear();
+    }
+
+    private Map<String, Object> stats(UserPrediction prediction) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(SELECT_STATS_SQL, prediction.getPredictionId());
+        Map<String, Object> normalized = new LinkedHashMap<>();
+        row.forEach((column, value) -> normalized.put(column.toUpperCase(), normalize(value)));
+        normalized.remove("LAST_SETTLED_DRAW_NO");
+        return normalized;
+    }
+
+    /**
+     * 시작 회차 ~ lastDrawNo 사이 저장된 회차 전체로 다시 계산한 추적 통계
+     */
+    private Map<String, Object> recompute(UserPrediction prediction, int lastDrawNo) {
+        long mask = predictions.get(prediction);
+        int totalDraws = 0;
+        long totalPrize = 0L;
+        int[] rankCounts = new int[6];
+        Integer bestRank = null;
+        Integer bestDrawNo = null;
+
+        for (LottoHistory draw : stored.values()) {
+            if (draw.getDrawNo() < prediction.getStartDrawId() || draw.getDrawNo() > lastDrawNo) {
+                continue;
+            }
+            totalDraws++;
+            int rank = rankOf(mask, draw);
+            if (rank > 0) {
+                rankCounts[rank]++;
+                totalPrize += PRIZES[rank];
+                if (bestRank == null || rank < bestRank) {
+                    bestRank = rank;
+                    bestDrawNo = draw.getDrawNo();
+                }
+            }
+        }
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("TOTAL_DRAWS", totalDraws);
+        expected.put("WINNING_DRAWS", rankCounts[1] + rankCounts[2] + rankCounts[3] + rankCounts[4] + rankCounts[5]);
+        expected.put("TOTAL_PRIZE_AMOUNT", totalPrize);
+        for (int rank = 1; rank <= 5; rank++) {
+            expected.put("RANK_" + rank + "_COUNT", rankCounts[rank]);
+        }
+        expected.put("BEST_RANK", bestRank);
+        expected.put("BEST_DRAW_NO", bestDrawNo);
+        expected.put("RETURN_RATE", totalDraws == 0 ? null : BigDecimal.valueOf(totalPrize * 100)
+                .divide(BigDecimal.valueOf(totalDraws * 1000L), 2, RoundingMode.HALF_UP)
+                .doubleValue());
+        return expected;
+    }
+
+    private static int rankOf(long mask, LottoHistory draw) {
+        return LottoMatchUtils.rankOf(mask, draw.toNumbersMask(), draw.getBonusNumber());
+    }
+
+    // JDBC 타입 차이 (int4 / int8 / float8) 를 비교용 타입으로 맞춤
+    private static Object normalize(Object value) {
+        if (value instanceof Long longValue) {
+            return longValue;
+        }
+        if (value instanceof Number number && !(value instanceof Double)) {
+            return number.intValue();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,242 @@
+package hhammong.apilotto.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import hhammong.apilotto.batch.PredictionSettlementJobLauncher;
+import hhammong.apilotto.client.DhlotteryClient;
+import hhammong.apilotto.dto.LottoBackfillResponse;
+import hhammong.apilotto.dto.LottoHistoryCreateRequest;
+import hhammong.apilotto.repository.LottoHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * 누락 회차 백필 테스트 (동행복권 API 대신 로컬 stub 서버)
+ * - 최신 회차 10, DB 에는 1, 2, 5 회차만 있음
+ * - 4회차는 두 번 503 후 성공, 7회차는 항상 500, 8회차는 빈 응답
+ * - upstreamDown 이면 회차 조회는 모두 503 (최신 회차 조회는 정상)
+ */
+class LottoHistoryBackfillServiceTest {
+
+    private static final int LATEST_DRAW_NO = 10;
+    private static final int CONCURRENCY = 3;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+
+    private final Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile boolean upstreamDown;
+
+    private DhlotteryClient client;
+
+    private LottoHistoryRepository lottoHistoryRepository;
+    private LottoHistoryService lottoHistoryService;
+    private PredictionSettlementJobLauncher settlementJobLauncher;
+    private LottoHistoryBackfillService backfillService;
+
+    private final List<List<Integer>> savedBatches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/lt645/selectPstLt645Info.do", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        client = new DhlotteryClient(new RestTemplate());
+        ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "drawParam", "srchLtEpsd");
+        ReflectionTestUtils.setField(client, "callTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(client, "failureThreshold", 100);
+        ReflectionTestUtils.setField(client, "openDuration", Duration.ofSeconds(30));
+        client.init();
+
+        lottoHistoryRepository = mock(LottoHistoryRepository.class);
+        when(lottoHistoryRepository.findAllDrawNos()).thenReturn(List.of(1, 2, 5));
+
+        lottoHistoryService = mock(LottoHistoryService.class);
+        when(lottoHistoryService.createLottoHistories(anyList())).thenAnswer(invocation -> {
+            List<LottoHistoryCreateRequest> requests = invocation.getArgument(0);
+            List<Integer> drawNos = requests.stream().map(LottoHistoryCreateRequest::getDrawNo).toList();
+            savedBatches.add(drawNos);
+            return drawNos;
+        });
+
+        settlementJobLauncher = mock(PredictionSettlementJobLauncher.class);
+
+        backfillService = new LottoHistoryBackfillService(
+                client, lottoHistoryRepository, lottoHistoryService, settlementJobLauncher);
+        ReflectionTestUtils.setField(backfillService, "concurrency", CONCURRENCY);
+        ReflectionTestUtils.setField(backfillService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(backfillService, "initialBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(backfillService, "maxBackoff", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(backfillService, "batchSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void 누락_회차만_조회해서_회차순으로_나눠_저장한다() {
+        LottoBackfillResponse result = backfillService.backfillMissing();
+
+        assertThat(result.getLatestDrawNo()).isEqualTo(LATEST_DRAW_NO);
+        assertThat(result.getMissingCount()).isEqualTo(7);
+        assertThat(result.getSavedDrawNos()).containsExactly(3, 4, 6, 9, 10);
+        assertThat(result.getFailedDrawNos()).containsExactly(7);
+        assertThat(result.getNotFoundDrawNos()).containsExactly(8);
+
+        // batch-size 2 로 오름차순 저장
+        assertThat(savedBatches).containsExactly(List.of(3, 4), List.of(6, 9), List.of(10));
+
+        // 이미 있던 회차는 요청하지 않음
+        assertThat(attempts).doesNotContainKeys(1, 2, 5);
+    }
+
+    @Test
+    void 실패하면_지수_백오프로_재시도한다() {
+        backfillService.backfillMissing();
+
+        assertThat(attempts.get(4).get()).isEqualTo(3);   // 503, 503, 200
+        assertThat(attempts.get(7).get()).isEqualTo(3);   // max-attempts 까지 500
+        assertThat(attempts.get(3).get()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시_호출_수는_concurrency_를_넘지_않는다() {
+        backfillService.backfillMissing();
+
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(CONCURRENCY);
+        assertThat(maxInFlight.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void 저장된_회차는_기존_최신_회차_이전이어도_오름차순으로_정산한다() {
+        backfillService.backfillMissing();
+
+        // 3, 4 는 기존 최신 5회차보다 앞이지만 추적 통계에 빠져 있으므로 정산 (정산 쪽에서 재집계)
+        InOrder inOrder = inOrder(settlementJobLauncher);
+        for (int drawNo : new int[]{3, 4, 6, 9, 10}) {
+            inOrder.verify(settlementJobLauncher).launch(drawNo);
+        }
+        verify(settlementJobLauncher, times(5)).launch(anyInt());
+    }
+
+    @Test
+    void 서킷_브레이커가_열리면_남은_회차는_조회하지_않고_미조회로_돌려준다() {
+        // 연속 2번 실패하면 30초 동안 열림
+        ReflectionTestUtils.setField(client, "failureThreshold", 2);
+        client.init();
+        upstreamDown = true;
+
+        long startedAt = System.nanoTime();
+        LottoBackfillResponse result = backfillService.backfillMissing();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // 열리기 전 실패는 max-attempts 에 못 미치므로 재시도 초과 없이 모두 미조회
+        assertThat(result.getNotAttemptedDrawNos()).containsExactly(3, 4, 6, 7, 8, 9, 10);
+        assertThat(result.getFailedDrawNos()).isEmpty();
+        assertThat(result.getSavedDrawNos()).isEmpty();
+        verify(settlementJobLauncher, never()).launch(anyInt());
+
+        // 열린 뒤의 거절은 시도로 세지 않고 서버에도 가지 않음 (열릴 때 이미 나간 호출만 추가)
+        int calls = attempts.values().stream().mapToInt(AtomicInteger::get).sum();
+        assertThat(calls).isLessThanOrEqualTo(2 + CONCURRENCY);
+
+        // 열린 구간을 기다리거나 재시도하지 않고 바로 끝남
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void 백오프는_최대값을_넘지_않는다() {
+        for (int attempt = 1; attempt <= 30; attempt++) {
+            Duration backoff = backfillService.backoff(attempt);
+            assertThat(backoff).isLessThanOrEqualTo(Duration.ofMillis(50));
+            assertThat(backoff).isGreaterThanOrEqualTo(Duration.ofMillis(Math.min(10L << (attempt - 1), 50) / 2));
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            respond(exchange, 200, body(LATEST_DRAW_NO));
+            return;
+        }
+
+        int drawNo = Integer.parseInt(query.substring(query.indexOf('=') + 1));
+        int attempt = attempts.computeIfAbsent(drawNo, k -> new AtomicInteger()).incrementAndGet();
+
+        if (upstreamDown) {
+            respond(exchange, 503, "{}");
+            return;
+        }
+
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(30);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        if (drawNo == 4 && attempt <= 2) {
+            respond(exchange, 503, "{}");
+        } else if (drawNo == 7) {
+            respond(exchange, 500, "{}");
+        } else if (drawNo == 8) {
+            respond(exchange, 200, "{\"resultCode\":\"0000\",\"data\":{\"list\":[]}}");
+        } else {
+            respond(exchange, 200, body(drawNo));
+        }
+    }
+
+    private static String body(int drawNo) {
+        return """
+                {"resultCode":"0000","resultMessage":"ok","data":{"list":[{
+                  "ltEpsd":%d,"ltRflYmd":"20240106",
+                  "tm1WnNo":%d,"tm2WnNo":%d,"tm3WnNo":%d,"tm4WnNo":%d,"tm5WnNo":%d,"tm6WnNo":%d,
+                  "bnsWnNo":40,
+                  "rnk1WnAmt":2000000000,"rnk2WnAmt":50000000,"rnk3WnAmt":1500000,
+                  "rnk4WnAmt":50000,"rnk5WnAmt":5000}]}}
+                """.formatted(drawNo, drawNo, drawNo + 1, drawNo + 2, drawNo + 3, drawNo + 4, drawNo + 5);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package hhammong.apilotto.service;
+
+import hhammong.apilotto.util.LottoMatchUtils;
+import hhammong.apilotto.util.WinBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PREDICTIONS_HISTORY → PREDICTION_WIN_HISTORY 이관 테스트 (Postgres, FOR UPDATE / ON CONFLICT 사용)
+ * - 정산이 먼저 만든 일부 비트맵(COMPLETE_YN = 'N')과 기존 당첨 행이 합쳐지는지
+ * - 이미 완료된 비트맵은 건드리지 않고, 다시 실행하면 대상이 없음
+ * Docker 가 없으면 건너뜀
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:sql/tracking-settlement-schema.sql",
+        "lotto.win-history.migration.page-size=2"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Import(PredictionWinHistoryMigrationService.class)
+class PredictionWinHistoryMigrationServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17");
+
+    private static final String SELECT_WINS_SQL =
+            "SELECT WIN_DRAWS, WIN_RANKS, WIN_COUNT, COMPLETE_YN FROM PREDICTION_WIN_HISTORY WHERE PREDICTION_ID = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PredictionWinHistoryMigrationService migrationService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO USERS (USER_ID, USER_UID, NAME, PASSWORD, CREATED_AT, UPDATED_AT) " +
+                "VALUES (?, 'migration', '이관', 'password', now(), now())", userId);
+    }
+
+    @Test
+    void 정산이_만든_일부_비트맵과_기존_당첨_행을_합쳐서_완료로_저장한다() {
+        // 기존 당첨 행만 있음
+        UUID legacyOnly = prediction(mask(1, 2, 3, 4, 5, 6));
+        history(legacyOnly, 3, 5);
+        history(legacyOnly, 70, 4);
+        history(legacyOnly, 1, 3);
+
+        // 정산이 이관 전에 12, 10회차를 붙여 둠, 10회차는 기존 행에도 있음 (재정산)
+        UUID merged = prediction(mask(7, 8, 9, 10, 11, 12));
+        history(merged, 2, 5);
+        history(merged, 10, 4);
+        partialBitmap(merged, WinBitmap.empty().with(10, 4).with(12, 5));
+
+        // 정산이 만든 비트맵만 있음
+        UUID settledOnly = prediction(mask(13, 14, 15, 16, 17, 18));
+        partialBitmap(settledOnly, WinBitmap.empty().with(12, 2));
+
+        // 당첨 없음
+        UUID noWins = prediction(mask(19, 20, 21, 22, 23, 24));
+
+        // 이미 이관 완료 (대상 아님, 뒤늦게 보이는 기존 행이 있어도 그대로)
+        UUID complete = prediction(mask(25, 26, 27, 28, 29, 30));
+        history(complete, 4, 5);
+        jdbcTemplate.update("INSERT INTO PREDICTION_WIN_HISTORY (PREDICTION_ID, USER_ID, WIN_DRAWS, WIN_RANKS, " +
+                        "WIN_COUNT, COMPLETE_YN, UPDATED_AT) VALUES (?, ?, ?, ?, 1, 'Y', now())",
+                complete, userId, WinBitmap.empty().with(9, 3).drawBytes(), WinBitmap.empty().with(9, 3).rankBytes());
+
+        // page-size 2 라서 두 페이지
+        assertThat(migrationService.migrate()).isEqualTo(4);
+
+        assertThat(wins(legacyOnly)).containsExactly("1:3", "3:5", "70:4");
+        assertThat(wins(merged)).containsExactly("2:5", "10:4", "12:5");
+        assertThat(wins(settledOnly)).containsExactly("12:2");
+        assertThat(wins(noWins)).isEmpty();
+        assertThat(wins(complete)).containsExactly("9:3");
+
+        for (UUID predictionId : List.of(legacyOnly, merged, settledOnly, noWins)) {
+            Map<String, Object> row = row(predictionId);
+            assertThat(row.get("complete_yn")).isEqualTo("Y");
+            assertThat(((Number) row.get("win_count")).intValue()).isEqualTo(wins(predictionId).size());
+        }
+
+        // 다시 실행해도 대상 없음
+        assertThat(migrationService.migrate()).isEqualTo(0);
+    }
+
+    private UUID prediction(long numbersMask) {
+        UUID predictionId = UUID.randomUUID();
+        List<Integer> numbers = LottoMatchUtils.toList(numbersMask);
+        jdbcTemplate.update("INSERT INTO USER_PREDICTIONS (PREDICTION_ID, USER_ID, PREDICTED_NUM1, PREDICTED_NUM2, " +
+                        "PREDICTED_NUM3, PREDICTED_NUM4, PREDICTED_NUM5, PREDICTED_NUM6, PREDICTED_NUMBERS, NUMBERS_MASK, " +
+                        "CREATED_AT, UPDATED_AT, START_DRAW_ID) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now(), 1)",
+                predictionId, userId, numbers.get(0), numbers.get(1), numbers.get(2), numbers.get(3),
+                numbers.get(4), numbers.get(5),
+                numbers.stream().map(String::valueOf).collect(Collectors.joining(",")), numbersMask);
+        return predictionId;
+    }
+
+    private void history(UUID predictionId, int drawNo, int rank) {
+        jdbcTemplate.update("INSERT INTO \"PREDICTIONS_HISTORY\" (\"PREDICTIONS_HISTORY_ID\", \"PREDICTION_ID\", " +
+                        "\"HISTORY_ID\", \"USER_ID\", \"DRAW_NO\", \"RANK\", \"MATCHED_COUNT\", \"START_DRAW_SORTATION\", " +
+                        "\"CREATED_AT\") VALUES (?, ?, ?, ?, ?, ?, 3, 'past', now())",
+                UUID.randomUUID(), predictionId, UUID.randomUUID(), userId, drawNo, rank);
+    }
+
+    // 정산 writer 가 이관 전 예측번호에 만드는 행과 같은 모양
+    private void partialBitmap(UUID predictionId, WinBitmap bitmap) {
+        jdbcTemplate.update("INSERT INTO PREDICTION_WIN_HISTORY (PREDICTION_ID, USER_ID, WIN_DRAWS, WIN_RANKS, " +
+                        "WIN_COUNT, COMPLETE_YN, UPDATED_AT) VALUES (?, ?, ?, ?, ?, 'N', now())",
+                predictionId, userId, bitmap.drawBytes(), bitmap.rankBytes(), bitmap.size());
+    }
+
+    private Map<String, Object> row(UUID predictionId) {
+        return jdbcTemplate.queryForMap(SELECT_WINS_SQL, predictionId);
+    }
+
+    // "회차:등수" 목록 (회차 오름차순)
+    private List<String> wins(UUID predictionId) {
+        Map<String, Object> row = row(predictionId);
+        List<String> wins = new ArrayList<>();
+        WinBitmap.of((byte[]) row.get("win_draws"), (byte[]) row.get("win_ranks"))
+                .forEach((drawNo, rank) -> wins.add(drawNo + ":" + rank));
+        return wins;
+    }
+
+    private static long mask(int... numbers) {
+        long mask = 0L;
+        for (int number : numbers) {
+            mask |= LottoMatchUtils.bit(number);
+        }
+        return mask;
+    }
+}
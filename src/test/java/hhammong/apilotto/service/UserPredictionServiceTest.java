@@ -0,0 +1,191 @@
+package hhammong.apilotto.service;
+
+import hhammong.apilotto.dto.BulkPredictionImportResponse;
+import hhammong.apilotto.dto.BulkPredictionRowResult;
+import hhammong.apilotto.dto.UserPredictionCreateRequest;
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.entity.User;
+import hhammong.apilotto.entity.UserPrediction;
+import hhammong.apilotto.repository.*;
+import hhammong.apilotto.store.CombinationOutcomeTable;
+import hhammong.apilotto.store.DrawHistoryStore;
+import hhammong.apilotto.store.DrawNumberIndex;
+import hhammong.apilotto.util.LottoMatchUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 번호 일괄 등록 테스트
+ * - 형식 오류 / 요청 내 중복 / 이미 등록된 조합 / 동시 등록과 겹친 조합이 행 단위 결과로 나오는지
+ * - 동시 등록은 ON CONFLICT DO NOTHING 으로 건너뛴 행이 다시 읽을 때 빠지는 것으로 흉내냄
+ */
+class UserPredictionServiceTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private UserPredictionRepository predictionRepository;
+    private UserPredictionTrackingStatsRepository trackingStatsRepository;
+    private JdbcTemplate jdbcTemplate;
+    private UserPredictionService predictionService;
+
+    // batch insert 로 넘어간 행, 그중 동시 등록에 밀려 저장되지 않는 조합
+    private final List<Object[]> insertedRows = new ArrayList<>();
+    private long concurrentMask;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .userId(userId)
+                .userUid("bulk")
+                .name("일괄")
+                .password("password")
+                .build();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        predictionRepository = mock(UserPredictionRepository.class);
+        when(predictionRepository.findNumbersMasks(userId)).thenReturn(List.of(mask(7, 8, 9, 10, 11, 12)));
+        when(predictionRepository.findAllById(any())).thenAnswer(invocation -> insertedRows.stream()
+                .filter(row -> (long) row[10] != concurrentMask)
+                .map(row -> UserPrediction.builder()
+                        .predictionId((UUID) row[0])
+                        .user(user)
+                        .predictedNum1((Short) row[3])
+                        .predictedNum2((Short) row[4])
+                        .predictedNum3((Short) row[5])
+                        .predictedNum4((Short) row[6])
+                        .predictedNum5((Short) row[7])
+                        .predictedNum6((Short) row[8])
+                        .numbersMask((Long) row[10])
+                        .startDrawId((Integer) row[12])
+                        .build())
+                .toList());
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            insertedRows.addAll(rows);
+            return new int[rows.size()];
+        });
+
+        DrawHistoryStore drawHistoryStore = new DrawHistoryStore(mock(LottoHistoryRepository.class));
+        drawHistoryStore.append(draw(1, 1, 2, 3, 40, 41, 42));
+        drawHistoryStore.append(draw(2, 30, 31, 32, 33, 34, 35));
+        DrawNumberIndex drawNumberIndex = new DrawNumberIndex(drawHistoryStore);
+        drawNumberIndex.build();
+
+        trackingStatsRepository = mock(UserPredictionTrackingStatsRepository.class);
+        predictionService = new UserPredictionService(
+                predictionRepository,
+                userRepository,
+                mock(PredictionsHistoryRepository.class),
+                mock(PredictionWinHistoryRepository.class),
+                drawHistoryStore,
+                drawNumberIndex,
+                mock(CombinationOutcomeTable.class),
+                mock(UserPredictionHistoricalStatsRepository.class),
+                trackingStatsRepository,
+                mock(ApplicationEventPublisher.class),
+                jdbcTemplate);
+        ReflectionTestUtils.setField(predictionService, "bulkImportMaxRows", 100);
+    }
+
+    @Test
+    void 행마다_등록_중복_형식오류가_요청_순서대로_나온다() {
+        concurrentMask = mask(20, 21, 22, 23, 24, 25);
+
+        BulkPredictionImportResponse response = predictionService.createPredictions(userId, List.of(
+                request(1, 2, 3, 4, 5, 6),          // 1: 등록
+                request(12, 11, 10, 9, 8, 7),       // 2: 이미 등록된 조합 (순서만 다름)
+                request(6, 5, 4, 3, 2, 1),          // 3: 1행과 같은 조합
+                request(1, null, 3, 4, 5, 6),       // 4: 숫자가 아닌 번호
+                request(20, 21, 22, 23, 24, 25),    // 5: 확인 이후 동시 등록됨
+                request(30, 31, 32, 33, 34, 35)));  // 6: 등록
+
+        List<BulkPredictionRowResult> results = response.getResults();
+        assertThat(results.stream().map(BulkPredictionRowResult::getRow).toList()).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(results.stream().map(BulkPredictionRowResult::getStatus).toList()).containsExactly(
+                BulkPredictionRowResult.CREATED,
+                BulkPredictionRowResult.DUPLICATE,
+                BulkPredictionRowResult.DUPLICATE,
+                BulkPredictionRowResult.INVALID,
+                BulkPredictionRowResult.DUPLICATE,
+                BulkPredictionRowResult.CREATED);
+
+        assertThat(response.getTotalRows()).isEqualTo(6);
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getDuplicateCount()).isEqualTo(3);
+        assertThat(response.getInvalidCount()).isEqualTo(1);
+
+        // 중복 행은 정렬된 번호, 동시 등록과 겹친 행도 같은 메시지
+        assertThat(results.get(1).getNumbers()).containsExactly(7, 8, 9, 10, 11, 12);
+        assertThat(results.get(4).getNumbers()).containsExactly(20, 21, 22, 23, 24, 25);
+        assertThat(results.get(4).getMessage()).isEqualTo(results.get(1).getMessage());
+        assertThat(results.get(4).getPredictionId()).isNull();
+        assertThat(results.get(0).getPredictionId()).isEqualTo(insertedRows.get(0)[0]);
+        assertThat(results.get(5).getPredictionId()).isEqualTo(insertedRows.get(2)[0]);
+    }
+
+    @Test
+    void 메모리에서_걸러진_행은_insert_하지_않고_동시_등록된_행은_통계도_만들지_않는다() {
+        concurrentMask = mask(20, 21, 22, 23, 24, 25);
+
+        predictionService.createPredictions(userId, List.of(
+                request(1, 2, 3, 4, 5, 6),
+                request(7, 8, 9, 10, 11, 12),
+                request(1, 2, 3, 4, 5, 6),
+                request(20, 21, 22, 23, 24, 25)));
+
+        // 1, 4행만 insert, 한 번의 batch
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        assertThat(insertedRows.stream().map(row -> (long) row[10]).toList())
+                .containsExactly(mask(1, 2, 3, 4, 5, 6), mask(20, 21, 22, 23, 24, 25));
+
+        // 추적 통계는 실제로 저장된 1행만
+        verify(trackingStatsRepository).saveAll(argThat(stats -> ((List<?>) stats).size() == 1));
+    }
+
+    private static UserPredictionCreateRequest request(Integer... numbers) {
+        return UserPredictionCreateRequest.builder()
+                .numbers(Arrays.asList(numbers))
+                .build();
+    }
+
+    private static long mask(int... numbers) {
+        long mask = 0L;
+        for (int number : numbers) {
+            mask |= LottoMatchUtils.bit(number);
+        }
+        return mask;
+    }
+
+    private static LottoHistory draw(int drawNo, int... numbers) {
+        return LottoHistory.builder()
+                .drawNo(drawNo)
+                .drawDate(LocalDate.of(2002, 12, 7).plusWeeks(drawNo - 1))
+                .number1((short) numbers[0])
+                .number2((short) numbers[1])
+                .number3((short) numbers[2])
+                .number4((short) numbers[3])
+                .number5((short) numbers[4])
+                .number6((short) numbers[5])
+                .bonusNumber((short) 45)
+                .build();
+    }
+}
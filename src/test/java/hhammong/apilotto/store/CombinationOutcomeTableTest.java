@@ -0,0 +1,207 @@
+package hhammong.apilotto.store;
+
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.repository.LottoHistoryRepository;
+import hhammong.apilotto.util.LottoMatchUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 전체 조합 과거 성적 테이블 테스트
+ * - colex 순위 ↔ 조합 변환 (colexRank / unrank / next)
+ * - 새 회차 증분 반영 결과가 그 회차를 포함해서 다시 생성한 파일과 같은지
+ * 작은 합성 이력으로 임시 디렉터리에 파일을 만들어 비교
+ */
+class CombinationOutcomeTableTest {
+
+    private static final int LAST = CombinationOutcomeTable.COMBINATIONS - 1;
+
+    private final SplittableRandom random = new SplittableRandom(11);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 순위를_조합으로_바꿨다가_다시_순위로_바꾸면_같다() {
+        assertThat(CombinationOutcomeTable.unrank(0)).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(CombinationOutcomeTable.unrank(LAST)).containsExactly(39, 40, 41, 42, 43, 44);
+
+        List<Integer> ranks = new ArrayList<>(List.of(0, 1, 5, 6, 7, LAST - 1, LAST));
+        for (int i = 0; i < 10_000; i++) {
+            ranks.add(random.nextInt(CombinationOutcomeTable.COMBINATIONS));
+        }
+
+        for (int rank : ranks) {
+            int[] combination = CombinationOutcomeTable.unrank(rank);
+            long mask = toMask(combination);
+
+            assertThat(Long.bitCount(mask)).isEqualTo(6);
+            assertThat(CombinationOutcomeTable.colexRank(mask)).isEqualTo(rank);
+        }
+    }
+
+    @Test
+    void 다음_조합은_다음_순위의_조합과_같다() {
+        List<Integer> starts = new ArrayList<>(List.of(0, LAST - 2_000));
+        for (int i = 0; i < 20; i++) {
+            starts.add(random.nextInt(LAST - 2_000));
+        }
+
+        for (int start : starts) {
+            int[] combination = CombinationOutcomeTable.unrank(start);
+            for (int rank = start + 1; rank < start + 2_000; rank++) {
+                CombinationOutcomeTable.next(combination);
+                assertThat(combination).containsExactly(CombinationOutcomeTable.unrank(rank));
+            }
+        }
+    }
+
+    @Test
+    void 새_회차_증분_반영은_그_회차를_포함한_재생성과_같다() throws IOException {
+        List<LottoHistory> draws = randomDraws(12);
+        LottoHistory latest = draw(13, randomMask());
+
+        // 12회차로 생성한 뒤 13회차 증분 반영 (저장소 → 인덱스 → 테이블 순서는 이벤트 리스너 순서와 같음)
+        DrawHistoryStore store = store(draws);
+        DrawNumberIndex index = index(store);
+        CombinationOutcomeTable incremental = table(store, index, tempDir.resolve("incremental.bin"));
+        incremental.open();
+
+        store.append(latest);
+        index.add(latest);
+        incremental.append(latest);
+
+        // 13회차까지 한 번에 생성
+        List<LottoHistory> all = new ArrayList<>(draws);
+        all.add(latest);
+        DrawHistoryStore fullStore = store(all);
+        table(fullStore, index(fullStore), tempDir.resolve("full.bin")).open();
+
+        assertThat(Files.mismatch(tempDir.resolve("incremental.bin"), tempDir.resolve("full.bin"))).isEqualTo(-1L);
+
+        // 당첨번호 그대로인 조합은 13회차 1등
+        CombinationOutcomeTable.Outcome outcome = incremental.lookup(latest.toNumbersMask(), store.snapshot());
+        assertThat(outcome.getTotalDraws()).isEqualTo(13);
+        assertThat(outcome.getRank1Count()).isEqualTo(1);
+        assertThat(outcome.getBestRank()).isEqualTo(1);
+        assertThat(outcome.getBestDrawNo()).isEqualTo(13);
+    }
+
+    @Test
+    void 이전_회차가_늦게_들어오면_백그라운드에서_다시_생성한다() throws Exception {
+        List<LottoHistory> all = randomDraws(12);
+        List<LottoHistory> draws = new ArrayList<>(all);
+        LottoHistory late = draws.remove(4);
+
+        DrawHistoryStore store = store(draws);
+        DrawNumberIndex index = index(store);
+        CombinationOutcomeTable table = table(store, index, tempDir.resolve("late.bin"));
+        table.open();
+
+        // 5회차가 12회차 뒤에 저장됨
+        store.append(late);
+        index.add(late);
+        table.append(late);
+
+        // 다시 생성이 끝날 때까지 조회는 null (호출자는 기존 계산으로 대체)
+        long ticket = late.toNumbersMask();
+        CombinationOutcomeTable.Outcome outcome = null;
+        long deadline = System.nanoTime() + 120_000_000_000L;
+        while (outcome == null && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            outcome = table.lookup(ticket, store.snapshot());
+        }
+
+        assertThat(outcome).isNotNull();
+        assertThat(outcome.getTotalDraws()).isEqualTo(12);
+        assertThat(outcome.getRank1Count()).isEqualTo(1);
+        assertThat(outcome.getBestDrawNo()).isEqualTo(5);
+
+        DrawHistoryStore fullStore = store(all);
+        table(fullStore, index(fullStore), tempDir.resolve("full.bin")).open();
+
+        assertThat(Files.mismatch(tempDir.resolve("late.bin"), tempDir.resolve("full.bin"))).isEqualTo(-1L);
+    }
+
+    private static DrawHistoryStore store(List<LottoHistory> draws) {
+        DrawHistoryStore store = new DrawHistoryStore(mock(LottoHistoryRepository.class));
+        draws.forEach(store::append);
+        return store;
+    }
+
+    private static DrawNumberIndex index(DrawHistoryStore store) {
+        DrawNumberIndex index = new DrawNumberIndex(store);
+        index.build();
+        return index;
+    }
+
+    private static CombinationOutcomeTable table(DrawHistoryStore store, DrawNumberIndex index, Path path) {
+        CombinationOutcomeTable table = new CombinationOutcomeTable(store, index);
+        ReflectionTestUtils.setField(table, "enabled", true);
+        ReflectionTestUtils.setField(table, "path", path);
+        return table;
+    }
+
+    // 1 ~ count 회차, 회차마다 당첨금을 달리해서 집계 차이가 드러나게
+    private List<LottoHistory> randomDraws(int count) {
+        List<LottoHistory> draws = new ArrayList<>();
+        for (int drawNo = 1; drawNo <= count; drawNo++) {
+            draws.add(draw(drawNo, randomMask()));
+        }
+        return draws;
+    }
+
+    private LottoHistory draw(int drawNo, long mask) {
+        List<Integer> numbers = LottoMatchUtils.toList(mask);
+        int bonus;
+        do {
+            bonus = 1 + random.nextInt(45);
+        } while ((mask & LottoMatchUtils.bit(bonus)) != 0);
+
+        return LottoHistory.builder()
+                .drawNo(drawNo)
+                .drawDate(LocalDate.of(2002, 12, 7).plusWeeks(drawNo - 1))
+                .number1(numbers.get(0).shortValue())
+                .number2(numbers.get(1).shortValue())
+                .number3(numbers.get(2).shortValue())
+                .number4(numbers.get(3).shortValue())
+                .number5(numbers.get(4).shortValue())
+                .number6(numbers.get(5).shortValue())
+                .bonusNumber((short) bonus)
+                .prize1st(2_000_000_000L + drawNo)
+                .prize2nd(50_000_000L + drawNo)
+                .prize3rd(1_500_000L + drawNo)
+                .prize4th(50_000 + drawNo)
+                .prize5th(5_000)
+                .build();
+    }
+
+    private long randomMask() {
+        long mask = 0L;
+        while (Long.bitCount(mask) < 6) {
+            mask |= LottoMatchUtils.bit(1 + random.nextInt(45));
+        }
+        return mask;
+    }
+
+    // unrank 결과는 0부터 시작하므로 번호는 +1
+    private static long toMask(int[] combination) {
+        long mask = 0L;
+        for (int value : combination) {
+            mask |= LottoMatchUtils.bit(value + 1);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,194 @@
+package hhammong.apilotto.store;
+
+import hhammong.apilotto.entity.LottoHistory;
+import hhammong.apilotto.repository.LottoHistoryRepository;
+import hhammong.apilotto.util.LottoMatchUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 번호별 회차 비트셋 인덱스 테스트
+ * bit-sliced 3비트 덧셈 결과를 회차마다 Long.bitCount 로 세는 단순 루프와 비교
+ */
+class DrawNumberIndexTest {
+
+    private static final int LATEST_DRAW_NO = 300;
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    private DrawHistoryStore store;
+    private DrawNumberIndex index;
+    private List<LottoHistory> draws;
+
+    @BeforeEach
+    void setUp() {
+        draws = new ArrayList<>();
+        for (int drawNo = 1; drawNo <= LATEST_DRAW_NO; drawNo++) {
+            // 빠진 회차도 섞어서 presentBits 확인
+            if (drawNo % 97 == 0) {
+                continue;
+            }
+            draws.add(draw(drawNo, randomMask(), 0));
+        }
+
+        store = new DrawHistoryStore(mock(LottoHistoryRepository.class));
+        draws.forEach(store::append);
+        index = new DrawNumberIndex(store);
+        index.build();
+    }
+
+    @Test
+    void 랜덤_티켓은_단순_루프와_같은_결과() {
+        for (int i = 0; i < 500; i++) {
+            // 절반은 실제 당첨번호에서 1~3개만 바꿔서 상위 등수도 나오게
+            long ticket = i % 2 == 0 ? randomMask() : nearMiss(draws.get(random.nextInt(draws.size())).toNumbersMask());
+            int fromDrawNo = random.nextInt(LATEST_DRAW_NO + 2);
+
+            assertThat(indexWins(ticket, fromDrawNo)).isEqualTo(naiveWins(ticket, fromDrawNo));
+        }
+    }
+
+    @Test
+    void 시작_회차가_워드_경계여도_정확히_자른다() {
+        for (int fromDrawNo : new int[]{0, 1, 63, 64, 65, 127, 128, 129}) {
+            for (int drawNo = 62; drawNo <= 130; drawNo++) {
+                if (drawNo % 97 == 0) {
+                    continue;
+                }
+                long ticket = drawAt(drawNo).toNumbersMask();
+                List<String> wins = indexWins(ticket, fromDrawNo);
+
+                assertThat(wins).isEqualTo(naiveWins(ticket, fromDrawNo));
+                assertThat(wins.contains(drawNo + ":6:1")).isEqualTo(drawNo >= fromDrawNo);
+            }
+        }
+    }
+
+    @Test
+    void 다섯개_일치에_보너스면_2등() {
+        LottoHistory draw = drawAt(64);
+        List<Integer> numbers = LottoMatchUtils.toList(draw.toNumbersMask());
+        long fiveMatched = draw.toNumbersMask() & ~LottoMatchUtils.bit(numbers.get(0));
+
+        long withBonus = fiveMatched | LottoMatchUtils.bit(draw.getBonusNumber());
+        long withoutBonus = fiveMatched | LottoMatchUtils.bit(otherThan(draw));
+
+        assertThat(indexWins(withBonus, 64)).contains("64:5:2");
+        assertThat(indexWins(withoutBonus, 64)).contains("64:5:3");
+        assertThat(indexWins(withBonus, 64)).isEqualTo(naiveWins(withBonus, 64));
+    }
+
+    @Test
+    void 새_회차를_추가하면_워드가_늘어나도_반영된다() {
+        LottoHistory added = draw(LATEST_DRAW_NO + 100, randomMask(), 0);
+        store.append(added);
+        index.add(added);
+        draws.add(added);
+
+        long ticket = added.toNumbersMask();
+        assertThat(indexWins(ticket, LATEST_DRAW_NO)).containsExactly((LATEST_DRAW_NO + 100) + ":6:1");
+        assertThat(indexWins(ticket, 1)).isEqualTo(naiveWins(ticket, 1));
+    }
+
+    @Test
+    void 같은_회차를_다시_추가하면_교체된다() {
+        LottoHistory original = drawAt(65);
+        LottoHistory replaced = draw(65, nearMiss(original.toNumbersMask()), 0);
+        store.append(replaced);
+        index.add(replaced);
+        draws.set(draws.indexOf(original), replaced);
+
+        assertThat(indexWins(replaced.toNumbersMask(), 65)).contains("65:6:1");
+        assertThat(indexWins(original.toNumbersMask(), 65)).doesNotContain("65:6:1");
+        assertThat(indexWins(original.toNumbersMask(), 1)).isEqualTo(naiveWins(original.toNumbersMask(), 1));
+    }
+
+    // "회차:일치개수:등수" 목록 (오름차순)
+    private List<String> indexWins(long ticket, int fromDrawNo) {
+        List<String> wins = new ArrayList<>();
+        int count = index.forEachWin(ticket, fromDrawNo, (drawNo, matchCount, hasBonus, rank) -> {
+            assertThat(hasBonus).isEqualTo(LottoMatchUtils.hasBonus(ticket, drawAt(drawNo).getBonusNumber()));
+            wins.add(drawNo + ":" + matchCount + ":" + rank);
+        });
+        assertThat(count).isEqualTo(wins.size());
+        return wins;
+    }
+
+    private List<String> naiveWins(long ticket, int fromDrawNo) {
+        List<String> wins = new ArrayList<>();
+        for (LottoHistory draw : draws.stream().sorted((a, b) -> a.getDrawNo() - b.getDrawNo()).toList()) {
+            if (draw.getDrawNo() < fromDrawNo) {
+                continue;
+            }
+            int matchCount = Long.bitCount(ticket & draw.toNumbersMask());
+            if (matchCount >= 3) {
+                boolean hasBonus = (ticket & LottoMatchUtils.bit(draw.getBonusNumber())) != 0;
+                wins.add(draw.getDrawNo() + ":" + matchCount + ":" + LottoMatchUtils.rankOf(matchCount, hasBonus));
+            }
+        }
+        return wins;
+    }
+
+    private LottoHistory drawAt(int drawNo) {
+        return draws.stream().filter(draw -> draw.getDrawNo() == drawNo).findFirst().orElseThrow();
+    }
+
+    private LottoHistory draw(int drawNo, long mask, int bonus) {
+        List<Integer> numbers = LottoMatchUtils.toList(mask);
+        if (bonus == 0) {
+            do {
+                bonus = 1 + random.nextInt(45);
+            } while ((mask & LottoMatchUtils.bit(bonus)) != 0);
+        }
+        return LottoHistory.builder()
+                .drawNo(drawNo)
+                .drawDate(LocalDate.of(2002, 12, 7).plusWeeks(drawNo - 1))
+                .number1(numbers.get(0).shortValue())
+                .number2(numbers.get(1).shortValue())
+                .number3(numbers.get(2).shortValue())
+                .number4(numbers.get(3).shortValue())
+                .number5(numbers.get(4).shortValue())
+                .number6(numbers.get(5).shortValue())
+                .bonusNumber((short) bonus)
+                .build();
+    }
+
+    private long randomMask() {
+        long mask = 0L;
+        while (Long.bitCount(mask) < 6) {
+            mask |= LottoMatchUtils.bit(1 + random.nextInt(45));
+        }
+        return mask;
+    }
+
+    // 1~3개 번호를 다른 번호로 교체
+    private long nearMiss(long mask) {
+        int changes = 1 + random.nextInt(3);
+        for (int i = 0; i < changes; i++) {
+            List<Integer> numbers = LottoMatchUtils.toList(mask);
+            int n;
+            do {
+                n = 1 + random.nextInt(45);
+            } while ((mask & LottoMatchUtils.bit(n)) != 0);
+            mask = (mask & ~LottoMatchUtils.bit(numbers.get(random.nextInt(6)))) | LottoMatchUtils.bit(n);
+        }
+        return mask;
+    }
+
+    private int otherThan(LottoHistory draw) {
+        long used = draw.toNumbersMask() | LottoMatchUtils.bit(draw.getBonusNumber());
+        int n = 1;
+        while ((used & LottoMatchUtils.bit(n)) != 0) {
+            n++;
+        }
+        return n;
+    }
+}
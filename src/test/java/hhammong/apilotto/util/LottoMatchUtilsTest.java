@@ -0,0 +1,151 @@
+package hhammong.apilotto.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비트마스크 매칭 엔진 테스트
+ * - 등수 테이블은 (일치 개수, 보너스) 14가지 전부 확인
+ * - List 기반 API 는 기존 HashSet 구현과 같은 결과인지 비교
+ */
+class LottoMatchUtilsTest {
+
+    @Test
+    void 일치_개수와_보너스_조합별_등수() {
+        for (int matchCount = 0; matchCount <= 6; matchCount++) {
+            for (boolean bonus : new boolean[]{false, true}) {
+                int expected = switch (matchCount) {
+                    case 6 -> 1;
+                    case 5 -> bonus ? 2 : 3;
+                    case 4 -> 4;
+                    case 3 -> 5;
+                    default -> 0;
+                };
+                assertThat(LottoMatchUtils.rankOf(matchCount, bonus)).isEqualTo(expected);
+
+                Integer rank = LottoMatchUtils.getRank(matchCount, bonus);
+                assertThat(rank == null ? 0 : rank).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void 다섯개_일치에_보너스면_2등() {
+        long draw = LottoMatchUtils.toMask(List.of(1, 2, 3, 4, 5, 6));
+        long ticket = LottoMatchUtils.toMask(List.of(1, 2, 3, 4, 5, 7));
+
+        LottoMatchUtils.MatchResult result = LottoMatchUtils.calculateMatch(ticket, draw, 7);
+
+        assertThat(result.getMatchCount()).isEqualTo(5);
+        assertThat(result.isHasBonus()).isTrue();
+        assertThat(result.getRank()).isEqualTo(2);
+        assertThat(LottoMatchUtils.rankOf(ticket, draw, 7)).isEqualTo(2);
+        assertThat(LottoMatchUtils.rankOf(ticket, draw, 8)).isEqualTo(3);
+    }
+
+    @Test
+    void 여섯개_일치는_보너스와_상관없이_1등() {
+        long draw = LottoMatchUtils.toMask(List.of(1, 2, 3, 4, 5, 6));
+
+        // 보너스는 당첨번호와 겹치지 않지만 테이블상으로도 6개 + 보너스는 1등
+        assertThat(LottoMatchUtils.rankOf(6, true)).isEqualTo(1);
+        assertThat(LottoMatchUtils.rankOf(draw, draw, 7)).isEqualTo(1);
+        assertThat(LottoMatchUtils.calculateMatch(draw, draw, 7).getRank()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_결과는_같은_인스턴스를_재사용() {
+        long draw = LottoMatchUtils.toMask(List.of(1, 2, 3, 4, 5, 6));
+        long ticket1 = LottoMatchUtils.toMask(List.of(1, 2, 3, 10, 11, 12));
+        long ticket2 = LottoMatchUtils.toMask(List.of(4, 5, 6, 20, 21, 22));
+
+        assertThat(LottoMatchUtils.calculateMatch(ticket1, draw, 45))
+                .isSameAs(LottoMatchUtils.calculateMatch(ticket2, draw, 45));
+    }
+
+    @Test
+    void 범위_밖_번호는_마스크에_포함되지_않는다() {
+        assertThat(LottoMatchUtils.bit(0)).isEqualTo(0L);
+        assertThat(LottoMatchUtils.bit(46)).isEqualTo(0L);
+        assertThat(LottoMatchUtils.toList(LottoMatchUtils.toMask(List.of(0, 1, 45, 46)))).containsExactly(1, 45);
+    }
+
+    @Test
+    void List_기반_API_는_기존_구현과_같다() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            List<Integer> draw = randomNumbers(random);
+            List<Integer> ticket = i % 4 == 0 ? nearMiss(draw, random) : randomNumbers(random);
+            int bonus = randomBonus(draw, random);
+
+            LottoMatchUtils.MatchResult actual = LottoMatchUtils.calculateMatch(ticket, draw, bonus);
+
+            int expectedCount = baselineCountMatches(ticket, draw);
+            boolean expectedBonus = ticket.contains(bonus);
+            assertThat(actual.getMatchCount()).isEqualTo(expectedCount);
+            assertThat(actual.isHasBonus()).isEqualTo(expectedBonus);
+            assertThat(actual.getRank()).isEqualTo(LottoMatchUtils.getRank(expectedCount, expectedBonus));
+
+            assertThat(LottoMatchUtils.countMatches(ticket, draw)).isEqualTo(expectedCount);
+            assertThat(LottoMatchUtils.getMatchedNumbers(ticket, draw)).isEqualTo(baselineMatchedNumbers(ticket, draw));
+            assertThat(LottoMatchUtils.hasBonusMatch(ticket, bonus)).isEqualTo(expectedBonus);
+        }
+    }
+
+    @Test
+    void 보너스_번호가_없으면_보너스_불일치() {
+        List<Integer> ticket = List.of(1, 2, 3, 4, 5, 7);
+
+        assertThat(LottoMatchUtils.hasBonusMatch(ticket, null)).isFalse();
+        assertThat(LottoMatchUtils.calculateMatch(ticket, List.of(1, 2, 3, 4, 5, 6), null).getRank()).isEqualTo(3);
+    }
+
+    // 기존 구현 (HashSet + stream)
+    private static int baselineCountMatches(List<Integer> myNumbers, List<Integer> winningNumbers) {
+        Set<Integer> winSet = new HashSet<>(winningNumbers);
+        return (int) myNumbers.stream().filter(winSet::contains).count();
+    }
+
+    private static List<Integer> baselineMatchedNumbers(List<Integer> myNumbers, List<Integer> winningNumbers) {
+        Set<Integer> winSet = new HashSet<>(winningNumbers);
+        return myNumbers.stream().filter(winSet::contains).sorted().toList();
+    }
+
+    private static List<Integer> randomNumbers(Random random) {
+        List<Integer> pool = new ArrayList<>();
+        for (int n = 1; n <= 45; n++) {
+            pool.add(n);
+        }
+        java.util.Collections.shuffle(pool, random);
+        return new ArrayList<>(pool.subList(0, 6));
+    }
+
+    // 당첨번호에서 1~3개만 바꿔서 상위 등수도 나오게
+    private static List<Integer> nearMiss(List<Integer> draw, Random random) {
+        List<Integer> ticket = new ArrayList<>(draw);
+        int changes = 1 + random.nextInt(3);
+        for (int i = 0; i < changes; i++) {
+            int n;
+            do {
+                n = 1 + random.nextInt(45);
+            } while (ticket.contains(n));
+            ticket.set(random.nextInt(6), n);
+        }
+        return ticket;
+    }
+
+    private static int randomBonus(List<Integer> draw, Random random) {
+        int bonus;
+        do {
+            bonus = 1 + random.nextInt(45);
+        } while (draw.contains(bonus));
+        return bonus;
+    }
+}
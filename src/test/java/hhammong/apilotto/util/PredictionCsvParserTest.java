@@ -0,0 +1,97 @@
+package hhammong.apilotto.util;
+
+import hhammong.apilotto.dto.UserPredictionCreateRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 번호 일괄 등록 CSV 파서 테스트
+ */
+class PredictionCsvParserTest {
+
+    @Test
+    void 첫_줄이_숫자로_시작하지_않으면_헤더로_건너뛴다() throws IOException {
+        List<UserPredictionCreateRequest> requests = parse("""
+                n1,n2,n3,n4,n5,n6,memo
+                1,2,3,4,5,6
+                """, 10);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getNumbers()).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(requests.get(0).getMemo()).isNull();
+    }
+
+    @Test
+    void 헤더가_없으면_첫_줄도_번호로_읽는다() throws IOException {
+        List<UserPredictionCreateRequest> requests = parse("""
+                1,2,3,4,5,6
+                7,8,9,10,11,12
+                """, 10);
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).getNumbers()).containsExactly(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void 빈_줄과_주석은_무시하고_헤더_판단에도_쓰지_않는다() throws IOException {
+        List<UserPredictionCreateRequest> requests = parse("""
+                # 이번 주 번호
+
+                numbers,memo
+                  # 들여쓴 주석
+                1, 2, 3, 4, 5, 6
+                """, 10);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getNumbers()).containsExactly(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void 메모에_쉼표가_있어도_일곱번째_칸부터_메모로_읽는다() throws IOException {
+        List<UserPredictionCreateRequest> requests = parse("""
+                1,2,3,4,5,6, 생일, 기념일 ,합
+                """, 10);
+
+        assertThat(requests.get(0).getNumbers()).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(requests.get(0).getMemo()).isEqualTo("생일, 기념일 ,합");
+    }
+
+    @Test
+    void 숫자가_아닌_번호는_null_로_두고_개수는_그대로() throws IOException {
+        List<UserPredictionCreateRequest> requests = parse("""
+                1,2,3,4,5,6
+                1,two,3,,5,6
+                1,2,3
+                """, 10);
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(1).getNumbers()).isEqualTo(Arrays.asList(1, null, 3, null, 5, 6));
+        assertThat(requests.get(2).getNumbers()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void 최대_행_수까지는_읽고_넘으면_예외() throws IOException {
+        String csv = """
+                n1,n2,n3,n4,n5,n6
+                # 주석은 행 수에 들어가지 않음
+                1,2,3,4,5,6
+                7,8,9,10,11,12
+                """;
+
+        assertThat(parse(csv, 2)).hasSize(2);
+        assertThatThrownBy(() -> parse(csv, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 1개");
+    }
+
+    private static List<UserPredictionCreateRequest> parse(String csv, int maxRows) throws IOException {
+        return PredictionCsvParser.parse(new StringReader(csv), maxRows);
+    }
+}
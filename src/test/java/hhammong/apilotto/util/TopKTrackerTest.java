@@ -0,0 +1,88 @@
+package hhammong.apilotto.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상위 K 추적 테스트
+ * - 카운트를 1씩 올릴 때마다 top() 이 전체 정렬(카운트 내림차순, 같으면 id 오름차순)의 앞 K 개와 같은지
+ * - 한 번도 오르지 않은 id 는 목록에 들어가지 않음
+ */
+class TopKTrackerTest {
+
+    private static final int IDS = 40;
+
+    private final SplittableRandom random = new SplittableRandom(24);
+
+    @Test
+    void 카운트가_같으면_id_가_작은_쪽이_앞선다() {
+        int[] counts = new int[IDS];
+        TopKTracker tracker = new TopKTracker(counts, 2);
+
+        increment(tracker, counts, 9);
+        increment(tracker, counts, 5);
+        increment(tracker, counts, 7);
+        assertThat(tracker.top()).containsExactly(5, 7);
+
+        increment(tracker, counts, 9);
+        assertThat(tracker.top()).containsExactly(9, 5);
+    }
+
+    @Test
+    void 랜덤으로_올릴_때마다_전체_정렬의_앞부분과_같다() {
+        for (int capacity : new int[]{0, 1, 2, 5, 17, IDS, IDS + 10}) {
+            for (int round = 0; round < 20; round++) {
+                int[] counts = new int[IDS];
+                TopKTracker tracker = new TopKTracker(counts, capacity);
+                assertThat(tracker.capacity()).isEqualTo(Math.min(capacity, IDS));
+
+                // 몇 개 id 에 몰아서 올려 동률이 자주 생기게 함
+                int hot = 1 + random.nextInt(IDS);
+                for (int step = 0; step < 400; step++) {
+                    int id = random.nextInt(4) == 0 ? random.nextInt(IDS) : random.nextInt(hot);
+                    increment(tracker, counts, id);
+                    assertThat(tracker.top()).containsExactly(expectedTop(counts, capacity));
+                }
+            }
+        }
+    }
+
+    @Test
+    void clear_후_다시_채우면_새_카운트_기준으로_유지된다() {
+        int[] counts = new int[IDS];
+        TopKTracker tracker = new TopKTracker(counts, 3);
+        for (int step = 0; step < 200; step++) {
+            increment(tracker, counts, random.nextInt(IDS));
+        }
+
+        Arrays.fill(counts, 0);
+        tracker.clear();
+        assertThat(tracker.top()).isEmpty();
+
+        for (int step = 0; step < 200; step++) {
+            increment(tracker, counts, random.nextInt(IDS / 2) + IDS / 2);
+            assertThat(tracker.top()).containsExactly(expectedTop(counts, 3));
+        }
+    }
+
+    private static void increment(TopKTracker tracker, int[] counts, int id) {
+        counts[id]++;
+        tracker.incremented(id);
+    }
+
+    // 카운트가 있는 id 전체를 정렬해서 앞 capacity 개
+    private static int[] expectedTop(int[] counts, int capacity) {
+        return IntStream.range(0, counts.length)
+                .filter(id -> counts[id] > 0)
+                .boxed()
+                .sorted((x, y) -> counts[x] != counts[y] ? Integer.compare(counts[y], counts[x]) : Integer.compare(x, y))
+                .limit(capacity)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,108 @@
+package hhammong.apilotto.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 당첨 회차 비트맵 테스트
+ * - 회차 비트맵 / 4비트 등수 배열의 바이트 배치
+ * - 순서와 상관없이 추가해도 같은 바이트, 저장된 바이트에서 그대로 복원
+ */
+class WinBitmapTest {
+
+    private final SplittableRandom random = new SplittableRandom(19);
+
+    @Test
+    void 회차는_비트_등수는_4비트씩_하위부터_채운다() {
+        WinBitmap bitmap = WinBitmap.empty()
+                .with(1, 3)
+                .with(2, 5)
+                .with(9, 1);
+
+        // bit n = n회차 (byte n / 8 의 bit n % 8)
+        assertThat(bitmap.drawBytes()).containsExactly((byte) 0b0000_0110, (byte) 0b0000_0010);
+        // 1회차 3등이 하위 4비트, 2회차 5등이 상위 4비트, 9회차 1등은 다음 바이트 하위
+        assertThat(bitmap.rankBytes()).containsExactly((byte) 0x53, (byte) 0x01);
+        assertThat(bitmap.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 순서와_상관없이_추가해도_회차순으로_정렬된다() {
+        WinBitmap inOrder = WinBitmap.empty().with(3, 4).with(7, 5).with(64, 2).with(1200, 1);
+        WinBitmap outOfOrder = WinBitmap.empty().with(1200, 1).with(7, 5).with(64, 2).with(3, 4);
+
+        assertThat(outOfOrder.drawBytes()).containsExactly(inOrder.drawBytes());
+        assertThat(outOfOrder.rankBytes()).containsExactly(inOrder.rankBytes());
+        assertThat(wins(outOfOrder)).containsExactly("3:4", "7:5", "64:2", "1200:1");
+        assertThat(outOfOrder.rankOf(64)).isEqualTo(2);
+        assertThat(outOfOrder.rankOf(65)).isEqualTo(0);
+    }
+
+    @Test
+    void 이미_있는_회차를_다시_추가하면_그대로다() {
+        WinBitmap bitmap = WinBitmap.empty().with(5, 4).with(10, 5);
+
+        WinBitmap again = bitmap.with(5, 1);
+
+        assertThat(again).isSameAs(bitmap);
+        assertThat(again.rankOf(5)).isEqualTo(4);
+        assertThat(again.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 랜덤_순서로_추가한_결과가_정렬된_맵과_같고_바이트에서_그대로_복원된다() {
+        for (int round = 0; round < 200; round++) {
+            TreeMap<Integer, Integer> expected = new TreeMap<>();
+            WinBitmap bitmap = WinBitmap.empty();
+            int wins = random.nextInt(40);
+            for (int i = 0; i < wins; i++) {
+                int drawNo = 1 + random.nextInt(1300);
+                int rank = 1 + random.nextInt(5);
+                expected.putIfAbsent(drawNo, rank);
+                bitmap = bitmap.with(drawNo, rank);
+            }
+
+            List<String> expectedWins = new ArrayList<>();
+            expected.forEach((drawNo, rank) -> expectedWins.add(drawNo + ":" + rank));
+            assertThat(wins(bitmap)).isEqualTo(expectedWins);
+            assertThat(bitmap.size()).isEqualTo(expected.size());
+            assertThat(bitmap.rankBytes().length).isEqualTo((expected.size() + 1) / 2);
+
+            WinBitmap restored = WinBitmap.of(bitmap.drawBytes(), bitmap.rankBytes());
+            assertThat(wins(restored)).isEqualTo(expectedWins);
+            assertThat(restored.drawBytes()).containsExactly(bitmap.drawBytes());
+            assertThat(restored.rankBytes()).containsExactly(bitmap.rankBytes());
+        }
+    }
+
+    @Test
+    void 저장된_바이트가_비었으면_빈_이력이고_길이가_맞지_않으면_예외() {
+        assertThat(WinBitmap.of(null, null).size()).isEqualTo(0);
+        assertThat(WinBitmap.of(new byte[0], new byte[0]).size()).isEqualTo(0);
+
+        // 당첨 3개면 등수 배열은 2바이트
+        assertThatThrownBy(() -> WinBitmap.of(new byte[]{0b0000_1110}, new byte[]{0x11}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 잘못된_회차나_등수는_예외() {
+        assertThatThrownBy(() -> WinBitmap.empty().with(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WinBitmap.empty().with(1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WinBitmap.empty().with(1, 6)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // "회차:등수" 목록 (회차 오름차순)
+    private static List<String> wins(WinBitmap bitmap) {
+        List<String> wins = new ArrayList<>();
+        bitmap.forEach((drawNo, rank) -> wins.add(drawNo + ":" + rank));
+        return wins;
+    }
+}
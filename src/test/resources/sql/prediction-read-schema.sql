@@ -0,0 +1,66 @@
+-- UserPredictionRepositoryTest 용 H2 스키마 (운영 스키마 중 예측번호 목록 조회에 필요한 테이블만)
+
+CREATE TABLE IF NOT EXISTS USERS (
+    USER_ID              UUID PRIMARY KEY,
+    USER_UID             VARCHAR(50)  NOT NULL UNIQUE,
+    NAME                 VARCHAR(50)  NOT NULL,
+    PASSWORD             VARCHAR(255) NOT NULL,
+    NICKNAME             VARCHAR(50),
+    LAST_LOGIN_AT        TIMESTAMP,
+    NOTIFICATION_ENABLED BOOLEAN,
+    CREATED_AT           TIMESTAMP    NOT NULL,
+    UPDATED_AT           TIMESTAMP    NOT NULL,
+    DELETE_YN            VARCHAR(1)   DEFAULT 'N',
+    USE_YN               VARCHAR(1)   DEFAULT 'Y'
+);
+
+CREATE TABLE IF NOT EXISTS USER_PREDICTIONS (
+    PREDICTION_ID     UUID PRIMARY KEY,
+    USER_ID           UUID         NOT NULL REFERENCES USERS (USER_ID),
+    TARGET_DRAW_NO    INTEGER,
+    PREDICTED_NUM1    SMALLINT     NOT NULL,
+    PREDICTED_NUM2    SMALLINT     NOT NULL,
+    PREDICTED_NUM3    SMALLINT     NOT NULL,
+    PREDICTED_NUM4    SMALLINT     NOT NULL,
+    PREDICTED_NUM5    SMALLINT     NOT NULL,
+    PREDICTED_NUM6    SMALLINT     NOT NULL,
+    PREDICTED_NUMBERS VARCHAR(255) NOT NULL,
+    NUMBERS_MASK      BIGINT       NOT NULL,
+    CREATED_AT        TIMESTAMP    NOT NULL,
+    UPDATED_AT        TIMESTAMP    NOT NULL,
+    DELETE_YN         VARCHAR(1)   DEFAULT 'N',
+    USE_YN            VARCHAR(1)   DEFAULT 'Y',
+    MEMO              VARCHAR(200),
+    START_DRAW_ID     INTEGER
+);
+
+CREATE TABLE IF NOT EXISTS USER_PREDICTION_HISTORICAL_STATS (
+    PREDICTION_ID      UUID PRIMARY KEY REFERENCES USER_PREDICTIONS (PREDICTION_ID),
+    TOTAL_DRAWS        INTEGER,
+    WINNING_DRAWS      INTEGER,
+    TOTAL_PRIZE_AMOUNT BIGINT,
+    BEST_RANK          INTEGER,
+    BEST_DRAW_NO       INTEGER,
+    RETURN_RATE        DOUBLE PRECISION,
+    RANK_1_COUNT       INTEGER,
+    RANK_2_COUNT       INTEGER,
+    RANK_3_COUNT       INTEGER,
+    RANK_4_COUNT       INTEGER,
+    RANK_5_COUNT       INTEGER
+);
+
+CREATE TABLE IF NOT EXISTS USER_PREDICTION_TRACKING_STATS (
+    PREDICTION_ID        UUID PRIMARY KEY REFERENCES USER_PREDICTIONS (PREDICTION_ID),
+    TOTAL_DRAWS          INTEGER,
+    WINNING_DRAWS        INTEGER,
+    TOTAL_PRIZE_AMOUNT   BIGINT,
+    BEST_RANK            INTEGER,
+    BEST_DRAW_NO         INTEGER,
+    RETURN_RATE          DOUBLE PRECISION,
+    RANK_1_COUNT         INTEGER,
+    RANK_2_COUNT         INTEGER,
+    RANK_3_COUNT         INTEGER,
+    RANK_4_COUNT         INTEGER,
+    RANK_5_COUNT         INTEGER,
+    LAST_SETTLED_DRAW_NO INTEGER
+);
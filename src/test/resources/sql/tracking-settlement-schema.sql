@@ -0,0 +1,117 @@
+-- UserPredictionTrackingStatsRepositoryTest / PredictionWinHistoryMigrationServiceTest 용 Postgres 스키마
+-- (운영 스키마 중 회차 정산, 당첨 비트맵 이관에 필요한 테이블만)
+-- 엔티티의 @ColumnDefault("N") 는 Hibernate DDL 로 만들면 DEFAULT N 이 되어 Postgres 에서 실패하므로 직접 생성
+-- backtick 으로 매핑된 컬럼은 운영과 같이 따옴표 대문자, 나머지는 따옴표 없이 생성
+
+CREATE TABLE IF NOT EXISTS USERS (
+    USER_ID              UUID PRIMARY KEY,
+    USER_UID             VARCHAR(50)  NOT NULL UNIQUE,
+    NAME                 VARCHAR(50)  NOT NULL,
+    PASSWORD             VARCHAR(255) NOT NULL,
+    NICKNAME             VARCHAR(50),
+    LAST_LOGIN_AT        TIMESTAMP,
+    NOTIFICATION_ENABLED BOOLEAN,
+    CREATED_AT           TIMESTAMP    NOT NULL,
+    UPDATED_AT           TIMESTAMP    NOT NULL,
+    DELETE_YN            VARCHAR(1)   DEFAULT 'N',
+    USE_YN               VARCHAR(1)   DEFAULT 'Y'
+);
+
+CREATE TABLE IF NOT EXISTS USER_PREDICTIONS (
+    PREDICTION_ID     UUID PRIMARY KEY,
+    USER_ID           UUID         NOT NULL REFERENCES USERS (USER_ID),
+    TARGET_DRAW_NO    INTEGER,
+    PREDICTED_NUM1    SMALLINT     NOT NULL,
+    PREDICTED_NUM2    SMALLINT     NOT NULL,
+    PREDICTED_NUM3    SMALLINT     NOT NULL,
+    PREDICTED_NUM4    SMALLINT     NOT NULL,
+    PREDICTED_NUM5    SMALLINT     NOT NULL,
+    PREDICTED_NUM6    SMALLINT     NOT NULL,
+    PREDICTED_NUMBERS VARCHAR(255) NOT NULL,
+    NUMBERS_MASK      BIGINT       NOT NULL,
+    CREATED_AT        TIMESTAMP    NOT NULL,
+    UPDATED_AT        TIMESTAMP    NOT NULL,
+    DELETE_YN         VARCHAR(1)   DEFAULT 'N',
+    USE_YN            VARCHAR(1)   DEFAULT 'Y',
+    MEMO              VARCHAR(200),
+    START_DRAW_ID     INTEGER
+);
+
+CREATE TABLE IF NOT EXISTS "LOTTO_HISTORY" (
+    "HISTORY_ID"   UUID PRIMARY KEY,
+    "DRAW_NO"      INTEGER      NOT NULL UNIQUE,
+    "DRAW_DATE"    DATE         NOT NULL,
+    "NUMBER1"      SMALLINT     NOT NULL,
+    "NUMBER2"      SMALLINT     NOT NULL,
+    "NUMBER3"      SMALLINT     NOT NULL,
+    "NUMBER4"      SMALLINT     NOT NULL,
+    "NUMBER5"      SMALLINT     NOT NULL,
+    "NUMBER6"      SMALLINT     NOT NULL,
+    "BONUS_NUMBER" SMALLINT     NOT NULL,
+    "NUMBERS"      VARCHAR(255),
+    "PRIZE_1ST"    BIGINT,
+    "PRIZE_2ND"    BIGINT,
+    "PRIZE_3RD"    BIGINT,
+    "PRIZE_4TH"    INTEGER,
+    "PRIZE_5TH"    INTEGER,
+    "CREATED_AT"   TIMESTAMP    NOT NULL,
+    "UPDATED_AT"   TIMESTAMP    NOT NULL,
+    DELETE_YN      VARCHAR(1)   DEFAULT 'N',
+    USE_YN         VARCHAR(1)   DEFAULT 'Y'
+);
+
+CREATE TABLE IF NOT EXISTS "PREDICTIONS_HISTORY" (
+    "PREDICTIONS_HISTORY_ID" UUID PRIMARY KEY,
+    "PREDICTION_ID"          UUID         NOT NULL,
+    "HISTORY_ID"             UUID         NOT NULL,
+    "USER_ID"                UUID         NOT NULL,
+    "DRAW_NO"                INTEGER      NOT NULL,
+    "RANK"                   INTEGER      NOT NULL,
+    "HAS_BONUS"              BOOLEAN      DEFAULT FALSE,
+    "MATCHED_COUNT"          SMALLINT     NOT NULL,
+    "PRIZE_AMOUNT"           INTEGER      DEFAULT 0,
+    "START_DRAW_SORTATION"   VARCHAR(255),
+    "CREATED_AT"             TIMESTAMP    NOT NULL,
+    CONSTRAINT "UK_PREDICTIONS_HISTORY_PREDICTION_DRAW" UNIQUE ("PREDICTION_ID", "DRAW_NO")
+);
+
+CREATE TABLE IF NOT EXISTS USER_PREDICTION_HISTORICAL_STATS (
+    PREDICTION_ID      UUID PRIMARY KEY REFERENCES USER_PREDICTIONS (PREDICTION_ID),
+    TOTAL_DRAWS        INTEGER,
+    WINNING_DRAWS      INTEGER,
+    TOTAL_PRIZE_AMOUNT BIGINT,
+    BEST_RANK          INTEGER,
+    BEST_DRAW_NO       INTEGER,
+    RETURN_RATE        DOUBLE PRECISION,
+    RANK_1_COUNT       INTEGER,
+    RANK_2_COUNT       INTEGER,
+    RANK_3_COUNT       INTEGER,
+    RANK_4_COUNT       INTEGER,
+    RANK_5_COUNT       INTEGER
+);
+
+CREATE TABLE IF NOT EXISTS USER_PREDICTION_TRACKING_STATS (
+    PREDICTION_ID        UUID PRIMARY KEY REFERENCES USER_PREDICTIONS (PREDICTION_ID),
+    TOTAL_DRAWS          INTEGER,
+    WINNING_DRAWS        INTEGER,
+    TOTAL_PRIZE_AMOUNT   BIGINT,
+    BEST_RANK            INTEGER,
+    BEST_DRAW_NO         INTEGER,
+    RETURN_RATE          DOUBLE PRECISION,
+    RANK_1_COUNT         INTEGER,
+    RANK_2_COUNT         INTEGER,
+    RANK_3_COUNT         INTEGER,
+    RANK_4_COUNT         INTEGER,
+    RANK_5_COUNT         INTEGER,
+    LAST_SETTLED_DRAW_NO INTEGER
+);
+
+CREATE TABLE IF NOT EXISTS PREDICTION_WIN_HISTORY (
+    PREDICTION_ID UUID PRIMARY KEY,
+    USER_ID       UUID        NOT NULL,
+    WIN_DRAWS     BYTEA       NOT NULL,
+    WIN_RANKS     BYTEA       NOT NULL,
+    WIN_COUNT     INTEGER     NOT NULL,
+    COMPLETE_YN   VARCHAR(1)  DEFAULT 'Y',
+    UPDATED_AT    TIMESTAMP   NOT NULL
+);